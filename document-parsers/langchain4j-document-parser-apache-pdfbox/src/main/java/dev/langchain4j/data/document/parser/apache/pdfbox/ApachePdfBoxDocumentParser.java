@@ -11,22 +11,63 @@ import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
- * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * Parses PDF file into a {@link Document} using Apache PDFBox library.
+ * <p>
+ * Large PDF files can also be parsed page by page, see {@link #parsePages(Path)}.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * The metadata key of the first page (1-based) of a document returned by {@link #parsePages(Path)}.
+     */
+    public static final String START_PAGE = "start_page";
+    /**
+     * The metadata key of the last page (1-based, inclusive) of a document returned by {@link #parsePages(Path)}.
+     */
+    public static final String END_PAGE = "end_page";
+    /**
+     * The metadata key of the number of pages of the PDF file, in the documents returned by {@link #parsePages(Path)}.
+     */
+    public static final String TOTAL_PAGES = "total_pages";
+
+    static final int DEFAULT_MAX_PAGE_WINDOWS_IN_FLIGHT = Runtime.getRuntime().availableProcessors();
+
     private final boolean includeMetadata;
+    private final int pagesPerDocument;
+    private final Executor executor;
+    private final int maxPageWindowsInFlight;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(builder().includeMetadata(includeMetadata));
+    }
+
+    public ApachePdfBoxDocumentParser(Builder builder) {
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.pagesPerDocument = ensureGreaterThanZero(getOrDefault(builder.pagesPerDocument, 1), "pagesPerDocument");
+        this.executor = builder.executor;
+        this.maxPageWindowsInFlight = ensureGreaterThanZero(
+                getOrDefault(builder.maxPageWindowsInFlight, DEFAULT_MAX_PAGE_WINDOWS_IN_FLIGHT),
+                "maxPageWindowsInFlight");
     }
 
     @Override
@@ -45,6 +86,71 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Lazily parses the given PDF file into one {@link Document} per page,
+     * or per window of {@link Builder#pagesPerDocument(Integer)} pages, in page order.
+     * Each document has the {@link #START_PAGE}, {@link #END_PAGE} and {@link #TOTAL_PAGES} metadata,
+     * in addition to the metadata of the PDF file when {@link Builder#includeMetadata(Boolean)} is set.
+     * Pages without text are skipped.
+     * <p>
+     * Unlike {@link #parse(InputStream)}, the file is read on demand and never loaded in memory as a whole,
+     * and only the text of the pages being extracted (or extracted but not yet consumed) is kept in memory.
+     * When an {@link Builder#executor(Executor)} is set, the pages are extracted in parallel.
+     * <p>
+     * The returned stream must be closed (e.g. with try-with-resources) to release the file.
+     *
+     * @param pdfFile the PDF file to parse
+     * @return the stream of documents
+     */
+    public Stream<Document> parsePages(Path pdfFile) {
+        ensureNotNull(pdfFile, "pdfFile");
+        PdfPageDocumentIterator iterator = new PdfPageDocumentIterator(
+                pdfFile,
+                pagesPerDocument,
+                executor,
+                maxPageWindowsInFlight,
+                includeMetadata ? this::toMetadata : null);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Same as {@link #parsePages(Path)}, for a PDF that is not a file.
+     * The input stream is first copied to a temporary file, which is deleted when the returned stream is closed.
+     *
+     * @param inputStream the PDF to parse
+     * @return the stream of documents
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        ensureNotNull(inputStream, "inputStream");
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+            Files.copy(inputStream, tempFile, REPLACE_EXISTING);
+            Path pdfFile = tempFile;
+            return parsePages(pdfFile).onClose(() -> deleteQuietly(pdfFile));
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // it is a temporary file anyway
+        }
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -54,4 +160,63 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Boolean includeMetadata;
+        private Integer pagesPerDocument;
+        private Executor executor;
+        private Integer maxPageWindowsInFlight;
+
+        /**
+         * @param includeMetadata Whether to include the metadata of the PDF file (author, creation date, etc.)
+         *                        in the parsed documents. Default: false.
+         * @return builder
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param pagesPerDocument The number of consecutive pages in each document returned by
+         *                         {@link ApachePdfBoxDocumentParser#parsePages(Path)}. Default: 1.
+         * @return builder
+         */
+        public Builder pagesPerDocument(Integer pagesPerDocument) {
+            this.pagesPerDocument = pagesPerDocument;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which the pages are extracted, in parallel,
+         *                 by {@link ApachePdfBoxDocumentParser#parsePages(Path)}.
+         *                 By default, they are extracted one by one, by the thread consuming the documents.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxPageWindowsInFlight The maximum number of page windows being extracted (or already extracted,
+         *                               but not yet consumed) at the same time, when an {@link #executor(Executor)}
+         *                               is set. Each one holds its own handle on the PDF file.
+         *                               Default: the number of available processors.
+         * @return builder
+         */
+        public Builder maxPageWindowsInFlight(Integer maxPageWindowsInFlight) {
+            this.maxPageWindowsInFlight = maxPageWindowsInFlight;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(this);
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package dev.langchain4j.data.document.parser.apache.pdfbox;
+
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.END_PAGE;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.START_PAGE;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.TOTAL_PAGES;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.Metadata;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * Lazily extracts the text of a PDF file, one {@link Document} per window of {@code pagesPerDocument} pages,
+ * in page order. Windows without text are skipped.
+ * <p>
+ * The file is read through a {@link RandomAccessReadBufferedFile}, so it is never loaded in memory as a whole.
+ * Without an executor, the windows are extracted one by one, by the consuming thread.
+ * With an executor, up to {@code maxWindowsInFlight} windows are extracted ahead, in parallel.
+ * As a {@link PDDocument} is not thread-safe, each parallel extraction uses its own {@code PDDocument},
+ * borrowed from a pool of at most {@code maxWindowsInFlight} documents opened on the same file.
+ */
+class PdfPageDocumentIterator implements Iterator<Document>, AutoCloseable {
+
+    private final Path pdfFile;
+    private final int pagesPerDocument;
+    private final Executor executor;
+    private final int maxWindowsInFlight;
+
+    private final Deque<PDDocument> idleDocuments = new ArrayDeque<>();
+    private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+    private boolean closed;
+
+    private final int totalPages;
+    private final Metadata documentMetadata;
+    private int nextStartPage = 1;
+    private Document next;
+
+    PdfPageDocumentIterator(
+            Path pdfFile,
+            int pagesPerDocument,
+            Executor executor,
+            int maxWindowsInFlight,
+            Function<PDDocument, Metadata> metadataExtractor) {
+        this.pdfFile = pdfFile;
+        this.pagesPerDocument = pagesPerDocument;
+        this.executor = executor;
+        this.maxWindowsInFlight = maxWindowsInFlight;
+
+        PDDocument pdfDocument = borrow();
+        try {
+            this.totalPages = pdfDocument.getNumberOfPages();
+            this.documentMetadata = metadataExtractor != null ? metadataExtractor.apply(pdfDocument) : new Metadata();
+        } catch (RuntimeException | Error e) {
+            // the caller never gets the iterator, so it cannot close it
+            closeQuietly(pdfDocument);
+            close();
+            throw e;
+        }
+        release(pdfDocument);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (executor == null) {
+                if (nextStartPage > totalPages) {
+                    return false;
+                }
+                next = extract(nextWindowStart());
+            } else {
+                while (inFlight.size() < maxWindowsInFlight && nextStartPage <= totalPages) {
+                    int startPage = nextWindowStart();
+                    inFlight.add(supplyAsync(() -> extract(startPage), executor));
+                }
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                next = join(inFlight.poll());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Document next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Document document = next;
+        next = null;
+        return document;
+    }
+
+    /**
+     * Cancels the extractions that are not started yet and closes the PDF documents.
+     * The documents still used by extractions in progress are closed as soon as they are done.
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(future -> future.cancel(false));
+        inFlight.clear();
+        synchronized (idleDocuments) {
+            closed = true;
+            idleDocuments.forEach(PdfPageDocumentIterator::closeQuietly);
+            idleDocuments.clear();
+        }
+    }
+
+    private int nextWindowStart() {
+        int startPage = nextStartPage;
+        nextStartPage += pagesPerDocument;
+        return startPage;
+    }
+
+    private Document extract(int startPage) {
+        int endPage = Math.min(startPage + pagesPerDocument - 1, totalPages);
+        PDDocument pdfDocument = borrow();
+        try {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            String text = stripper.getText(pdfDocument);
+            if (isNullOrBlank(text)) {
+                return null;
+            }
+            Metadata metadata = documentMetadata.copy()
+                    .put(START_PAGE, startPage)
+                    .put(END_PAGE, endPage)
+                    .put(TOTAL_PAGES, totalPages);
+            return Document.from(text, metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(pdfDocument);
+        }
+    }
+
+    private PDDocument borrow() {
+        synchronized (idleDocuments) {
+            if (closed) {
+                throw new CancellationException();
+            }
+            PDDocument pdfDocument = idleDocuments.poll();
+            if (pdfDocument != null) {
+                return pdfDocument;
+            }
+        }
+        try {
+            return Loader.loadPDF(new RandomAccessReadBufferedFile(pdfFile.toFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(PDDocument pdfDocument) {
+        synchronized (idleDocuments) {
+            if (closed) {
+                closeQuietly(pdfDocument);
+            } else {
+                idleDocuments.add(pdfDocument);
+            }
+        }
+    }
+
+    private static void closeQuietly(PDDocument pdfDocument) {
+        try {
+            pdfDocument.close();
+        } catch (IOException ignored) {
+            // the document was only read
+        }
+    }
+
+    private static Document join(CompletableFuture<Document> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
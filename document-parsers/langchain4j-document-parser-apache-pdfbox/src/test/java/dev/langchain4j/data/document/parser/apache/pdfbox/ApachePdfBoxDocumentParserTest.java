@@ -3,11 +3,28 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.END_PAGE;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.START_PAGE;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.TOTAL_PAGES;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -53,4 +70,216 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pdf_file_page_by_page(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = copyResource("test-file.pdf", tempDir);
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+        try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+            List<Document> pages = documents.toList();
+
+            assertThat(pages).hasSize(1);
+            assertThat(pages.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(pages.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.START_PAGE)).isEqualTo(1);
+            assertThat(pages.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.END_PAGE)).isEqualTo(1);
+            assertThat(pages.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.TOTAL_PAGES)).isEqualTo(1);
+            assertThat(pages.get(0).metadata().containsKey("Author")).isFalse();
+        }
+    }
+
+    @Test
+    void should_parse_pdf_file_page_by_page_in_parallel_include_metadata() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                    .includeMetadata(true)
+                    .pagesPerDocument(2)
+                    .executor(executor)
+                    .build();
+
+            try (Stream<Document> documents = parser.parsePages(inputStream)) {
+                List<Document> pages = documents.toList();
+
+                assertThat(pages).hasSize(1);
+                assertThat(pages.get(0).text()).isEqualToIgnoringWhitespace("test content");
+                assertThat(pages.get(0).metadata().toMap())
+                        .containsEntry("Author", "ljuba")
+                        .containsEntry(ApachePdfBoxDocumentParser.START_PAGE, 1)
+                        .containsEntry(ApachePdfBoxDocumentParser.END_PAGE, 1)
+                        .containsEntry(ApachePdfBoxDocumentParser.TOTAL_PAGES, 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = copyResource("blank-file.pdf", tempDir);
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+        try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+            assertThat(documents).isEmpty();
+        }
+    }
+
+    @Test
+    void should_parse_multi_page_pdf_file_page_by_page(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = createPdf(
+                tempDir.resolve("pages.pdf"), "page 1", "page 2", "", "", "page 5", "page 6", "page 7");
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+        try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+            List<Document> pages = documents.toList();
+
+            assertThat(pages).hasSize(5);
+            assertPages(pages.get(0), "page 1", 1, 1);
+            assertPages(pages.get(1), "page 2", 2, 2);
+            assertPages(pages.get(2), "page 5", 5, 5);
+            assertPages(pages.get(3), "page 6", 6, 6);
+            assertPages(pages.get(4), "page 7", 7, 7);
+        }
+    }
+
+    @Test
+    void should_parse_multi_page_pdf_file_in_windows_of_pages(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = createPdf(
+                tempDir.resolve("pages.pdf"), "page 1", "page 2", "", "", "page 5", "page 6", "page 7");
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .pagesPerDocument(2)
+                .build();
+
+        try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+            List<Document> windows = documents.toList();
+
+            // pages 3-4 are blank, and the last window only has page 7
+            assertThat(windows).hasSize(3);
+            assertPages(windows.get(0), "page 1 page 2", 1, 2);
+            assertPages(windows.get(1), "page 5 page 6", 5, 6);
+            assertPages(windows.get(2), "page 7", 7, 7);
+        }
+    }
+
+    @Test
+    void should_parse_multi_page_pdf_file_in_windows_of_pages_in_parallel(@TempDir Path tempDir)
+            throws IOException {
+        Path pdfFile = createPdf(
+                tempDir.resolve("pages.pdf"), "page 1", "page 2", "", "", "page 5", "page 6", "page 7");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                    .includeMetadata(true)
+                    .pagesPerDocument(2)
+                    .executor(executor)
+                    .maxPageWindowsInFlight(2)
+                    .build();
+
+            try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+                List<Document> windows = documents.toList();
+
+                assertThat(windows).hasSize(3);
+                assertPages(windows.get(0), "page 1 page 2", 1, 2);
+                assertPages(windows.get(1), "page 5 page 6", 5, 6);
+                assertPages(windows.get(2), "page 7", 7, 7);
+                assertThat(windows).allSatisfy(window ->
+                        assertThat(window.metadata().getString("Author")).isEqualTo("langchain4j"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_parse_multi_page_pdf_file_page_by_page_in_parallel(@TempDir Path tempDir) throws IOException {
+        String[] pageTexts = new String[20];
+        for (int i = 0; i < pageTexts.length; i++) {
+            pageTexts[i] = i == 9 ? "" : "page " + (i + 1);
+        }
+        Path pdfFile = createPdf(tempDir.resolve("pages.pdf"), pageTexts);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                    .executor(executor)
+                    .build();
+
+            try (Stream<Document> documents = parser.parsePages(pdfFile)) {
+                List<Document> pages = documents.toList();
+
+                // page 10 is blank
+                assertThat(pages).hasSize(19);
+                assertThat(pages)
+                        .extracting(page -> page.metadata().getInteger(START_PAGE))
+                        .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+                for (Document page : pages) {
+                    int pageNumber = page.metadata().getInteger(START_PAGE);
+                    assertPages(page, "page " + pageNumber, pageNumber, pageNumber, 20);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_close_pdf_file_when_metadata_extraction_fails(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = createPdf(tempDir.resolve("pages.pdf"), "page 1");
+        List<PDDocument> openedDocuments = new ArrayList<>();
+
+        assertThatThrownBy(() -> new PdfPageDocumentIterator(pdfFile, 1, null, 1, pdfDocument -> {
+                    openedDocuments.add(pdfDocument);
+                    throw new IllegalStateException("broken metadata");
+                }))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("broken metadata");
+
+        assertThat(openedDocuments).hasSize(1);
+        assertThat(openedDocuments.get(0).getDocument().isClosed()).isTrue();
+    }
+
+    private static void assertPages(Document document, String text, int startPage, int endPage) {
+        assertPages(document, text, startPage, endPage, 7);
+    }
+
+    private static void assertPages(Document document, String text, int startPage, int endPage, int totalPages) {
+        assertThat(document.text()).isEqualToNormalizingWhitespace(text);
+        assertThat(document.metadata().toMap()).containsAllEntriesOf(Map.of(
+                START_PAGE, startPage,
+                END_PAGE, endPage,
+                TOTAL_PAGES, totalPages));
+    }
+
+    /**
+     * Creates a PDF file with one page per given text. Pages with an empty text are left blank.
+     */
+    private static Path createPdf(Path file, String... pageTexts) throws IOException {
+        try (PDDocument pdfDocument = new PDDocument()) {
+            pdfDocument.getDocumentInformation().setAuthor("langchain4j");
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (String pageText : pageTexts) {
+                PDPage page = new PDPage();
+                pdfDocument.addPage(page);
+                if (pageText.isEmpty()) {
+                    continue;
+                }
+                try (PDPageContentStream contentStream = new PDPageContentStream(pdfDocument, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(font, 12);
+                    contentStream.newLineAtOffset(72, 700);
+                    contentStream.showText(pageText);
+                    contentStream.endText();
+                }
+            }
+            pdfDocument.save(file.toFile());
+        }
+        return file;
+    }
+
+    private Path copyResource(String name, Path directory) throws IOException {
+        Path file = directory.resolve(name);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(name)) {
+            Files.copy(inputStream, file);
+        }
+        return file;
+    }
+}
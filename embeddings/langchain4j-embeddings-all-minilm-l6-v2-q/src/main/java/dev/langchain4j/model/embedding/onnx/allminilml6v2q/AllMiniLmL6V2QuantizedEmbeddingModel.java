@@ -35,7 +35,7 @@ public class AllMiniLmL6V2QuantizedEmbeddingModel extends AbstractInProcessEmbed
      * Threads are cached for 1 second.
      */
     public AllMiniLmL6V2QuantizedEmbeddingModel() {
-        super(null);
+        super(null, 1, null);
     }
 
     /**
@@ -44,7 +44,7 @@ public class AllMiniLmL6V2QuantizedEmbeddingModel extends AbstractInProcessEmbed
      * @param executor The executor to use to parallelize the embedding process.
      */
     public AllMiniLmL6V2QuantizedEmbeddingModel(Executor executor) {
-        super(ensureNotNull(executor, "executor"));
+        super(ensureNotNull(executor, "executor"), 1, null);
     }
 
     @Override
@@ -4,6 +4,7 @@ import static dev.langchain4j.internal.Utils.repeat;
 import static dev.langchain4j.model.embedding.onnx.internal.VectorUtils.magnitudeOf;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.data.Percentage.withPercentage;
 
 import dev.langchain4j.data.embedding.Embedding;
@@ -56,6 +57,27 @@ class AllMiniLmL6V2EmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_embed_segments_of_mixed_lengths_as_when_embedding_them_one_by_one() {
+
+        EmbeddingModel model = new AllMiniLmL6V2EmbeddingModel();
+        List<TextSegment> segments = asList(
+                TextSegment.from("The quick brown fox jumps over the lazy dog."),
+                TextSegment.from("hi"),
+                TextSegment.from(repeat("hello ", 600)),
+                TextSegment.from("Embedding models map texts to vectors."),
+                TextSegment.from(repeat("lorem ipsum ", 50)),
+                TextSegment.from("ok"));
+
+        List<Embedding> embeddings = model.embedAll(segments).content();
+
+        assertThat(embeddings).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            float[] expected = model.embed(segments.get(i)).content().vector();
+            assertThat(embeddings.get(i).vector()).containsExactly(expected, within(1e-5f));
+        }
+    }
+
     @Test
     void embedding_should_have_the_same_values_as_embedding_produced_by_sentence_transformers_python_lib() {
 
@@ -35,7 +35,7 @@ public class BgeSmallEnQuantizedEmbeddingModel extends AbstractInProcessEmbeddin
      * Threads are cached for 1 second.
      */
     public BgeSmallEnQuantizedEmbeddingModel() {
-        super(null);
+        super(null, 1, null);
     }
 
     /**
@@ -44,7 +44,7 @@ public class BgeSmallEnQuantizedEmbeddingModel extends AbstractInProcessEmbeddin
      * @param executor The executor to use to parallelize the embedding process.
      */
     public BgeSmallEnQuantizedEmbeddingModel(Executor executor) {
-        super(ensureNotNull(executor, "executor"));
+        super(ensureNotNull(executor, "executor"), 1, null);
     }
 
     @Override
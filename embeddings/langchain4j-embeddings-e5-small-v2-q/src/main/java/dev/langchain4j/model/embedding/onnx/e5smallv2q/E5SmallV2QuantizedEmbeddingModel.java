@@ -35,7 +35,7 @@ public class E5SmallV2QuantizedEmbeddingModel extends AbstractInProcessEmbedding
      * Threads are cached for 1 second.
      */
     public E5SmallV2QuantizedEmbeddingModel() {
-        super(null);
+        super(null, 1, null);
     }
 
     /**
@@ -44,7 +44,7 @@ public class E5SmallV2QuantizedEmbeddingModel extends AbstractInProcessEmbedding
      * @param executor The executor to use to parallelize the embedding process.
      */
     public E5SmallV2QuantizedEmbeddingModel(Executor executor) {
-        super(ensureNotNull(executor, "executor"));
+        super(ensureNotNull(executor, "executor"), 1, null);
     }
 
     @Override
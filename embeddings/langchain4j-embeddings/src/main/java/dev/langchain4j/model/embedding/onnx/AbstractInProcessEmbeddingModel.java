@@ -1,9 +1,12 @@
 package dev.langchain4j.model.embedding.onnx;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 
@@ -18,13 +21,42 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.stream.IntStream;
 
 public abstract class AbstractInProcessEmbeddingModel extends DimensionAwareEmbeddingModel {
 
+    static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
     private final Executor executor;
+    private final int maxBatchSize;
+    private final RequestCoalescer coalescer;
 
     protected AbstractInProcessEmbeddingModel(Executor executor) {
+        this(executor, null, null);
+    }
+
+    /**
+     * @param executor         The executor to use to parallelize the embedding process.
+     *                         By default, a cached thread pool with as many threads as available processors is used.
+     * @param maxBatchSize     The maximum number of sequences embedded by a single ONNX inference.
+     *                         Sequences are padded to the length of the longest one in their batch,
+     *                         so segments are batched with segments of similar length. Default: 32.
+     *                         Dynamically quantized models compute the quantization range of their activations
+     *                         over the whole batch, so their embeddings depend on the other sequences of the batch:
+     *                         use 1 to get the same embeddings as when embedding segments one by one.
+     * @param coalesceRequests Whether concurrent single-segment embedding requests (e.g., from many threads)
+     *                         should be merged into shared batches. Default: false.
+     */
+    protected AbstractInProcessEmbeddingModel(Executor executor, Integer maxBatchSize, Boolean coalesceRequests) {
         this.executor = getOrDefault(executor, this::createDefaultExecutor);
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(maxBatchSize, DEFAULT_MAX_BATCH_SIZE), "maxBatchSize");
+        this.coalescer = getOrDefault(coalesceRequests, false)
+                ? new RequestCoalescer(
+                        texts -> model().embedAll(texts, this.maxBatchSize),
+                        this.executor,
+                        this.maxBatchSize,
+                        Runtime.getRuntime().availableProcessors())
+                : null;
     }
 
     private Executor createDefaultExecutor() {
@@ -52,41 +84,76 @@ public abstract class AbstractInProcessEmbeddingModel extends DimensionAwareEmbe
     public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
         ensureNotEmpty(segments, "segments");
         if (segments.size() == 1) {
-            return embedInTheSameThread(segments.get(0));
+            return coalescer != null ? embedCoalesced(segments.get(0)) : embedInTheSameThread(segments.get(0));
         } else {
-            return parallelizeEmbedding(segments);
+            return embedInBatches(segments);
         }
     }
 
     private Response<List<Embedding>> embedInTheSameThread(TextSegment segment) {
         EmbeddingAndTokenCount embeddingAndTokenCount = model().embed(segment.text());
-        return Response.from(
-                singletonList(Embedding.from(embeddingAndTokenCount.embedding)),
-                new TokenUsage(embeddingAndTokenCount.tokenCount - 2) // do not count special tokens [CLS] and [SEP])
-                );
+        return toResponse(singletonList(embeddingAndTokenCount));
     }
 
-    private Response<List<Embedding>> parallelizeEmbedding(List<TextSegment> segments) {
-        List<CompletableFuture<EmbeddingAndTokenCount>> futures = segments.stream()
-                .map(segment -> supplyAsync(() -> model().embed(segment.text()), executor))
-                .collect(toList());
+    private Response<List<Embedding>> embedCoalesced(TextSegment segment) {
+        EmbeddingAndTokenCount embeddingAndTokenCount = join(coalescer.submit(segment.text()));
+        return toResponse(singletonList(embeddingAndTokenCount));
+    }
 
-        int inputTokenCount = 0;
-        List<Embedding> embeddings = new ArrayList<>();
-
-        for (CompletableFuture<EmbeddingAndTokenCount> future : futures) {
-            try {
-                EmbeddingAndTokenCount embeddingAndTokenCount = future.get();
-                embeddings.add(Embedding.from(embeddingAndTokenCount.embedding));
-                inputTokenCount += embeddingAndTokenCount.tokenCount - 2; // do not count special tokens [CLS] and [SEP]
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt(); 
-                throw new RuntimeException(e);
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e);
-            }
+    /**
+     * Splits the segments into batches of segments of similar length, which are embedded in parallel.
+     */
+    private Response<List<Embedding>> embedInBatches(List<TextSegment> segments) {
+        List<Integer> order = IntStream.range(0, segments.size()).boxed().collect(toList());
+        order.sort(comparingInt(i -> segments.get(i).text().length()));
+
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < order.size(); from += maxBatchSize) {
+            batches.add(order.subList(from, Math.min(order.size(), from + maxBatchSize)));
         }
 
+        EmbeddingAndTokenCount[] results = new EmbeddingAndTokenCount[segments.size()];
+        if (batches.size() == 1) {
+            embedBatch(segments, batches.get(0), results);
+        } else {
+            List<CompletableFuture<Void>> futures = batches.stream()
+                    .map(batch -> runAsync(() -> embedBatch(segments, batch, results), executor))
+                    .collect(toList());
+            futures.forEach(AbstractInProcessEmbeddingModel::join);
+        }
+
+        return toResponse(asList(results));
+    }
+
+    private void embedBatch(List<TextSegment> segments, List<Integer> batch, EmbeddingAndTokenCount[] results) {
+        List<String> texts = batch.stream().map(i -> segments.get(i).text()).collect(toList());
+        List<EmbeddingAndTokenCount> embeddings = model().embedAll(texts, maxBatchSize);
+        for (int i = 0; i < batch.size(); i++) {
+            results[batch.get(i)] = embeddings.get(i);
+        }
+    }
+
+    private static Response<List<Embedding>> toResponse(List<EmbeddingAndTokenCount> embeddingsAndTokenCounts) {
+        int inputTokenCount = 0;
+        List<Embedding> embeddings = new ArrayList<>(embeddingsAndTokenCounts.size());
+        for (EmbeddingAndTokenCount embeddingAndTokenCount : embeddingsAndTokenCounts) {
+            embeddings.add(Embedding.from(embeddingAndTokenCount.embedding));
+            inputTokenCount += embeddingAndTokenCount.tokenCount - 2; // do not count special tokens [CLS] and [SEP]
+        }
         return Response.from(embeddings, new TokenUsage(inputTokenCount));
     }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 }
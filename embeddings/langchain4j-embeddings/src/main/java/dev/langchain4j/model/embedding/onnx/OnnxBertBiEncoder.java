@@ -4,7 +4,9 @@ import static ai.onnxruntime.OnnxTensor.createTensor;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.nio.LongBuffer.wrap;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -14,6 +16,7 @@ import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.OrtSession.Result;
+import dev.langchain4j.store.embedding.SimilarityKernels;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -79,29 +82,81 @@ public class OnnxBertBiEncoder {
     }
 
     EmbeddingAndTokenCount embed(String text) {
+        return embedAll(singletonList(text), 1).get(0);
+    }
 
-        List<String> tokens = tokenizer.tokenize(text);
-        List<List<String>> partitions = partition(tokens, MAX_SEQUENCE_LENGTH);
+    /**
+     * Embeds the given texts, running the model on batches of up to {@code maxBatchSize} sequences.
+     * <p>
+     * Texts longer than {@link #MAX_SEQUENCE_LENGTH} tokens are split into several sequences,
+     * whose embeddings are averaged (weighted by their token count).
+     * Sequences are sorted by length before being batched, so that each batch holds sequences of similar length
+     * and little padding is needed.
+     */
+    List<EmbeddingAndTokenCount> embedAll(List<String> texts, int maxBatchSize) {
+
+        List<Integer> tokenCounts = new ArrayList<>(texts.size());
+        List<List<Sequence>> sequencesByText = new ArrayList<>(texts.size());
+        List<Sequence> sequences = new ArrayList<>();
+
+        for (String text : texts) {
+            List<String> tokens = tokenizer.tokenize(text);
+            List<List<String>> partitions = partition(tokens, MAX_SEQUENCE_LENGTH);
+
+            if (partitions.isEmpty()) {
+                throw illegalArgument("Cannot embed empty or whitespace-only text");
+            }
 
-        if (partitions.isEmpty()) {
-            throw illegalArgument("Cannot embed empty or whitespace-only text");
+            List<Sequence> textSequences = new ArrayList<>(partitions.size());
+            for (List<String> partition : partitions) {
+                Encoding encoding = tokenizer.encode(toText(partition), true, false);
+                textSequences.add(new Sequence(encoding, partition.size()));
+            }
+            tokenCounts.add(tokens.size());
+            sequencesByText.add(textSequences);
+            sequences.addAll(textSequences);
         }
 
-        List<float[]> embeddings = new ArrayList<>();
-        for (List<String> partition : partitions) {
-            try (Result result = encode(partition)) {
-                float[] embedding = toEmbedding(result);
-                embeddings.add(embedding);
+        sequences.sort(comparingInt(Sequence::length));
+        for (int from = 0; from < sequences.size(); from += maxBatchSize) {
+            List<Sequence> batch = sequences.subList(from, Math.min(sequences.size(), from + maxBatchSize));
+            try {
+                encode(batch);
             } catch (OrtException e) {
                 throw new RuntimeException(e);
             }
         }
 
-        List<Integer> weights = partitions.stream().map(List::size).collect(toList());
+        List<EmbeddingAndTokenCount> result = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            List<Sequence> textSequences = sequencesByText.get(i);
+            List<float[]> embeddings =
+                    textSequences.stream().map(sequence -> sequence.embedding).collect(toList());
+            List<Integer> weights = textSequences.stream().map(sequence -> sequence.weight).collect(toList());
+            float[] embedding = normalize(weightedAverage(embeddings, weights));
+            result.add(new EmbeddingAndTokenCount(embedding, tokenCounts.get(i)));
+        }
+        return result;
+    }
 
-        float[] embedding = normalize(weightedAverage(embeddings, weights));
+    private static class Sequence {
+
+        final long[] inputIds;
+        final long[] attentionMask;
+        final long[] tokenTypeIds;
+        final int weight;
+        float[] embedding;
+
+        Sequence(Encoding encoding, int weight) {
+            this.inputIds = encoding.getIds();
+            this.attentionMask = encoding.getAttentionMask();
+            this.tokenTypeIds = encoding.getTypeIds();
+            this.weight = weight;
+        }
 
-        return new EmbeddingAndTokenCount(embedding, tokens.size());
+        int length() {
+            return inputIds.length;
+        }
     }
 
     static List<List<String>> partition(List<String> tokens, int partitionSize) {
@@ -132,15 +187,27 @@ public class OnnxBertBiEncoder {
         return partitions;
     }
 
-    private Result encode(List<String> tokens) throws OrtException {
-
-        Encoding encoding = tokenizer.encode(toText(tokens), true, false);
-
-        long[] inputIds = encoding.getIds();
-        long[] attentionMask = encoding.getAttentionMask();
-        long[] tokenTypeIds = encoding.getTypeIds();
+    /**
+     * Runs the model once on the given sequences, sorted by increasing length,
+     * right-padding them to the length of the longest one.
+     */
+    private void encode(List<Sequence> batch) throws OrtException {
+
+        int batchSize = batch.size();
+        int length = batch.get(batchSize - 1).length();
+
+        // padded positions are left at 0 and masked out
+        long[] inputIds = new long[batchSize * length];
+        long[] attentionMask = new long[batchSize * length];
+        long[] tokenTypeIds = new long[batchSize * length];
+        for (int i = 0; i < batchSize; i++) {
+            Sequence sequence = batch.get(i);
+            System.arraycopy(sequence.inputIds, 0, inputIds, i * length, sequence.length());
+            System.arraycopy(sequence.attentionMask, 0, attentionMask, i * length, sequence.length());
+            System.arraycopy(sequence.tokenTypeIds, 0, tokenTypeIds, i * length, sequence.length());
+        }
 
-        long[] shape = {1, inputIds.length};
+        long[] shape = {batchSize, length};
 
         try (OnnxTensor inputIdsTensor = createTensor(environment, wrap(inputIds), shape);
                 OnnxTensor attentionMaskTensor = createTensor(environment, wrap(attentionMask), shape);
@@ -153,7 +220,13 @@ public class OnnxBertBiEncoder {
                 inputs.put("token_type_ids", tokenTypeIdsTensor);
             }
 
-            return session.run(inputs);
+            try (Result result = session.run(inputs)) {
+                float[][][] vectors = (float[][][]) result.get(0).getValue();
+                for (int i = 0; i < batchSize; i++) {
+                    Sequence sequence = batch.get(i);
+                    sequence.embedding = pool(vectors[i], sequence.length());
+                }
+            }
         }
     }
 
@@ -173,17 +246,16 @@ public class OnnxBertBiEncoder {
         }
     }
 
-    private float[] toEmbedding(Result result) throws OrtException {
-        float[][] vectors = ((float[][][]) result.get(0).getValue())[0];
-        return pool(vectors);
-    }
-
-    private float[] pool(float[][] vectors) {
+    /**
+     * @param vectors The output vectors of a sequence, including padding.
+     * @param length  The length of the sequence, without padding.
+     */
+    private float[] pool(float[][] vectors, int length) {
         switch (poolingMode) {
             case CLS:
                 return clsPool(vectors);
             case MEAN:
-                return meanPool(vectors);
+                return meanPool(vectors, length);
             default:
                 throw illegalArgument("Unknown pooling mode: " + poolingMode);
         }
@@ -193,21 +265,21 @@ public class OnnxBertBiEncoder {
         return vectors[0];
     }
 
-    private static float[] meanPool(float[][] vectors) {
+    private static float[] meanPool(float[][] vectors, int length) {
 
-        int numVectors = vectors.length;
         int vectorLength = vectors[0].length;
 
         float[] averagedVector = new float[vectorLength];
 
-        for (float[] vector : vectors) {
+        for (int i = 0; i < length; i++) {
+            float[] vector = vectors[i];
             for (int j = 0; j < vectorLength; j++) {
                 averagedVector[j] += vector[j];
             }
         }
 
         for (int j = 0; j < vectorLength; j++) {
-            averagedVector[j] /= numVectors;
+            averagedVector[j] /= length;
         }
 
         return averagedVector;
@@ -241,11 +313,7 @@ public class OnnxBertBiEncoder {
 
     private static float[] normalize(float[] vector) {
 
-        float sumSquare = 0;
-        for (float v : vector) {
-            sumSquare += v * v;
-        }
-        float norm = (float) Math.sqrt(sumSquare);
+        float norm = (float) SimilarityKernels.defaultKernel().norm(vector);
 
         float[] normalizedVector = new float[vector.length];
         for (int i = 0; i < vector.length; i++) {
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.embedding.onnx;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import java.nio.file.Path;
@@ -30,7 +31,7 @@ public class OnnxEmbeddingModel extends AbstractInProcessEmbeddingModel {
      *                        {@code "pooling_mode_mean_tokens": true} means that {@link PoolingMode#MEAN} should be used.
      */
     public OnnxEmbeddingModel(Path pathToModel, Path pathToTokenizer, PoolingMode poolingMode) {
-        super(null);
+        super(null, 1, null);
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, pathToTokenizer, poolingMode);
     }
 
@@ -43,7 +44,7 @@ public class OnnxEmbeddingModel extends AbstractInProcessEmbeddingModel {
      * @param executor        The executor to use to parallelize the embedding process.
      */
     public OnnxEmbeddingModel(Path pathToModel, Path pathToTokenizer, PoolingMode poolingMode, Executor executor) {
-        super(ensureNotNull(executor, "executor"));
+        super(ensureNotNull(executor, "executor"), 1, null);
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, pathToTokenizer, poolingMode);
     }
 
@@ -70,8 +71,91 @@ public class OnnxEmbeddingModel extends AbstractInProcessEmbeddingModel {
         this(Paths.get(pathToModel), Paths.get(pathToTokenizer), poolingMode, executor);
     }
 
+    private OnnxEmbeddingModel(Builder builder) {
+        super(builder.executor, getOrDefault(builder.maxBatchSize, 1), builder.coalesceRequests);
+        this.onnxBertBiEncoder = loadFromFileSystem(
+                ensureNotNull(builder.pathToModel, "pathToModel"),
+                ensureNotNull(builder.pathToTokenizer, "pathToTokenizer"),
+                builder.poolingMode);
+    }
+
     @Override
     protected OnnxBertBiEncoder model() {
         return onnxBertBiEncoder;
     }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Path pathToModel;
+        private Path pathToTokenizer;
+        private PoolingMode poolingMode;
+        private Executor executor;
+        private Integer maxBatchSize;
+        private Boolean coalesceRequests;
+
+        /**
+         * @param pathToModel The path to the model file (e.g., "/path/to/model.onnx")
+         * @return builder
+         */
+        public Builder pathToModel(Path pathToModel) {
+            this.pathToModel = pathToModel;
+            return this;
+        }
+
+        /**
+         * @param pathToTokenizer The path to the tokenizer file (e.g., "/path/to/tokenizer.json")
+         * @return builder
+         */
+        public Builder pathToTokenizer(Path pathToTokenizer) {
+            this.pathToTokenizer = pathToTokenizer;
+            return this;
+        }
+
+        /**
+         * @param poolingMode The pooling model to use. Can be found in the ".../1_Pooling/config.json" file on HuggingFace.
+         * @return builder
+         */
+        public Builder poolingMode(PoolingMode poolingMode) {
+            this.poolingMode = poolingMode;
+            return this;
+        }
+
+        /**
+         * @param executor The executor to use to parallelize the embedding process.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize The maximum number of sequences embedded by a single ONNX inference. Default: 1.
+         *                     Larger batches are faster, but the embeddings of dynamically quantized models
+         *                     (e.g., "model_quantized.onnx") then depend slightly on the other segments of the batch.
+         * @return builder
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param coalesceRequests Whether concurrent single-segment embedding requests (e.g., from many threads)
+         *                         should be merged into shared batches. Default: false.
+         * @return builder
+         */
+        public Builder coalesceRequests(Boolean coalesceRequests) {
+            this.coalesceRequests = coalesceRequests;
+            return this;
+        }
+
+        public OnnxEmbeddingModel build() {
+            return new OnnxEmbeddingModel(this);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package dev.langchain4j.model.embedding.onnx;
+
+import static java.util.stream.Collectors.toList;
+
+import dev.langchain4j.model.embedding.onnx.OnnxBertBiEncoder.EmbeddingAndTokenCount;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Merges concurrent single-text embedding requests, typically coming from many threads, into shared batches.
+ * <p>
+ * Requests are queued and drained on the executor in batches of up to {@code maxBatchSize} texts.
+ * There is no artificial delay: the requests arriving while a batch is being embedded form the next batch,
+ * so batches grow with the load.
+ * A new drain is started when none is running, or when a full batch is waiting
+ * and fewer than {@code maxConcurrentBatches} drains are running.
+ */
+class RequestCoalescer {
+
+    private final Function<List<String>, List<EmbeddingAndTokenCount>> embedder;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+
+    private final Queue<Request> queue = new ArrayDeque<>();
+    private int runningDrains;
+
+    RequestCoalescer(
+            Function<List<String>, List<EmbeddingAndTokenCount>> embedder,
+            Executor executor,
+            int maxBatchSize,
+            int maxConcurrentBatches) {
+        this.embedder = embedder;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+    }
+
+    CompletableFuture<EmbeddingAndTokenCount> submit(String text) {
+        Request request = new Request(text);
+        boolean startDrain;
+        synchronized (this) {
+            queue.add(request);
+            startDrain = runningDrains == 0 || (queue.size() >= maxBatchSize && runningDrains < maxConcurrentBatches);
+            if (startDrain) {
+                runningDrains++;
+            }
+        }
+        if (startDrain) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                drain();
+            }
+        }
+        return request.future;
+    }
+
+    private void drain() {
+        while (true) {
+            List<Request> batch;
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    runningDrains--;
+                    return;
+                }
+                batch = new ArrayList<>(Math.min(queue.size(), maxBatchSize));
+                while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+            }
+            embed(batch);
+        }
+    }
+
+    private void embed(List<Request> batch) {
+        List<EmbeddingAndTokenCount> results;
+        try {
+            results = embedder.apply(batch.stream().map(request -> request.text).collect(toList()));
+        } catch (Throwable e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+            } else {
+                // one invalid text (e.g., a blank one) must not fail the other requests of the batch
+                batch.forEach(request -> embed(List.of(request)));
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(results.get(i));
+        }
+    }
+
+    private static class Request {
+
+        final String text;
+        final CompletableFuture<EmbeddingAndTokenCount> future = new CompletableFuture<>();
+
+        Request(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.embedding.onnx.internal;
 
 import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.SimilarityKernels;
 
 public class VectorUtils {
 
@@ -9,10 +10,6 @@ public class VectorUtils {
     }
 
     public static float magnitudeOf(float[] vector) {
-        float sumOfSquares = 0.0f;
-        for (float v : vector) {
-            sumOfSquares += v * v;
-        }
-        return (float) Math.sqrt(sumOfSquares);
+        return (float) SimilarityKernels.defaultKernel().norm(vector);
     }
 }
@@ -0,0 +1,141 @@
+package dev.langchain4j.model.embedding.onnx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.model.embedding.onnx.OnnxBertBiEncoder.EmbeddingAndTokenCount;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_merge_concurrent_requests_into_batches() throws Exception {
+
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        RequestCoalescer coalescer = new RequestCoalescer(
+                texts -> {
+                    if (batches.isEmpty()) {
+                        firstBatchStarted.countDown();
+                        await(releaseFirstBatch);
+                    }
+                    return embed(texts);
+                },
+                executor,
+                8,
+                1);
+
+        // when
+        CompletableFuture<EmbeddingAndTokenCount> first = coalescer.submit("first");
+        assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // requests arriving while the first batch is being embedded are merged into the next batch
+        List<CompletableFuture<EmbeddingAndTokenCount>> next = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            next.add(coalescer.submit("text " + i));
+        }
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(10, TimeUnit.SECONDS).tokenCount).isEqualTo("first".length());
+        for (int i = 0; i < 5; i++) {
+            assertThat(next.get(i).get(10, TimeUnit.SECONDS).tokenCount).isEqualTo(("text " + i).length());
+        }
+        assertThat(batches).containsExactly(
+                List.of("first"), List.of("text 0", "text 1", "text 2", "text 3", "text 4"));
+    }
+
+    @Test
+    void should_not_exceed_max_batch_size() throws Exception {
+
+        // given
+        RequestCoalescer coalescer = new RequestCoalescer(this::embed, executor, 3, 2);
+
+        // when
+        List<CompletableFuture<EmbeddingAndTokenCount>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(coalescer.submit("text " + i));
+        }
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertThat(futures.get(i).get(10, TimeUnit.SECONDS).tokenCount).isEqualTo(("text " + i).length());
+        }
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 3));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(100);
+    }
+
+    @Test
+    void should_fail_only_invalid_requests_of_a_batch() throws Exception {
+
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        RequestCoalescer coalescer = new RequestCoalescer(
+                texts -> {
+                    if (batches.isEmpty()) {
+                        firstBatchStarted.countDown();
+                        await(releaseFirstBatch);
+                    }
+                    if (texts.contains(" ")) {
+                        batches.add(texts);
+                        throw new IllegalArgumentException("Cannot embed empty or whitespace-only text");
+                    }
+                    return embed(texts);
+                },
+                executor,
+                8,
+                1);
+
+        // when
+        CompletableFuture<EmbeddingAndTokenCount> first = coalescer.submit("first");
+        assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<EmbeddingAndTokenCount> valid = coalescer.submit("valid");
+        CompletableFuture<EmbeddingAndTokenCount> invalid = coalescer.submit(" ");
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(10, TimeUnit.SECONDS).tokenCount).isEqualTo(5);
+        assertThat(valid.get(10, TimeUnit.SECONDS).tokenCount).isEqualTo(5);
+        assertThatThrownBy(invalid::join)
+                .isExactlyInstanceOf(CompletionException.class)
+                .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<EmbeddingAndTokenCount> embed(List<String> texts) {
+        batches.add(texts);
+        List<EmbeddingAndTokenCount> results = new ArrayList<>();
+        for (String text : texts) {
+            results.add(new EmbeddingAndTokenCount(new float[] {1}, text.length()));
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
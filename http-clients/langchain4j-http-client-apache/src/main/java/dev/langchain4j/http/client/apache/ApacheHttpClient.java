@@ -8,6 +8,7 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.HttpResponseBodyReader;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
@@ -95,6 +96,30 @@ public class ApacheHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public <T> T execute(HttpRequest request, HttpResponseBodyReader<T> bodyReader) throws HttpException {
+        try {
+            ClassicHttpRequest apacheRequest = toApacheRequest(request);
+            return syncClient.execute(apacheRequest, classicHttpResponse -> {
+                if (!isSuccessful(classicHttpResponse)) {
+                    throw new HttpException(classicHttpResponse.getCode(), readBody(classicHttpResponse));
+                }
+                SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                        .statusCode(classicHttpResponse.getCode())
+                        .headers(headersOf(classicHttpResponse))
+                        .build();
+                HttpEntity entity = classicHttpResponse.getEntity();
+                try (InputStream inputStream = entity == null ? InputStream.nullInputStream() : entity.getContent()) {
+                    return bodyReader.read(response, inputStream);
+                }
+            });
+        } catch (SocketTimeoutException e) {
+            throw new TimeoutException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         SimpleHttpRequest apacheRequest = toSimpleApacheRequest(request);
@@ -138,18 +163,21 @@ public class ApacheHttpClient implements HttpClient {
     }
 
     private SuccessfulHttpResponse fromApacheResponse(ClassicHttpResponse httpResponse) throws IOException {
-        Map<String, List<String>> headers = new HashMap<>();
-        org.apache.hc.core5.http.Header[] allHeaders = httpResponse.getHeaders();
-        for (org.apache.hc.core5.http.Header header : allHeaders) {
-            headers.computeIfAbsent(header.getName(), k -> new ArrayList<>()).add(header.getValue());
-        }
         return SuccessfulHttpResponse.builder()
                 .statusCode(httpResponse.getCode())
-                .headers(headers)
+                .headers(headersOf(httpResponse))
                 .body(readBodyBytes(httpResponse))
                 .build();
     }
 
+    private Map<String, List<String>> headersOf(HttpResponse httpResponse) {
+        Map<String, List<String>> headers = new HashMap<>();
+        for (org.apache.hc.core5.http.Header header : httpResponse.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), k -> new ArrayList<>()).add(header.getValue());
+        }
+        return headers;
+    }
+
     private byte[] readBodyBytes(HttpEntityContainer httpEntityContainer) throws IOException {
         HttpEntity entity = httpEntityContainer.getEntity();
         if (entity == null) {
@@ -9,6 +9,7 @@ import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.FormDataFile;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.HttpResponseBodyReader;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
@@ -67,6 +68,31 @@ public class JdkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public <T> T execute(HttpRequest request, HttpResponseBodyReader<T> bodyReader) throws HttpException {
+        try {
+            java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+
+            java.net.http.HttpResponse<InputStream> jdkResponse =
+                    delegate.send(jdkRequest, BodyHandlers.ofInputStream());
+
+            if (!isSuccessful(jdkResponse)) {
+                throw new HttpException(jdkResponse.statusCode(), readBody(jdkResponse));
+            }
+
+            try (InputStream inputStream = jdkResponse.body()) {
+                return bodyReader.read(fromJdkResponse(jdkResponse, null), inputStream);
+            }
+        } catch (HttpTimeoutException e) {
+            throw new TimeoutException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
@@ -5,6 +5,7 @@ import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.FormDataFile;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.HttpResponseBodyReader;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
@@ -64,6 +65,27 @@ public class OkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public <T> T execute(HttpRequest request, HttpResponseBodyReader<T> bodyReader) throws HttpException {
+        Request okRequest = toOkHttpRequest(request);
+        try (Response response = client.newCall(okRequest).execute()) {
+            if (!response.isSuccessful()) {
+                throw new HttpException(response.code(), readBody(response));
+            }
+            SuccessfulHttpResponse successResponse = SuccessfulHttpResponse.builder()
+                    .statusCode(response.code())
+                    .headers(headersOf(response))
+                    .build();
+            try (InputStream inputStream = getInputStream(response)) {
+                return bodyReader.read(successResponse, inputStream);
+            }
+        } catch (SocketTimeoutException e) {
+            throw new TimeoutException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         Request okRequest = toOkHttpRequest(request);
@@ -107,10 +129,7 @@ public class OkHttpClient implements HttpClient {
     }
 
     private SuccessfulHttpResponse fromOkHttpResponse(Response response) throws IOException {
-        Map<String, List<String>> headers = new HashMap<>();
-        for (String name : response.headers().names()) {
-            headers.put(name, response.headers().values(name));
-        }
+        Map<String, List<String>> headers = headersOf(response);
 
         String contentType = response.header("content-type");
         byte[] body;
@@ -127,6 +146,14 @@ public class OkHttpClient implements HttpClient {
                 .build();
     }
 
+    private Map<String, List<String>> headersOf(Response response) {
+        Map<String, List<String>> headers = new HashMap<>();
+        for (String name : response.headers().names()) {
+            headers.put(name, response.headers().values(name));
+        }
+        return headers;
+    }
+
     private String readBody(Response response) {
         try {
             return response.body().string();
@@ -0,0 +1,53 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+
+/**
+ * Deterministic input data shared by the benchmarks, so that runs are comparable across releases.
+ */
+class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "the", "model", "returns", "a", "response", "for", "each", "message", "in", "memory",
+        "embedding", "store", "search", "document", "segment", "token", "window", "chat", "tool", "request"
+    };
+
+    private BenchmarkData() {}
+
+    static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+
+    static Embedding randomEmbedding(Random random, int dimension) {
+        return Embedding.from(randomVector(random, dimension));
+    }
+
+    /**
+     * Generates English-like text of roughly {@code length} characters, made of sentences and paragraphs.
+     */
+    static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 64);
+        int wordsInSentence = 0;
+        int sentencesInParagraph = 0;
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            if (++wordsInSentence < 12) {
+                text.append(' ');
+                continue;
+            }
+            wordsInSentence = 0;
+            if (++sentencesInParagraph < 5) {
+                text.append(". ");
+            } else {
+                sentencesInParagraph = 0;
+                text.append(".\n\n");
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ChatMessageSerializer} and {@link ChatMessageDeserializer} on conversations of several lengths,
+ * as done by persistent {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}s on every update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int messageCount;
+
+    private List<ChatMessage> messages;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        for (int i = 1; i < messageCount; i++) {
+            String text = BenchmarkData.text(random, 300);
+            switch (i % 4) {
+                case 1 -> messages.add(UserMessage.from(text));
+                case 2 -> messages.add(AiMessage.from(ToolExecutionRequest.builder()
+                        .id("call_" + i)
+                        .name("search")
+                        .arguments("{\"query\":\"" + text.substring(0, 50) + "\"}")
+                        .build()));
+                case 3 -> messages.add(ToolExecutionResultMessage.from("call_" + (i - 1), "search", text));
+                default -> messages.add(AiMessage.from(text));
+            }
+        }
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> deserialize() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+
+    @Benchmark
+    public List<ChatMessage> roundTrip() {
+        return ChatMessageDeserializer.messagesFromJson(ChatMessageSerializer.messagesToJson(messages));
+    }
+}
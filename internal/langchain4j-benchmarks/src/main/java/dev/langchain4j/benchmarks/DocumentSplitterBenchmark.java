@@ -0,0 +1,55 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DocumentSplitters#recursive(int, int)} on documents of several lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int documentLength;
+
+    @Param({"500"})
+    int maxSegmentSize;
+
+    @Param({"50"})
+    int maxOverlapSize;
+
+    private DocumentSplitter splitter;
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        splitter = DocumentSplitters.recursive(maxSegmentSize, maxOverlapSize);
+        document = Document.from(BenchmarkData.text(new Random(42), documentLength));
+    }
+
+    @Benchmark
+    public List<TextSegment> recursive() {
+        return splitter.split(document);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
+import dev.langchain4j.store.embedding.IngestionResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmbeddingStoreIngestor#ingest(List)} with a {@link FakeEmbeddingModel},
+ * so that splitting, batching and storing are measured without any inference cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingStoreIngestorBenchmark {
+
+    @Param({"10", "100"})
+    int documentCount;
+
+    @Param({"10000"})
+    int documentLength;
+
+    @Param({"384"})
+    int dimension;
+
+    private List<Document> documents;
+    private FakeEmbeddingModel embeddingModel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            documents.add(Document.from(BenchmarkData.text(random, documentLength)));
+        }
+        embeddingModel = new FakeEmbeddingModel(dimension);
+    }
+
+    @Benchmark
+    public IngestionResult ingest() {
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(DocumentSplitters.recursive(500, 50))
+                .embeddingModel(embeddingModel)
+                .embeddingStore(new InMemoryEmbeddingStore<TextSegment>())
+                .build();
+        return ingestor.ingest(documents);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link EmbeddingModel} deriving vectors from the text hash, without any inference cost.
+ */
+class FakeEmbeddingModel implements EmbeddingModel {
+
+    private final int dimension;
+
+    FakeEmbeddingModel(int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            int seed = textSegment.text().hashCode();
+            float[] vector = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                seed = seed * 1_103_515_245 + 12_345;
+                vector[i] = (seed >> 8) / (float) (1 << 23);
+            }
+            embeddings.add(Embedding.from(vector));
+        }
+        return Response.from(embeddings);
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.langchain4j.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventContext;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link DefaultServerSentEventParser} on a stream of chat completion chunks, as sent by OpenAI-compatible APIs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSentEventParserBenchmark {
+
+    private static final String CHUNK = "data: {\"id\":\"chatcmpl-123\",\"object\":\"chat.completion.chunk\","
+            + "\"created\":1694268190,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,"
+            + "\"delta\":{\"content\":\"Hello\"},\"logprobs\":null,\"finish_reason\":null}]}\n\n";
+
+    @Param({"100", "1000"})
+    int events;
+
+    private final ServerSentEventParser parser = new DefaultServerSentEventParser();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = (CHUNK.repeat(events) + "data: [DONE]\n\n").getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        parser.parse(new ByteArrayInputStream(body), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event, ServerSentEventContext context) {
+                blackhole.consume(event.data());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+
+    /**
+     * Same as {@link #parse(Blackhole)}, reading the data as bytes (as when deserializing it), without decoding it.
+     */
+    @Benchmark
+    public void parseDataBytes(Blackhole blackhole) {
+        parser.parse(new ByteArrayInputStream(body), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event, ServerSentEventContext context) {
+                blackhole.consume(event.dataBytes());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TokenWindowChatMemory#add(ChatMessage)} on a full window, where every addition evicts older messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenWindowChatMemoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int maxTokens;
+
+    private TokenWindowChatMemory memory;
+    private ChatMessage[] messages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        memory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, new WordCountEstimator())
+                .build();
+        memory.add(SystemMessage.from("You are a helpful assistant."));
+
+        messages = new ChatMessage[64];
+        for (int i = 0; i < messages.length; i++) {
+            String text = BenchmarkData.text(random, 200 + random.nextInt(400));
+            messages[i] = i % 2 == 0 ? UserMessage.from(text) : AiMessage.from(text);
+        }
+        // fill the window, so that the benchmark measures the steady state
+        for (int i = 0; i < maxTokens / 40; i++) {
+            add();
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        memory.add(messages[next]);
+        next = (next + 1) % messages.length;
+    }
+}
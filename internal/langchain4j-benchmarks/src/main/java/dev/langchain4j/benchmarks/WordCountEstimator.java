@@ -0,0 +1,52 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.TokenCountEstimator;
+
+/**
+ * A cheap {@link TokenCountEstimator} counting one token per word,
+ * so that the benchmarks measure the code under test rather than a tokenizer.
+ */
+class WordCountEstimator implements TokenCountEstimator {
+
+    @Override
+    public int estimateTokenCountInText(String text) {
+        int tokens = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                tokens++;
+            }
+            inWord = !whitespace;
+        }
+        return tokens;
+    }
+
+    @Override
+    public int estimateTokenCountInMessage(ChatMessage message) {
+        String text;
+        if (message instanceof SystemMessage systemMessage) {
+            text = systemMessage.text();
+        } else if (message instanceof UserMessage userMessage) {
+            text = userMessage.singleText();
+        } else if (message instanceof AiMessage aiMessage) {
+            text = aiMessage.text() == null ? "" : aiMessage.text();
+        } else {
+            text = message.toString();
+        }
+        return 3 + estimateTokenCountInText(text);
+    }
+
+    @Override
+    public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+        int tokens = 3;
+        for (ChatMessage message : messages) {
+            tokens += estimateTokenCountInMessage(message);
+        }
+        return tokens;
+    }
+}
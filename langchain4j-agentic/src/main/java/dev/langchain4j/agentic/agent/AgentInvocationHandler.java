@@ -26,6 +26,7 @@ import dev.langchain4j.observability.api.listener.AiServiceResponseReceivedListe
 import dev.langchain4j.service.AiServiceContext;
 import dev.langchain4j.service.ParameterNameResolver;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
+import dev.langchain4j.service.memory.ChatMemoryCacheStats;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -143,6 +144,10 @@ public class AgentInvocationHandler implements InvocationHandler, InternalAgent
                             null;
                 case "evictChatMemory" ->
                     context.hasChatMemory() && context.chatMemoryService.evictChatMemory(args[0]) != null;
+                case "getChatMemoryCacheStats" ->
+                    context.hasChatMemory() ?
+                            context.chatMemoryService.getChatMemoryCacheStats() :
+                            new ChatMemoryCacheStats(0, 0, 0);
                 default ->
                     throw new UnsupportedOperationException(
                             "Unknown method on ChatMemoryAccess class : " + method.getName());
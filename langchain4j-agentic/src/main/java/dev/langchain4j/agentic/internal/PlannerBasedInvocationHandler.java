@@ -53,6 +53,7 @@ import dev.langchain4j.service.MemoryId;
 import dev.langchain4j.service.ParameterNameResolver;
 import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
+import dev.langchain4j.service.memory.ChatMemoryCacheStats;
 
 public class PlannerBasedInvocationHandler implements InvocationHandler, InternalAgent {
     private final Executor executor;
@@ -178,6 +179,10 @@ public class PlannerBasedInvocationHandler implements InvocationHandler, Interna
         }
 
         if (method.getDeclaringClass() == ChatMemoryAccess.class) {
+            if (method.getName().equals("getChatMemoryCacheStats")) {
+                // planner-based agents don't keep chat memories of their own
+                return new ChatMemoryCacheStats(0, 0, 0);
+            }
             Object memoryId = args[0];
             return accessChatMemory(getOrCreateAgenticScope(registry, memoryId), method.getName(), memoryId);
         }
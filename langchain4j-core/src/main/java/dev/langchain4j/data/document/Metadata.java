@@ -281,6 +281,20 @@ public class Metadata {
                 key, value, value.getClass().getName());
     }
 
+    /**
+     * Returns the value associated with the given key, whatever its type.
+     * <p>
+     * Unlike {@code toMap().get(key)}, this does not copy the metadata,
+     * which matters when it is called for many entries, e.g. when filtering.
+     *
+     * @param key the key
+     * @return the value associated with the given key, or {@code null} if the key is not present.
+     */
+    @Nullable
+    public Object getObject(String key) {
+        return metadata.get(key);
+    }
+
     /**
      * Check whether this {@code Metadata} contains a given key.
      *
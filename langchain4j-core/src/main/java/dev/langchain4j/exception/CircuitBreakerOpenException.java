@@ -0,0 +1,14 @@
+package dev.langchain4j.exception;
+
+/**
+ * Thrown instead of sending a request when the circuit breaker of the endpoint is open,
+ * because too many of the previous requests to this endpoint have failed.
+ * <p>
+ * This is a {@link NonRetriableException}: retrying immediately would be rejected again.
+ * Requests are let through again once the circuit breaker has been open for its configured duration.
+ */
+public class CircuitBreakerOpenException extends NonRetriableException {
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
@@ -199,6 +199,16 @@ class JacksonJsonCodec implements Json.JsonCodec {
         }
     }
 
+    @Override
+    public <T> T convert(Object value, Type type) {
+        try {
+            return objectMapper.convertValue(value, objectMapper.constructType(type));
+        } catch (IllegalArgumentException e) {
+            // same exception as fromJson(toJson(value), type)
+            throw new RuntimeException(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
     /**
      * Returns the ObjectMapper instance used for JSON processing.
      *
@@ -49,6 +49,23 @@ public class Json {
          * @return the object.
          */
         <T> T fromJson(String json, Type type);
+
+        /**
+         * Convert the given object (typically a {@link java.util.Map} or a {@link java.util.List}
+         * parsed from JSON) to an object of the given type.
+         * <p>
+         * The result is the same as {@code fromJson(toJson(value), type)},
+         * which is what the default implementation does.
+         * Implementations can override it to avoid producing and parsing the intermediate JSON string.
+         *
+         * @param value the object to convert.
+         * @param type  the type to convert to.
+         * @param <T>   the type of the object.
+         * @return the converted object.
+         */
+        default <T> T convert(Object value, Type type) {
+            return fromJson(toJson(value), type);
+        }
     }
 
     private static final JsonCodec CODEC = loadCodec();
@@ -93,4 +110,18 @@ public class Json {
     public static <T> T fromJson(String json, Type type) {
         return CODEC.fromJson(json, type);
     }
+
+    /**
+     * Convert the given object (typically a {@link java.util.Map} or a {@link java.util.List}
+     * parsed from JSON) to an object of the given type.
+     *
+     * @param value the object to convert.
+     * @param type  the type to convert to.
+     * @param <T>   the type of the object.
+     * @return the converted object.
+     * @see JsonCodec#convert(Object, Type)
+     */
+    public static <T> T convert(Object value, Type type) {
+        return CODEC.convert(value, type);
+    }
 }
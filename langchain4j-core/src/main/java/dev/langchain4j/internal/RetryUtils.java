@@ -1,10 +1,28 @@
 package dev.langchain4j.internal;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import dev.langchain4j.Internal;
+import dev.langchain4j.exception.CircuitBreakerOpenException;
 import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.NonRetriableException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +47,55 @@ public final class RetryUtils {
         return new RetryPolicy.Builder();
     }
 
+    private static final Map<String, CircuitBreakerReference> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<CircuitBreaker> RELEASED_CIRCUIT_BREAKERS = new ReferenceQueue<>();
+
+    /**
+     * Returns the circuit breaker of the given endpoint (e.g. the base URL of a model provider),
+     * shared by all the retry policies using it. It is created on first use, with the default settings
+     * of {@link CircuitBreaker#CircuitBreaker()}, and forgotten once no retry policy uses it anymore.
+     *
+     * @param endpoint The endpoint.
+     * @return The circuit breaker of the endpoint.
+     */
+    public static CircuitBreaker circuitBreaker(String endpoint) {
+        ensureNotNull(endpoint, "endpoint");
+        removeReleasedCircuitBreakers();
+        CircuitBreaker[] circuitBreaker = new CircuitBreaker[1];
+        CIRCUIT_BREAKERS.compute(endpoint, (key, reference) -> {
+            circuitBreaker[0] = reference == null ? null : reference.get();
+            if (circuitBreaker[0] != null) {
+                return reference;
+            }
+            circuitBreaker[0] = new CircuitBreaker();
+            return new CircuitBreakerReference(key, circuitBreaker[0]);
+        });
+        return circuitBreaker[0];
+    }
+
+    static int registeredCircuitBreakers() {
+        removeReleasedCircuitBreakers();
+        return CIRCUIT_BREAKERS.size();
+    }
+
+    private static void removeReleasedCircuitBreakers() {
+        Reference<? extends CircuitBreaker> released;
+        while ((released = RELEASED_CIRCUIT_BREAKERS.poll()) != null) {
+            CircuitBreakerReference reference = (CircuitBreakerReference) released;
+            CIRCUIT_BREAKERS.remove(reference.endpoint, reference);
+        }
+    }
+
+    private static class CircuitBreakerReference extends WeakReference<CircuitBreaker> {
+
+        private final String endpoint;
+
+        CircuitBreakerReference(String endpoint, CircuitBreaker circuitBreaker) {
+            super(circuitBreaker, RELEASED_CIRCUIT_BREAKERS);
+            this.endpoint = endpoint;
+        }
+    }
+
     /**
      * This class encapsulates a retry policy.
      */
@@ -43,6 +110,9 @@ public final class RetryUtils {
             private int delayMillis = 1000;
             private double jitterScale = 0.2;
             private double backoffExp = 1.5;
+            private RetryBudget retryBudget;
+            private CircuitBreaker circuitBreaker;
+            private Executor executor;
 
             /**
              * Construct a RetryPolicy.Builder.
@@ -106,13 +176,50 @@ public final class RetryUtils {
                 return this;
             }
 
+            /**
+             * Sets the retry budget, which limits the rate of retries.
+             * The same budget can be shared by several retry policies, so that their retries are limited globally.
+             * By default, retries are not limited.
+             *
+             * @param retryBudget The retry budget.
+             * @return {@code this}
+             */
+            public Builder retryBudget(RetryBudget retryBudget) {
+                this.retryBudget = retryBudget;
+                return this;
+            }
+
+            /**
+             * Sets the circuit breaker of the endpoint called by the actions,
+             * see {@link RetryUtils#circuitBreaker(String)}. By default, there is no circuit breaker.
+             *
+             * @param circuitBreaker The circuit breaker.
+             * @return {@code this}
+             */
+            public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+                this.circuitBreaker = circuitBreaker;
+                return this;
+            }
+
+            /**
+             * Sets the executor on which the retries of {@link RetryPolicy#withRetryAsync(Supplier)} are started,
+             * once their delay has elapsed. Default: {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+             *
+             * @param executor The executor.
+             * @return {@code this}
+             */
+            public Builder executor(Executor executor) {
+                this.executor = executor;
+                return this;
+            }
+
             /**
              * Builds a RetryPolicy.
              *
              * @return A RetryPolicy.
              */
             public RetryPolicy build() {
-                return new RetryPolicy(maxRetries, delayMillis, jitterScale, backoffExp);
+                return new RetryPolicy(this);
             }
         }
 
@@ -120,6 +227,9 @@ public final class RetryUtils {
         private final int delayMillis;
         private final double jitterScale;
         private final double backoffExp;
+        private final RetryBudget retryBudget;
+        private final CircuitBreaker circuitBreaker;
+        private final Executor executor;
 
         /**
          * Construct a RetryPolicy.
@@ -135,6 +245,19 @@ public final class RetryUtils {
             this.delayMillis = delayMillis;
             this.jitterScale = jitterScale;
             this.backoffExp = backoffExp;
+            this.retryBudget = null;
+            this.circuitBreaker = null;
+            this.executor = null;
+        }
+
+        private RetryPolicy(Builder builder) {
+            this.maxRetries = builder.maxRetries;
+            this.delayMillis = builder.delayMillis;
+            this.jitterScale = builder.jitterScale;
+            this.backoffExp = builder.backoffExp;
+            this.retryBudget = builder.retryBudget;
+            this.circuitBreaker = builder.circuitBreaker;
+            this.executor = builder.executor;
         }
 
         /**
@@ -200,29 +323,337 @@ public final class RetryUtils {
         public <T> T withRetry(Callable<T> action, int maxRetries) {
             int retry = 0;
             while (true) {
+                acquireCircuitBreakerPermission();
                 try {
-                    return action.call();
+                    T result = action.call();
+                    onSuccess();
+                    return result;
                 } catch (NonRetriableException e) {
+                    onSuccess();
                     throw e;
                 } catch (Exception e) {
+                    onFailure();
+
                     if (Thread.currentThread().isInterrupted()) {
                         throw new RuntimeException("Interrupted during action execution", e);
                     }
 
-                    if (retry >= maxRetries) {
+                    if (!mayRetry(e, retry, maxRetries)) {
                         throw e instanceof RuntimeException re ? re : new LangChain4jException(e);
                     }
 
-                    log.warn(
-                            "A retriable exception occurred. Remaining retries: %s of %s"
-                                    .formatted(maxRetries - retry, maxRetries),
-                            e);
-
                     sleep(retry);
                 }
                 retry++;
             }
         }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to 3 times with an exponential backoff.
+         * Unlike {@link #withRetry(Callable)}, no thread is blocked while waiting to retry:
+         * the retries are scheduled on a shared scheduler and started on the {@link Builder#executor(Executor)}.
+         *
+         * @param action The action to be executed, returning the (pending) result of each attempt.
+         * @param <T>    The type of the result of the action.
+         * @return The result of the first successful attempt,
+         * or the exception of the last attempt if the action fails on all attempts.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action) {
+            return withRetryAsync(action, maxRetries);
+        }
+
+        /**
+         * This method attempts to execute a given asynchronous action up to a specified number of times
+         * with an exponential backoff.
+         * Unlike {@link #withRetry(Callable, int)}, no thread is blocked while waiting to retry:
+         * the retries are scheduled on a shared scheduler and started on the {@link Builder#executor(Executor)}.
+         * Cancelling the returned future cancels the retries that are not started yet.
+         *
+         * @param action     The action to be executed, returning the (pending) result of each attempt.
+         * @param maxRetries The maximum number of retries.
+         *                   The action can be executed up to {@code maxRetries + 1} times.
+         * @param <T>        The type of the result of the action.
+         * @return The result of the first successful attempt,
+         * or the exception of the last attempt if the action fails on all attempts.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action, int maxRetries) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attempt(action, 0, maxRetries, result);
+            return result;
+        }
+
+        private <T> void attempt(
+                Supplier<? extends CompletionStage<T>> action, int retry, int maxRetries, CompletableFuture<T> result) {
+            if (result.isDone()) {
+                return;
+            }
+            CompletionStage<T> stage;
+            try {
+                acquireCircuitBreakerPermission();
+                stage = action.get();
+            } catch (CircuitBreakerOpenException e) {
+                result.completeExceptionally(e);
+                return;
+            } catch (Exception e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            if (stage == null) {
+                result.completeExceptionally(
+                        new NullPointerException("The action returned null instead of a CompletionStage"));
+                return;
+            }
+            stage.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    onSuccess();
+                    result.complete(value);
+                    return;
+                }
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                if (cause instanceof NonRetriableException) {
+                    onSuccess();
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                onFailure();
+                if (!(cause instanceof Exception e) || !mayRetry(e, retry, maxRetries)) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                Executor retryExecutor =
+                        executor != null ? executor : DefaultExecutorProvider.getDefaultExecutorService();
+                try {
+                    RetryScheduler.INSTANCE.schedule(
+                            () -> {
+                                try {
+                                    retryExecutor.execute(() -> attempt(action, retry + 1, maxRetries, result));
+                                } catch (RuntimeException rejected) {
+                                    failWithoutRetry(result, cause, rejected);
+                                }
+                            },
+                            jitterDelayMillis(retry),
+                            MILLISECONDS);
+                } catch (RuntimeException rejected) {
+                    failWithoutRetry(result, cause, rejected);
+                }
+            });
+        }
+
+        /**
+         * Completes the result with the last failure when the retry could not be started
+         * (e.g. because the executor rejected it), so that the result does not wait forever.
+         */
+        private static void failWithoutRetry(CompletableFuture<?> result, Throwable lastFailure, Exception reason) {
+            lastFailure.addSuppressed(reason);
+            result.completeExceptionally(lastFailure);
+        }
+
+        private boolean mayRetry(Exception e, int retry, int maxRetries) {
+            if (retry >= maxRetries) {
+                return false;
+            }
+            if (circuitBreaker != null && circuitBreaker.state() == CircuitBreaker.State.OPEN) {
+                log.warn("A retriable exception occurred, but the circuit breaker is open. Not retrying", e);
+                return false;
+            }
+            if (retryBudget != null && !retryBudget.tryAcquire()) {
+                log.warn("A retriable exception occurred, but the retry budget is exhausted. Not retrying", e);
+                return false;
+            }
+            log.warn(
+                    "A retriable exception occurred. Remaining retries: %s of %s"
+                            .formatted(maxRetries - retry, maxRetries),
+                    e);
+            return true;
+        }
+
+        private void acquireCircuitBreakerPermission() {
+            if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+                throw new CircuitBreakerOpenException(
+                        "The circuit breaker is open because of previous failures, the action was not executed");
+            }
+        }
+
+        private void onSuccess() {
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess();
+            }
+        }
+
+        private void onFailure() {
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    /**
+     * A token bucket limiting the rate of retries, e.g. so that retrying during an outage of a model provider
+     * does not multiply the load on it.
+     * Each retry takes a token, and tokens are added back at a constant rate, up to a maximum.
+     * When there is no token left, actions are not retried anymore: their last exception is thrown.
+     */
+    public static final class RetryBudget {
+
+        private final double retriesPerSecond;
+        private final double maxRetries;
+
+        private double availableRetries;
+        private long lastRefillNanos;
+
+        /**
+         * Construct a RetryBudget.
+         *
+         * @param retriesPerSecond The number of retries allowed per second, on average.
+         * @param maxRetries       The maximum number of retries allowed in a burst. The budget starts full.
+         */
+        public RetryBudget(double retriesPerSecond, int maxRetries) {
+            this.retriesPerSecond = ensureGreaterThanZero(retriesPerSecond, "retriesPerSecond");
+            this.maxRetries = ensureGreaterThanZero(maxRetries, "maxRetries");
+            this.availableRetries = maxRetries;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes a retry from the budget, if there is one left.
+         *
+         * @return {@code true} if the retry is allowed.
+         */
+        public synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            availableRetries =
+                    Math.min(maxRetries, availableRetries + (now - lastRefillNanos) / 1e9 * retriesPerSecond);
+            lastRefillNanos = now;
+            if (availableRetries < 1) {
+                return false;
+            }
+            availableRetries--;
+            return true;
+        }
+    }
+
+    /**
+     * A circuit breaker for an endpoint, e.g. a model provider.
+     * <p>
+     * After {@code failureThreshold} consecutive failed attempts, the circuit breaker opens:
+     * actions are rejected with a {@link CircuitBreakerOpenException}, without being executed,
+     * and failed actions are not retried.
+     * After {@code openDuration}, a single trial action is let through:
+     * if it succeeds, the circuit breaker closes, otherwise it opens again.
+     * <p>
+     * {@link NonRetriableException}s (e.g. invalid requests) do not count as failures,
+     * as they mean that the endpoint is responding.
+     */
+    public static final class CircuitBreaker {
+
+        /**
+         * The state of a circuit breaker.
+         */
+        public enum State {
+            /**
+             * Actions are executed.
+             */
+            CLOSED,
+            /**
+             * Actions are rejected.
+             */
+            OPEN,
+            /**
+             * A trial action is being executed, other actions are rejected.
+             */
+            HALF_OPEN
+        }
+
+        private final int failureThreshold;
+        private final long openDurationNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+
+        /**
+         * Construct a CircuitBreaker opening after 5 consecutive failures, for 30 seconds.
+         */
+        public CircuitBreaker() {
+            this(5, Duration.ofSeconds(30));
+        }
+
+        /**
+         * Construct a CircuitBreaker.
+         *
+         * @param failureThreshold The number of consecutive failures after which the circuit breaker opens.
+         * @param openDuration     How long the circuit breaker stays open before letting a trial action through.
+         */
+        public CircuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = ensureGreaterThanZero(failureThreshold, "failureThreshold");
+            this.openDurationNanos = ensureNotNull(openDuration, "openDuration").toNanos();
+        }
+
+        /**
+         * Returns the current state of this circuit breaker.
+         *
+         * @return The state.
+         */
+        public synchronized State state() {
+            return state;
+        }
+
+        /**
+         * Checks whether an action may be executed. When the circuit breaker has been open for long enough,
+         * the first caller gets the permission to execute a trial action, and must then report its outcome
+         * with {@link #onSuccess()} or {@link #onFailure()}.
+         * A trial action whose outcome is not reported within {@code openDuration} is considered lost,
+         * and another one is let through.
+         *
+         * @return {@code true} if the action may be executed.
+         */
+        public synchronized boolean tryAcquirePermission() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            long now = System.nanoTime();
+            if (now - openedAtNanos >= openDurationNanos) {
+                state = State.HALF_OPEN;
+                openedAtNanos = now;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Records a successful action, closing the circuit breaker.
+         */
+        public synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        }
+
+        /**
+         * Records a failed action, opening the circuit breaker
+         * if it is the {@code failureThreshold}-th consecutive one, or if it was the trial action.
+         */
+        public synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * The scheduler shared by all the retry policies to wait before retrying asynchronous actions.
+     * Its single thread only hands the retries over to the executor of the policy.
+     */
+    private static class RetryScheduler {
+
+        private static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "langchain4j-retry-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     /**
@@ -6,7 +6,9 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -20,6 +22,13 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         return new DefaultTemplate(input.getTemplate());
     }
 
+    /**
+     * A template compiled into a sequence of literal text and variable segments:
+     * {@code literals[0] variables[0] literals[1] variables[1] ... literals[n]}.
+     * <p>
+     * The template is parsed once, with the same {@link #VARIABLE_PATTERN} as before,
+     * so rendering only has to look up the variables and concatenate the segments.
+     */
     static class DefaultTemplate implements Template {
 
         /**
@@ -34,20 +43,29 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*(.+?)\\s*\\}\\}");
 
         private final String template;
+        private final String[] literals;
+        private final String[] variables;
+        private final int literalsLength;
         private final Set<String> allVariables;
 
         public DefaultTemplate(String template) {
             this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int literalStart = 0;
             while (matcher.find()) {
+                literals.add(template.substring(literalStart, matcher.start()));
                 variables.add(matcher.group(1).trim());
+                literalStart = matcher.end();
             }
-            return variables;
+            literals.add(template.substring(literalStart));
+
+            this.literals = literals.toArray(new String[0]);
+            this.variables = variables.toArray(new String[0]);
+            this.literalsLength = literals.stream().mapToInt(String::length).sum();
+            this.allVariables = new HashSet<>(variables);
         }
 
         public String render(Map<String, Object> variables) {
@@ -59,17 +77,24 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
             ensureAllVariablesProvided(variables);
 
-            Matcher matcher = VARIABLE_PATTERN.matcher(template);
-            StringBuffer result = new StringBuffer(template.length());
-            while (matcher.find()) {
-                String variable = matcher.group(1).trim();
+            String[] values = new String[this.variables.length];
+            int length = literalsLength;
+            for (int i = 0; i < values.length; i++) {
+                String variable = this.variables[i];
                 Object value = variables.get(variable);
-                if (value == null || value.toString() == null) {
+                String text = value == null ? null : value.toString();
+                if (text == null) {
                     throw illegalArgument("Value for the variable '%s' is null", variable);
                 }
-                matcher.appendReplacement(result, Matcher.quoteReplacement(value.toString()));
+                values[i] = text;
+                length += text.length();
+            }
+
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                result.append(literals[i]).append(values[i]);
             }
-            matcher.appendTail(result);
+            result.append(literals[values.length]);
 
             return result.toString();
         }
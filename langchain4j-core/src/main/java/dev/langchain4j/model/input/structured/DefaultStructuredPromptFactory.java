@@ -27,6 +27,17 @@ class DefaultStructuredPromptFactory implements StructuredPromptFactory {
     private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
     };
 
+    /**
+     * The template of each structured prompt class, parsed once: it only depends on the annotation of the class.
+     */
+    private static final ClassValue<PromptTemplate> PROMPT_TEMPLATES = new ClassValue<>() {
+
+        @Override
+        protected PromptTemplate computeValue(Class<?> type) {
+            return PromptTemplate.from(StructuredPrompt.Util.join(type.getAnnotation(StructuredPrompt.class)));
+        }
+    };
+
     /**
      * Create a default structured prompt factory.
      */
@@ -35,10 +46,9 @@ class DefaultStructuredPromptFactory implements StructuredPromptFactory {
 
     @Override
     public Prompt toPrompt(Object structuredPrompt) {
-        StructuredPrompt annotation = StructuredPrompt.Util.validateStructuredPrompt(structuredPrompt);
+        StructuredPrompt.Util.validateStructuredPrompt(structuredPrompt);
 
-        String promptTemplateString = StructuredPrompt.Util.join(annotation);
-        PromptTemplate promptTemplate = PromptTemplate.from(promptTemplateString);
+        PromptTemplate promptTemplate = PROMPT_TEMPLATES.get(structuredPrompt.getClass());
 
         Map<String, Object> variables = extractVariables(structuredPrompt);
 
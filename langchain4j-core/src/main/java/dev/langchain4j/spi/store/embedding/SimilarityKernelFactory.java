@@ -0,0 +1,21 @@
+package dev.langchain4j.spi.store.embedding;
+
+import dev.langchain4j.store.embedding.SimilarityKernel;
+
+/**
+ * A factory for creating {@link SimilarityKernel} objects.
+ * Used by {@link dev.langchain4j.store.embedding.SimilarityKernels#defaultKernel()}.
+ * <p>
+ * {@link #create()} may throw if the kernel cannot run in the current JVM
+ * (for example, when a required JDK module is not available),
+ * in which case the next factory or the scalar kernel is used instead.
+ */
+public interface SimilarityKernelFactory {
+
+    /**
+     * Creates a new {@link SimilarityKernel}.
+     *
+     * @return the new {@link SimilarityKernel}.
+     */
+    SimilarityKernel create();
+}
@@ -2,7 +2,6 @@ package dev.langchain4j.store.embedding;
 
 import dev.langchain4j.data.embedding.Embedding;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
@@ -32,6 +31,8 @@ public class CosineSimilarity {
      * <p>
      * Embeddings of all-zeros vectors are considered orthogonal to all other vectors;
      * including other all-zeros vectors.
+     * <p>
+     * The calculation is delegated to {@link SimilarityKernels#defaultKernel()}.
      *
      * @param embeddingA first embedding vector
      * @param embeddingB second embedding vector
@@ -41,26 +42,7 @@ public class CosineSimilarity {
         ensureNotNull(embeddingA, "embeddingA");
         ensureNotNull(embeddingB, "embeddingB");
 
-        float[] vectorA = embeddingA.vector();
-        float[] vectorB = embeddingB.vector();
-
-        if (vectorA.length != vectorB.length) {
-            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
-                    vectorA.length, vectorB.length);
-        }
-
-        double dotProduct = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-
-        for (int i = 0; i < vectorA.length; i++) {
-            dotProduct += vectorA[i] * vectorB[i];
-            normA += vectorA[i] * vectorA[i];
-            normB += vectorB[i] * vectorB[i];
-        }
-
-        // Avoid division by zero.
-        return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), EPSILON);
+        return SimilarityKernels.defaultKernel().cosineSimilarity(embeddingA.vector(), embeddingB.vector());
     }
 
     /**
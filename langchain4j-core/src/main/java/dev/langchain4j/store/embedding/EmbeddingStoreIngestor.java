@@ -1,6 +1,7 @@
 package dev.langchain4j.store.embedding;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -13,12 +14,16 @@ import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +52,28 @@ import org.slf4j.LoggerFactory;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * Large corpora can be ingested from an {@link Iterator} or a {@link Stream} of documents,
+ * see {@link #ingest(Iterator)}. Documents are then processed as a pipeline of bounded batches,
+ * so that memory usage does not depend on the size of the corpus.
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    static final int DEFAULT_BATCH_SIZE = 128;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final int batchSize;
+    private final int documentParallelism;
+    private final int embeddingParallelism;
+    private final Executor executor;
+    private final IngestionProgressListener progressListener;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,12 +92,28 @@ public class EmbeddingStoreIngestor {
             TextSegmentTransformer textSegmentTransformer,
             EmbeddingModel embeddingModel,
             EmbeddingStore<TextSegment> embeddingStore) {
-        this.documentTransformer = documentTransformer;
-        this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
-        this.textSegmentTransformer = textSegmentTransformer;
+        this(new Builder()
+                .documentTransformer(documentTransformer)
+                .documentSplitter(documentSplitter)
+                .textSegmentTransformer(textSegmentTransformer)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore));
+    }
+
+    private EmbeddingStoreIngestor(Builder builder) {
+        this.documentTransformer = builder.documentTransformer;
+        this.documentSplitter = getOrDefault(builder.documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
+        this.textSegmentTransformer = builder.textSegmentTransformer;
         this.embeddingModel = ensureNotNull(
-                getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
-        this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+                getOrDefault(builder.embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
+        this.embeddingStore = ensureNotNull(builder.embeddingStore, "embeddingStore");
+        this.batchSize = ensureGreaterThanZero(getOrDefault(builder.batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.documentParallelism =
+                ensureGreaterThanZero(getOrDefault(builder.documentParallelism, 1), "documentParallelism");
+        this.embeddingParallelism =
+                ensureGreaterThanZero(getOrDefault(builder.embeddingParallelism, 1), "embeddingParallelism");
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.progressListener = builder.progressListener;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -205,6 +238,71 @@ public class EmbeddingStoreIngestor {
         return new IngestionResult(embeddingsResponse.tokenUsage());
     }
 
+    /**
+     * Ingests documents from the specified iterator into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Unlike {@link #ingest(List)}, documents are not all held in memory at the same time.
+     * They are read, transformed and split one by one (or {@link Builder#documentParallelism(Integer)} at a time),
+     * and their text segments are embedded and stored in batches of {@link Builder#batchSize(Integer)},
+     * up to {@link Builder#embeddingParallelism(Integer)} batches at a time, on the {@link Builder#executor(Executor)}.
+     * When that many batches are being embedded, reading documents is paused until one of them is stored.
+     * <br>
+     * If a batch fails to be embedded or stored, no more documents are read,
+     * and the exception is rethrown once the batches in flight are done.
+     * Segments of previous batches remain in the embedding store.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     * @see Builder#progressListener(IngestionProgressListener)
+     */
+    public IngestionResult ingest(Iterator<Document> documents) {
+        log.debug("Starting to ingest documents in batches of {} text segments", batchSize);
+        IngestionPipeline pipeline = new IngestionPipeline(
+                this::process,
+                embeddingModel,
+                embeddingStore,
+                batchSize,
+                documentParallelism,
+                embeddingParallelism,
+                executor,
+                progressListener);
+        IngestionResult result = pipeline.run(documents);
+        log.debug("Finished ingesting documents");
+        return result;
+    }
+
+    /**
+     * Ingests documents from the specified stream into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}, see {@link #ingest(Iterator)}.
+     * The stream is closed once the ingestion is done.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        try (Stream<Document> stream = documents) {
+            return ingest(stream.iterator());
+        }
+    }
+
+    private List<TextSegment> process(Document document) {
+        List<Document> documents = singletonList(document);
+        if (documentTransformer != null) {
+            documents = documentTransformer.transformAll(documents);
+        }
+        List<TextSegment> segments;
+        if (documentSplitter != null) {
+            segments = documentSplitter.splitAll(documents);
+        } else {
+            segments = documents.stream().map(Document::toTextSegment).collect(toList());
+        }
+        if (textSegmentTransformer != null) {
+            segments = textSegmentTransformer.transformAll(segments);
+        }
+        return segments;
+    }
+
     /**
      * Creates a new EmbeddingStoreIngestor builder.
      *
@@ -224,6 +322,11 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer batchSize;
+        private Integer documentParallelism;
+        private Integer embeddingParallelism;
+        private Executor executor;
+        private IngestionProgressListener progressListener;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -289,14 +392,76 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the maximum number of text segments embedded and stored at once
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional. Default: 128.
+         *
+         * @param batchSize the batch size.
+         * @return {@code this}
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of documents transformed and split at the same time
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional. Default: 1.
+         *
+         * @param documentParallelism the document parallelism.
+         * @return {@code this}
+         */
+        public Builder documentParallelism(Integer documentParallelism) {
+            this.documentParallelism = documentParallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches embedded and stored at the same time
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional. Default: 1.
+         * <br>
+         * This also bounds memory usage: when that many batches are in flight, reading documents is paused.
+         *
+         * @param embeddingParallelism the embedding parallelism.
+         * @return {@code this}
+         */
+        public Builder embeddingParallelism(Integer embeddingParallelism) {
+            this.embeddingParallelism = embeddingParallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor used by {@link EmbeddingStoreIngestor#ingest(Iterator)}
+         * to embed and store batches, and to process documents in parallel. Optional.
+         * By default, {@link DefaultExecutorProvider#getDefaultExecutorService()} is used.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified each time a batch is stored by {@link EmbeddingStoreIngestor#ingest(Iterator)}.
+         * Optional.
+         *
+         * @param progressListener the progress listener.
+         * @return {@code this}
+         */
+        public Builder progressListener(IngestionProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
          * @return the EmbeddingStoreIngestor.
          */
         public EmbeddingStoreIngestor build() {
-            return new EmbeddingStoreIngestor(
-                    documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore);
+            return new EmbeddingStoreIngestor(this);
         }
     }
 }
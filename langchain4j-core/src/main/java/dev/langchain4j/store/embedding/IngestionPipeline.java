@@ -0,0 +1,190 @@
+package dev.langchain4j.store.embedding;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A single streaming ingestion, see {@link EmbeddingStoreIngestor#ingest(Iterator)}.
+ * <p>
+ * The calling thread reads the documents, transforms and splits them (up to {@code documentParallelism} at a time)
+ * and collects their text segments into batches of {@code batchSize}.
+ * Each full batch is embedded and stored on the executor, while the calling thread goes on with the next documents.
+ * At most {@code embeddingParallelism} batches are embedded at the same time:
+ * when that many are in flight, the calling thread waits before reading more documents.
+ * Thus, the number of documents and text segments held in memory is bounded, whatever the number of documents.
+ */
+class IngestionPipeline {
+
+    private final Function<Document, List<TextSegment>> documentProcessor;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final int batchSize;
+    private final int documentParallelism;
+    private final int embeddingParallelism;
+    private final Executor executor;
+    private final IngestionProgressListener progressListener;
+
+    private final Semaphore batchPermits;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private long storedTextSegments;
+    private TokenUsage tokenUsage;
+
+    IngestionPipeline(
+            Function<Document, List<TextSegment>> documentProcessor,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            int batchSize,
+            int documentParallelism,
+            int embeddingParallelism,
+            Executor executor,
+            IngestionProgressListener progressListener) {
+        this.documentProcessor = documentProcessor;
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.batchSize = batchSize;
+        this.documentParallelism = documentParallelism;
+        this.embeddingParallelism = embeddingParallelism;
+        this.executor = executor;
+        this.progressListener = progressListener;
+        this.batchPermits = new Semaphore(embeddingParallelism);
+    }
+
+    IngestionResult run(Iterator<Document> documents) {
+        long processedDocuments = 0;
+        List<TextSegment> batch = new ArrayList<>(batchSize);
+        List<Document> window = new ArrayList<>(documentParallelism);
+
+        try {
+            while (failure.get() == null && documents.hasNext()) {
+                window.clear();
+                while (window.size() < documentParallelism && documents.hasNext()) {
+                    window.add(documents.next());
+                }
+                for (List<TextSegment> segments : process(window)) {
+                    processedDocuments++;
+                    for (TextSegment segment : segments) {
+                        batch.add(segment);
+                        if (batch.size() == batchSize) {
+                            submit(batch, processedDocuments);
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, processedDocuments);
+            }
+        } finally {
+            awaitBatches();
+        }
+
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            if (throwable instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (throwable instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(throwable);
+        }
+
+        synchronized (this) {
+            return new IngestionResult(tokenUsage);
+        }
+    }
+
+    private List<List<TextSegment>> process(List<Document> documents) {
+        if (documents.size() == 1) {
+            return singletonList(documentProcessor.apply(documents.get(0)));
+        }
+
+        List<CompletableFuture<List<TextSegment>>> futures = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            futures.add(supplyAsync(() -> documentProcessor.apply(document), executor));
+        }
+        List<List<TextSegment>> segments = new ArrayList<>(documents.size());
+        for (CompletableFuture<List<TextSegment>> future : futures) {
+            segments.add(join(future));
+        }
+        return segments;
+    }
+
+    private void submit(List<TextSegment> batch, long processedDocuments) {
+        try {
+            batchPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (failure.get() != null) {
+            batchPermits.release();
+            return;
+        }
+        try {
+            runAsync(() -> embedAndStore(batch, processedDocuments), executor).whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    failure.compareAndSet(null, unwrap(throwable));
+                }
+                batchPermits.release();
+            });
+        } catch (RuntimeException e) {
+            batchPermits.release();
+            throw e;
+        }
+    }
+
+    private void embedAndStore(List<TextSegment> batch, long processedDocuments) {
+        Response<List<Embedding>> response = embeddingModel.embedAll(batch);
+        embeddingStore.addAll(response.content(), batch);
+        synchronized (this) {
+            storedTextSegments += batch.size();
+            tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+            if (progressListener != null) {
+                progressListener.onProgress(new IngestionProgress(processedDocuments, storedTextSegments, tokenUsage));
+            }
+        }
+    }
+
+    private void awaitBatches() {
+        batchPermits.acquireUninterruptibly(embeddingParallelism);
+        batchPermits.release(embeddingParallelism);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
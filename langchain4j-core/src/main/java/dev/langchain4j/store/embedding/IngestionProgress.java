@@ -0,0 +1,51 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Represents the progress of a streaming {@link EmbeddingStoreIngestor} ingestion process.
+ *
+ * @see IngestionProgressListener
+ */
+public class IngestionProgress {
+
+    private final long processedDocuments;
+    private final long storedTextSegments;
+    private final TokenUsage tokenUsage;
+
+    public IngestionProgress(long processedDocuments, long storedTextSegments, TokenUsage tokenUsage) {
+        this.processedDocuments = processedDocuments;
+        this.storedTextSegments = storedTextSegments;
+        this.tokenUsage = tokenUsage;
+    }
+
+    /**
+     * @return the number of documents that had been transformed and split
+     * when the last stored batch of text segments was complete.
+     */
+    public long processedDocuments() {
+        return processedDocuments;
+    }
+
+    /**
+     * @return the number of text segments embedded and stored so far.
+     */
+    public long storedTextSegments() {
+        return storedTextSegments;
+    }
+
+    /**
+     * @return the token usage of all text segments embedded so far.
+     */
+    public TokenUsage tokenUsage() {
+        return tokenUsage;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionProgress {" + " processedDocuments = "
+                + processedDocuments + ", storedTextSegments = "
+                + storedTextSegments + ", tokenUsage = "
+                + tokenUsage + " }";
+    }
+}
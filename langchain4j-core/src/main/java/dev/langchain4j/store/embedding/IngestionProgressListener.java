@@ -0,0 +1,17 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * A listener notified of the progress of a streaming {@link EmbeddingStoreIngestor} ingestion process.
+ */
+@FunctionalInterface
+public interface IngestionProgressListener {
+
+    /**
+     * Called each time a batch of text segments has been embedded and stored.
+     * Calls are never concurrent, but they can happen on different threads.
+     * An exception thrown by this method fails the ingestion.
+     *
+     * @param progress the progress of the ingestion.
+     */
+    void onProgress(IngestionProgress progress);
+}
@@ -0,0 +1,72 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+/**
+ * A {@link SimilarityKernel} implemented with plain Java loops.
+ * Products are computed in {@code float} and accumulated in {@code double}.
+ * <p>
+ * This kernel is always available and is used when no other kernel is registered.
+ */
+class ScalarSimilarityKernel implements SimilarityKernel {
+
+    static final ScalarSimilarityKernel INSTANCE = new ScalarSimilarityKernel();
+
+    @Override
+    public double dotProduct(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        double dotProduct = 0.0;
+        for (int i = 0; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public double norm(float[] vector) {
+        double sumOfSquares = 0.0;
+        for (float value : vector) {
+            sumOfSquares += value * value;
+        }
+        return Math.sqrt(sumOfSquares);
+    }
+
+    @Override
+    public double cosineSimilarity(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        double dotProduct = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+
+        for (int i = 0; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+            normA += vectorA[i] * vectorA[i];
+            normB += vectorB[i] * vectorB[i];
+        }
+
+        // Avoid division by zero.
+        return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double squaredEuclideanDistance(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        double sum = 0.0;
+        for (int i = 0; i < vectorA.length; i++) {
+            float difference = vectorA[i] - vectorB[i];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    static void ensureSameLength(float[] vectorA, float[] vectorB) {
+        if (vectorA.length != vectorB.length) {
+            throw illegalArgument(
+                    "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vectorA.length, vectorB.length);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.langchain4j.store.embedding;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Computes similarities and distances between dense float vectors.
+ * <p>
+ * All methods expect both vectors to have the same length and throw an {@link IllegalArgumentException} otherwise.
+ * <p>
+ * The kernel used by LangChain4j can be obtained via {@link SimilarityKernels#defaultKernel()}
+ * and replaced by registering a {@link dev.langchain4j.spi.store.embedding.SimilarityKernelFactory}.
+ * Implementations must be thread-safe.
+ */
+public interface SimilarityKernel {
+
+    /**
+     * Calculates the dot product of two vectors.
+     */
+    double dotProduct(float[] vectorA, float[] vectorB);
+
+    /**
+     * Calculates the L2 norm (magnitude) of a vector.
+     */
+    double norm(float[] vector);
+
+    /**
+     * Calculates the cosine similarity between two vectors, in the range [-1..1].
+     * <p>
+     * All-zeros vectors are considered orthogonal to all other vectors, including other all-zeros vectors.
+     *
+     * @see CosineSimilarity#between(dev.langchain4j.data.embedding.Embedding, dev.langchain4j.data.embedding.Embedding)
+     */
+    double cosineSimilarity(float[] vectorA, float[] vectorB);
+
+    /**
+     * Calculates the cosine similarity between two vectors whose norms (see {@link #norm(float[])})
+     * have already been computed.
+     * This avoids recomputing the norms when the same vector is compared many times,
+     * for example a query vector against every vector of an embedding store.
+     */
+    default double cosineSimilarity(float[] vectorA, double normA, float[] vectorB, double normB) {
+        return dotProduct(vectorA, vectorB) / Math.max(normA * normB, CosineSimilarity.EPSILON);
+    }
+
+    /**
+     * Calculates the dot product of a vector stored in a buffer and another vector,
+     * reading the {@code vectorB.length} components of the first one in place, in the byte order of the buffer,
+     * starting at byte {@code offsetA} of the buffer, without copying them.
+     * This is useful when many vectors are packed back to back in (off-heap or memory-mapped) buffers.
+     *
+     * @throws IndexOutOfBoundsException if the buffer has fewer than {@code offsetA + vectorB.length * Float.BYTES}
+     *                                   bytes
+     */
+    default double dotProduct(ByteBuffer vectorsA, int offsetA, float[] vectorB) {
+        double dotProduct = 0.0;
+        for (int i = 0; i < vectorB.length; i++) {
+            dotProduct += vectorsA.getFloat(offsetA + i * Float.BYTES) * vectorB[i];
+        }
+        return dotProduct;
+    }
+
+    /**
+     * Calculates the cosine similarity between a vector stored in a buffer
+     * (see {@link #dotProduct(ByteBuffer, int, float[])}) and another vector, whose norms have already been computed.
+     */
+    default double cosineSimilarity(ByteBuffer vectorsA, int offsetA, double normA, float[] vectorB, double normB) {
+        return dotProduct(vectorsA, offsetA, vectorB) / Math.max(normA * normB, CosineSimilarity.EPSILON);
+    }
+
+    /**
+     * Calculates the squared Euclidean (L2) distance between two vectors.
+     */
+    double squaredEuclideanDistance(float[] vectorA, float[] vectorB);
+
+    /**
+     * Calculates the Euclidean (L2) distance between two vectors.
+     */
+    default double euclideanDistance(float[] vectorA, float[] vectorB) {
+        return Math.sqrt(squaredEuclideanDistance(vectorA, vectorB));
+    }
+}
@@ -0,0 +1,52 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+
+import dev.langchain4j.spi.store.embedding.SimilarityKernelFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides access to {@link SimilarityKernel}s.
+ */
+public class SimilarityKernels {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimilarityKernels.class);
+
+    private SimilarityKernels() {}
+
+    /**
+     * Returns the kernel created by the first {@link SimilarityKernelFactory} found on the classpath
+     * that can run in the current JVM, or {@link #scalar()} if there is none.
+     * The kernel is resolved once and then reused.
+     */
+    public static SimilarityKernel defaultKernel() {
+        return DefaultKernelHolder.KERNEL;
+    }
+
+    /**
+     * Returns the scalar kernel, which is always available.
+     */
+    public static SimilarityKernel scalar() {
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    private static class DefaultKernelHolder {
+
+        private static final SimilarityKernel KERNEL = loadKernel();
+
+        private static SimilarityKernel loadKernel() {
+            for (SimilarityKernelFactory factory : loadFactories(SimilarityKernelFactory.class)) {
+                try {
+                    return factory.create();
+                } catch (RuntimeException | LinkageError e) {
+                    LOG.warn(
+                            "Similarity kernel from {} cannot be used, falling back to the next one: {}",
+                            factory.getClass().getName(),
+                            e.toString());
+                }
+            }
+            return ScalarSimilarityKernel.INSTANCE;
+        }
+    }
+}
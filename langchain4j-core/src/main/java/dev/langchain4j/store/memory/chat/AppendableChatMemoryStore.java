@@ -0,0 +1,54 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.memory.ChatMemory;
+import java.util.List;
+
+/**
+ * A {@link ChatMemoryStore} that can apply incremental changes to the stored messages.
+ * <p>
+ * The built-in {@link ChatMemory} implementations ({@code MessageWindowChatMemory} and {@code TokenWindowChatMemory})
+ * call {@link #updateMessages(Object, List)} with all the messages of the memory every time a message is added.
+ * When the store implements this interface, they call {@link #appendMessages(Object, List)},
+ * {@link #replaceSystemMessage(Object, SystemMessage, boolean)} and {@link #trimHead(Object, int)} instead,
+ * so that only the added and evicted messages have to be written, whatever the length of the conversation.
+ * <p>
+ * {@link #updateMessages(Object, List)} is still called when all the messages are replaced
+ * (e.g., by {@link ChatMemory#set(Iterable)}).
+ * <p>
+ * Implementations should apply each of these operations atomically.
+ */
+public interface AppendableChatMemoryStore extends ChatMemoryStore {
+
+    /**
+     * Appends messages to the end of the messages of a specified chat memory.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The messages to append, in order.
+     *                 Can be serialized to JSON using {@link ChatMessageSerializer}.
+     */
+    void appendMessages(Object memoryId, List<ChatMessage> messages);
+
+    /**
+     * Removes the oldest messages of a specified chat memory.
+     * The {@link SystemMessage}, if any, is always retained and is not counted, wherever it is.
+     * If there are fewer messages than {@code count}, all of them (except the {@code SystemMessage}) are removed.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param count    The number of messages to remove.
+     */
+    void trimHead(Object memoryId, int count);
+
+    /**
+     * Removes the {@link SystemMessage} of a specified chat memory, if any,
+     * and adds the given one either before or after all the other messages.
+     *
+     * @param memoryId      The ID of the chat memory.
+     * @param systemMessage The new system message.
+     * @param first         Whether the system message is added before ({@code true}) or after ({@code false})
+     *                      all the other messages.
+     */
+    void replaceSystemMessage(Object memoryId, SystemMessage systemMessage, boolean first);
+}
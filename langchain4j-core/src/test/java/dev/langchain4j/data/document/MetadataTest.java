@@ -368,6 +368,13 @@ class MetadataTest implements WithAssertions {
         assertThat(new Metadata().put("key", "value").containsKey("key")).isTrue();
     }
 
+    @Test
+    void get_object() {
+        assertThat(new Metadata().getObject("key")).isNull();
+        assertThat(new Metadata().put("key", "value").getObject("key")).isEqualTo("value");
+        assertThat(new Metadata().put("key", 1L).getObject("key")).isEqualTo(1L);
+    }
+
     @Test
     void putAll() {
         assertThat(new Metadata().putAll(Map.of("k1", "v1", "k2", "v2")).toMap())
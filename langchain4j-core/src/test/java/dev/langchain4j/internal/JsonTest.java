@@ -1,10 +1,14 @@
 package dev.langchain4j.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class JsonTest {
@@ -29,6 +33,29 @@ class JsonTest {
         assertThat(deserializedData.getSomeValue()).isEqualTo(testData.getSomeValue());
     }
 
+    @Test
+    void conversionFromParsedJsonWorks() {
+        Map<String, Object> parsed = new LinkedHashMap<>();
+        parsed.put("sampleDate", "2023-01-15");
+        parsed.put("sampleDateTime", "2023-01-15T10:20:00");
+        parsed.put("some_value", "value");
+
+        TestData converted = Json.convert(parsed, TestData.class);
+
+        assertThat(converted.getSampleDate()).isEqualTo(LocalDate.of(2023, 1, 15));
+        assertThat(converted.getSampleDateTime()).isEqualTo(LocalDateTime.of(2023, 1, 15, 10, 20));
+        assertThat(converted.getSomeValue()).isEqualTo("value");
+    }
+
+    @Test
+    void conversionFailsLikeConversionToJsonAndFromJson() {
+        Map<String, Object> parsed = Map.of("unknown", "value");
+
+        assertThatThrownBy(() -> Json.convert(parsed, TestData.class))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseExactlyInstanceOf(UnrecognizedPropertyException.class);
+    }
+
     private static class TestData {
 
         private LocalDate sampleDate;
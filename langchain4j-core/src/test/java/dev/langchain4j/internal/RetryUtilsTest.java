@@ -8,8 +8,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.exception.CircuitBreakerOpenException;
+import dev.langchain4j.exception.InvalidRequestException;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -176,4 +182,169 @@ class RetryUtilsTest {
         verifyNoMoreInteractions(mockAction);
         assertThat(Thread.interrupted()).isTrue();
     }
+
+    @Test
+    void should_retry_async_action_without_blocking() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(100).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new RuntimeException("Temporary error"))
+                        : CompletableFuture.completedFuture("Success"),
+                3);
+
+        assertThat(result).isNotDone();
+        assertThat(result.join()).isEqualTo("Success");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_fail_async_action_after_max_retries() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new RuntimeException("Network error");
+                },
+                2);
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("Network error");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_not_retry_async_action_on_non_retriable_exception() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new InvalidRequestException("Bad request"));
+                },
+                2);
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(InvalidRequestException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void should_fail_async_action_when_retry_is_rejected_by_executor() {
+        RuntimeException failure = new RuntimeException("Network error");
+
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .executor(runnable -> {
+                    throw new RejectedExecutionException("Executor is shut down");
+                })
+                .build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(() -> CompletableFuture.failedFuture(failure), 2);
+
+        assertThatThrownBy(result::join).hasCause(failure);
+        assertThat(failure.getSuppressed()).singleElement().isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void should_fail_async_action_when_retry_returns_null() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> attempts.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new RuntimeException("Network error"))
+                        : null,
+                2);
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(NullPointerException.class);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void should_not_retry_when_retry_budget_is_exhausted() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenThrow(new RuntimeException());
+
+        RetryUtils.RetryBudget retryBudget = new RetryUtils.RetryBudget(0.001, 2);
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .retryBudget(retryBudget)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5)).isInstanceOf(RuntimeException.class);
+
+        // 1 attempt + the 2 retries allowed by the budget, then 1 attempt without retry
+        verify(mockAction, times(4)).call();
+        verifyNoMoreInteractions(mockAction);
+    }
+
+    @Test
+    void should_open_circuit_breaker_after_consecutive_failures() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call())
+                .thenThrow(new RuntimeException())
+                .thenThrow(new RuntimeException())
+                .thenReturn("Success");
+
+        RetryUtils.CircuitBreaker circuitBreaker = new RetryUtils.CircuitBreaker(2, Duration.ofMillis(200));
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .circuitBreaker(circuitBreaker)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5)).isInstanceOf(RuntimeException.class);
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+        verify(mockAction, times(2)).call();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5)).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(policy.withRetryAsync(() -> CompletableFuture.completedFuture("Success")))
+                .isCompletedExceptionally();
+        verify(mockAction, times(2)).call();
+
+        Thread.sleep(300);
+
+        assertThat(policy.withRetry(mockAction, 5)).isEqualTo("Success");
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+        verify(mockAction, times(3)).call();
+        verifyNoMoreInteractions(mockAction);
+    }
+
+    @Test
+    void should_share_circuit_breaker_per_endpoint() {
+        assertThat(RetryUtils.circuitBreaker("https://api.example.com"))
+                .isSameAs(RetryUtils.circuitBreaker("https://api.example.com"))
+                .isNotSameAs(RetryUtils.circuitBreaker("https://other.example.com"));
+    }
+
+    @Test
+    void should_forget_circuit_breakers_no_longer_used() throws Exception {
+        RetryUtils.CircuitBreaker used = RetryUtils.circuitBreaker("https://used.example.com");
+        for (int i = 0; i < 1_000; i++) {
+            RetryUtils.circuitBreaker("https://unused-" + i + ".example.com");
+        }
+
+        for (int i = 0; i < 50 && RetryUtils.registeredCircuitBreakers() >= 1_000; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(RetryUtils.registeredCircuitBreakers()).isLessThan(1_000);
+        assertThat(RetryUtils.circuitBreaker("https://used.example.com")).isSameAs(used);
+    }
 }
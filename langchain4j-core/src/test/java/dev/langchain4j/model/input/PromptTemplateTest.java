@@ -110,6 +110,24 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_render_literal_text_around_variables() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{a}}{{ b }}, {c}, {{{d}}}, {{a}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "A");
+        variables.put("b", 2);
+        variables.put("{d", "D");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("A2, {c}, D}, A");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
@@ -3,8 +3,14 @@ package dev.langchain4j.store.embedding;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +25,12 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +204,147 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_documents_from_iterator_in_batches() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        EmbeddingModel embeddingModel = segments -> Response.from(
+                segments.stream().map(segment -> Embedding.from(new float[] {1})).collect(toList()),
+                new TokenUsage(segments.size()));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        List<IngestionProgress> progress = new CopyOnWriteArrayList<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(2)
+                .progressListener(progress::add)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents.stream());
+
+        // then
+        assertThat(ingestionResult.tokenUsage().inputTokenCount()).isEqualTo(5);
+
+        verify(embeddingStore).addAll(anyList(), eq(asList(segment("Document 0"), segment("Document 1"))));
+        verify(embeddingStore).addAll(anyList(), eq(asList(segment("Document 2"), segment("Document 3"))));
+        verify(embeddingStore).addAll(anyList(), eq(singletonList(segment("Document 4"))));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(progress).extracting(IngestionProgress::storedTextSegments).containsExactly(2L, 4L, 5L);
+        assertThat(progress).extracting(IngestionProgress::processedDocuments).containsExactly(2L, 4L, 5L);
+        assertThat(progress.get(2).tokenUsage().inputTokenCount()).isEqualTo(5);
+    }
+
+    @Test
+    void should_bound_the_number_of_documents_in_memory() {
+
+        // given
+        int batchSize = 10;
+        int embeddingParallelism = 2;
+        int documentCount = 1_000;
+
+        AtomicInteger readDocuments = new AtomicInteger();
+        AtomicInteger storedSegments = new AtomicInteger();
+        AtomicInteger maxPendingDocuments = new AtomicInteger();
+        AtomicInteger concurrentBatches = new AtomicInteger();
+        AtomicInteger maxConcurrentBatches = new AtomicInteger();
+
+        Iterator<Document> documents = Stream.generate(() -> {
+                    int read = readDocuments.incrementAndGet();
+                    maxPendingDocuments.accumulateAndGet(read - storedSegments.get(), Math::max);
+                    return Document.from("Document " + read);
+                })
+                .limit(documentCount)
+                .iterator();
+
+        EmbeddingModel embeddingModel = segments -> {
+            maxConcurrentBatches.accumulateAndGet(concurrentBatches.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentBatches.decrementAndGet();
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[] {1}))
+                    .collect(toList()));
+        };
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doAnswer(invocation -> {
+                    storedSegments.addAndGet(((List<?>) invocation.getArgument(1)).size());
+                    return null;
+                })
+                .when(embeddingStore)
+                .addAll(anyList(), anyList());
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(batchSize)
+                .embeddingParallelism(embeddingParallelism)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(storedSegments.get()).isEqualTo(documentCount);
+        assertThat(maxConcurrentBatches.get()).isLessThanOrEqualTo(embeddingParallelism);
+        // batches in flight, plus the batch being filled
+        assertThat(maxPendingDocuments.get()).isLessThanOrEqualTo(batchSize * (embeddingParallelism + 1));
+    }
+
+    @Test
+    void should_stop_reading_documents_when_a_batch_fails() {
+
+        // given
+        AtomicInteger readDocuments = new AtomicInteger();
+        Iterator<Document> documents = Stream.generate(
+                        () -> Document.from("Document " + readDocuments.incrementAndGet()))
+                .iterator();
+
+        AtomicInteger batches = new AtomicInteger();
+        EmbeddingModel embeddingModel = segments -> {
+            if (batches.incrementAndGet() == 3) {
+                throw new IllegalStateException("Embedding failed");
+            }
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[] {1}))
+                    .collect(toList()));
+        };
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(5)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(documents))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Embedding failed");
+        assertThat(batches.get()).isEqualTo(3);
+        assertThat(readDocuments.get()).isLessThanOrEqualTo(5 * 5);
+        verify(embeddingStore, times(2)).addAll(anyList(), anyList());
+    }
+
+    private static TextSegment segment(String text) {
+        return TextSegment.from(text, Metadata.from("index", "0"));
+    }
 }
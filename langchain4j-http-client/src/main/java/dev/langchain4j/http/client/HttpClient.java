@@ -1,9 +1,15 @@
 package dev.langchain4j.http.client;
 
 import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -22,6 +28,36 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request synchronously and passes the body of the response, as a stream,
+     * to the given reader. This method blocks until the reader returns.
+     * <p>
+     * Unlike {@link #execute(HttpRequest)}, the body is not buffered in memory first (when supported
+     * by the implementation), so that, for example, a large JSON response can be deserialized directly from the network.
+     * The default implementation buffers the body using {@link #execute(HttpRequest)}.
+     *
+     * @param request    the HTTP request to be executed.
+     * @param bodyReader the reader of the response body, for successful HTTP requests (2XX status codes)
+     * @param <T>        the type of the result of reading the body
+     * @return the result of the reader
+     * @throws HttpException    if the server returns a client (4XX) or server (5XX) error response
+     * @throws TimeoutException if the request or the reading of the body times out
+     * @throws RuntimeException if an unexpected error occurs during request execution (e.g., network issues)
+     *                          or while reading the body
+     */
+    default <T> T execute(HttpRequest request, HttpResponseBodyReader<T> bodyReader)
+            throws HttpException, RuntimeException {
+        SuccessfulHttpResponse response = execute(request);
+        byte[] body = response.bodyBytes();
+        try (InputStream inputStream = new ByteArrayInputStream(body == null ? new byte[0] : body)) {
+            return bodyReader.read(response, inputStream);
+        } catch (SocketTimeoutException | HttpTimeoutException e) {
+            throw new TimeoutException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
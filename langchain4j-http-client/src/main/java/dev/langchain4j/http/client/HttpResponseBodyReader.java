@@ -0,0 +1,27 @@
+package dev.langchain4j.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the body of a successful HTTP response as it is received,
+ * e.g. to deserialize a large JSON response without buffering it in memory first.
+ *
+ * @param <T> the type of the result of reading the body
+ * @see HttpClient#execute(HttpRequest, HttpResponseBodyReader)
+ */
+@FunctionalInterface
+public interface HttpResponseBodyReader<T> {
+
+    /**
+     * Reads the response body.
+     * The body stream is closed by the {@link HttpClient} once this method returns,
+     * so it must be fully consumed (or no longer needed) by then.
+     *
+     * @param response the response, with its status code and headers, but without body
+     * @param body     the response body stream
+     * @return the result of reading the body
+     * @throws IOException if the body cannot be read
+     */
+    T read(SuccessfulHttpResponse response, InputStream body) throws IOException;
+}
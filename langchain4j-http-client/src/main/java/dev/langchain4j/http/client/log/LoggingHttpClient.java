@@ -7,6 +7,7 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.HttpResponseBodyReader;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventContext;
@@ -55,6 +56,21 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public <T> T execute(HttpRequest request, HttpResponseBodyReader<T> bodyReader) throws HttpException {
+
+        if (logResponses) {
+            // the body must be buffered to be logged
+            return HttpClient.super.execute(request, bodyReader);
+        }
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        return delegateHttpClient.execute(request, bodyReader);
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventListener delegateListener) {
 
@@ -3,52 +3,190 @@ package dev.langchain4j.http.client.sse;
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.util.Arrays;
 
+/**
+ * Parses server-sent events directly from the UTF-8 bytes of the response body.
+ * <p>
+ * Lines may be terminated by {@code \n}, {@code \r} or {@code \r\n}. Empty lines dispatch the current event.
+ * The {@code event} and {@code data} fields are collected (with their values trimmed);
+ * other fields ({@code id}, {@code retry}) and comments (lines starting with {@code :}) are ignored.
+ * <p>
+ * The body is read into a reused buffer and scanned for line terminators and field names at the byte level.
+ * Only the data of each event is copied (once), and it is decoded into a {@code String} only if
+ * {@link ServerSentEvent#data()} is called: {@link ServerSentEvent#dataBytes()} can be deserialized directly instead.
+ */
 public class DefaultServerSentEventParser implements ServerSentEventParser {
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] EVENT = "event:".getBytes(UTF_8);
+    private static final byte[] DATA = "data:".getBytes(UTF_8);
+
     @Override
     public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
         ServerSentEventParsingHandle parsingHandle = new DefaultServerSentEventParsingHandle(httpResponseBody);
         ServerSentEventContext context = new ServerSentEventContext(parsingHandle);
+        EventBuilder eventBuilder = new EventBuilder(listener, context);
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(httpResponseBody, UTF_8))) {
+        try (InputStream inputStream = httpResponseBody) {
 
-            String event = null;
-            StringBuilder data = new StringBuilder();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer partialLine = new ByteBuffer();
+            boolean skipLineFeed = false;
 
-            String line;
-            while (!parsingHandle.isCancelled() && (line = reader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    if (!data.isEmpty()) {
-                        ServerSentEvent sse = new ServerSentEvent(event, data.toString());
-                        ignoringExceptions(() -> listener.onEvent(sse, context));
-                        event = null;
-                        data.setLength(0);
+            int read;
+            while (!parsingHandle.isCancelled() && (read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+                int lineStart = 0;
+                if (skipLineFeed && read > 0) {
+                    skipLineFeed = false;
+                    if (buffer[0] == '\n') {
+                        lineStart = 1;
                     }
-                    continue;
                 }
-
-                if (line.startsWith("event:")) {
-                    event = line.substring("event:".length()).trim();
-                } else if (line.startsWith("data:")) {
-                    String content = line.substring("data:".length());
-                    if (!data.isEmpty()) {
-                        data.append("\n");
+                for (int i = lineStart; i < read; i++) {
+                    byte b = buffer[i];
+                    if (b != '\n' && b != '\r') {
+                        continue;
+                    }
+                    if (parsingHandle.isCancelled()) {
+                        return;
+                    }
+                    if (partialLine.length > 0) {
+                        partialLine.append(buffer, lineStart, i - lineStart);
+                        eventBuilder.onLine(partialLine.bytes, 0, partialLine.length);
+                        partialLine.length = 0;
+                    } else {
+                        eventBuilder.onLine(buffer, lineStart, i - lineStart);
+                    }
+                    if (b == '\r') {
+                        if (i + 1 < read) {
+                            if (buffer[i + 1] == '\n') {
+                                i++;
+                            }
+                        } else {
+                            skipLineFeed = true;
+                        }
                     }
-                    data.append(content.trim());
+                    lineStart = i + 1;
                 }
+                partialLine.append(buffer, lineStart, read - lineStart);
             }
 
-            if (!parsingHandle.isCancelled() && !data.isEmpty()) {
-                ServerSentEvent sse = new ServerSentEvent(event, data.toString());
-                ignoringExceptions(() -> listener.onEvent(sse, context));
+            if (!parsingHandle.isCancelled()) {
+                if (partialLine.length > 0) {
+                    eventBuilder.onLine(partialLine.bytes, 0, partialLine.length);
+                }
+                eventBuilder.dispatch();
             }
         } catch (IOException e) {
             ignoringExceptions(() -> listener.onError(e));
         }
     }
+
+    /**
+     * Accumulates the fields of the current event and dispatches it on empty lines.
+     */
+    private static class EventBuilder {
+
+        private final ServerSentEventListener listener;
+        private final ServerSentEventContext context;
+
+        private final ByteBuffer data = new ByteBuffer();
+        private String event;
+
+        private byte[] lastEventBytes;
+        private String lastEvent;
+
+        EventBuilder(ServerSentEventListener listener, ServerSentEventContext context) {
+            this.listener = listener;
+            this.context = context;
+        }
+
+        void onLine(byte[] line, int offset, int length) {
+            if (length == 0) {
+                dispatch();
+            } else if (startsWith(line, offset, length, EVENT)) {
+                event = eventName(line, offset + EVENT.length, length - EVENT.length);
+            } else if (startsWith(line, offset, length, DATA)) {
+                int start = offset + DATA.length;
+                int end = offset + length;
+                while (start < end && (line[start] & 0xFF) <= ' ') {
+                    start++;
+                }
+                while (end > start && (line[end - 1] & 0xFF) <= ' ') {
+                    end--;
+                }
+                if (data.length > 0) {
+                    data.append((byte) '\n');
+                }
+                data.append(line, start, end - start);
+            }
+        }
+
+        void dispatch() {
+            if (data.length > 0) {
+                ServerSentEvent sse = new ServerSentEvent(event, Arrays.copyOf(data.bytes, data.length));
+                ignoringExceptions(() -> listener.onEvent(sse, context));
+                event = null;
+                data.length = 0;
+            }
+        }
+
+        /**
+         * Returns the trimmed event name, reusing the previous {@code String} when the name did not change,
+         * as most streams use one or a few event names.
+         */
+        private String eventName(byte[] line, int offset, int length) {
+            int start = offset;
+            int end = offset + length;
+            while (start < end && (line[start] & 0xFF) <= ' ') {
+                start++;
+            }
+            while (end > start && (line[end - 1] & 0xFF) <= ' ') {
+                end--;
+            }
+            if (lastEventBytes == null || !Arrays.equals(lastEventBytes, 0, lastEventBytes.length, line, start, end)) {
+                lastEventBytes = Arrays.copyOfRange(line, start, end);
+                lastEvent = new String(lastEventBytes, UTF_8);
+            }
+            return lastEvent;
+        }
+
+        private static boolean startsWith(byte[] line, int offset, int length, byte[] prefix) {
+            return length >= prefix.length
+                    && Arrays.equals(line, offset, offset + prefix.length, prefix, 0, prefix.length);
+        }
+    }
+
+    /**
+     * A growable byte array, reused across lines and events.
+     */
+    private static class ByteBuffer {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void append(byte b) {
+            ensureCapacity(length + 1);
+            bytes[length++] = b;
+        }
+
+        void append(byte[] source, int offset, int count) {
+            if (count <= 0) {
+                return;
+            }
+            ensureCapacity(length + count);
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
 }
@@ -1,17 +1,29 @@
 package dev.langchain4j.http.client.sse;
 
 import static dev.langchain4j.internal.Utils.quoted;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.Objects;
 
 public class ServerSentEvent {
 
     private final String event;
-    private final String data;
+    private final byte[] dataBytes;
+    private String data;
 
     public ServerSentEvent(String event, String data) {
         this.event = event;
         this.data = data;
+        this.dataBytes = null;
+    }
+
+    /**
+     * Creates an event from the UTF-8 bytes of its data, which are decoded only when {@link #data()} is called.
+     * The given array is owned by the event and must not be modified afterward.
+     */
+    ServerSentEvent(String event, byte[] dataBytes) {
+        this.event = event;
+        this.dataBytes = dataBytes;
     }
 
     public String event() {
@@ -19,24 +31,43 @@ public class ServerSentEvent {
     }
 
     public String data() {
+        String data = this.data;
+        if (data == null && dataBytes != null) {
+            data = new String(dataBytes, UTF_8);
+            this.data = data;
+        }
         return data;
     }
 
+    /**
+     * Returns the data of this event as UTF-8 bytes, e.g. to deserialize it without decoding it into a {@code String}.
+     * For the events created by {@link DefaultServerSentEventParser}, this is the array the data was parsed into,
+     * so it must not be modified.
+     *
+     * @return the UTF-8 bytes of the data, or {@code null} if there is no data
+     */
+    public byte[] dataBytes() {
+        if (dataBytes != null) {
+            return dataBytes;
+        }
+        return data == null ? null : data.getBytes(UTF_8);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (ServerSentEvent) obj;
-        return Objects.equals(this.event, that.event) && Objects.equals(this.data, that.data);
+        return Objects.equals(this.event, that.event) && Objects.equals(this.data(), that.data());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(event, data);
+        return Objects.hash(event, data());
     }
 
     @Override
     public String toString() {
-        return "ServerSentEvent {" + " event = " + quoted(event) + ", data = " + quoted(data) + " }";
+        return "ServerSentEvent {" + " event = " + quoted(event) + ", data = " + quoted(data()) + " }";
     }
 }
@@ -1,6 +1,7 @@
 package dev.langchain4j.http.client;
 
 import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -914,4 +915,76 @@ public abstract class HttpClientIT {
                     .isTrue();
         }
     }
+
+    @Test
+    void should_read_response_body_as_stream_sync() {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                                    {
+                                        "model": "gpt-4o-mini",
+                                        "messages": [
+                                            {
+                                                "role" : "user",
+                                                "content" : "What is the capital of Germany?"
+                                            }
+                                        ]
+                                    }
+                                    """)
+                    .build();
+
+            // when
+            AtomicReference<SuccessfulHttpResponse> responseReference = new AtomicReference<>();
+            String body = client.execute(request, (response, inputStream) -> {
+                responseReference.set(response);
+                return new String(inputStream.readAllBytes(), UTF_8);
+            });
+
+            // then
+            assertThat(responseReference.get().statusCode()).isEqualTo(200);
+            assertThat(responseReference.get().headers()).isNotEmpty();
+            assertThat(body).contains("Berlin");
+        }
+    }
+
+    @Test
+    void should_throw_400_when_reading_response_body_as_stream_sync() {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                                    {
+                                        "model": "gpt-4o-mini"
+                                    }
+                                    """) // missing field "messages"
+                    .build();
+
+            // when
+            try {
+                client.execute(request, (response, inputStream) -> fail("Should not read the body"));
+                fail("Should have thrown an exception");
+            } catch (Exception e) {
+                // then
+                assertThat(e).isExactlyInstanceOf(HttpException.class);
+                HttpException httpException = (HttpException) e;
+                assertThat(httpException.statusCode()).isEqualTo(400);
+                assertThat(httpException.getMessage()).contains("Missing required parameter: 'messages'");
+            }
+        }
+    }
 }
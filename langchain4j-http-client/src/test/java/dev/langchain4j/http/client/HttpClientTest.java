@@ -0,0 +1,89 @@
+package dev.langchain4j.http.client;
+
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.TimeoutException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HttpClientTest {
+
+    private static final HttpRequest REQUEST = HttpRequest.builder()
+            .method(POST)
+            .url("http://localhost/test")
+            .body("{}")
+            .build();
+
+    @Test
+    void should_pass_buffered_body_to_reader_by_default() {
+
+        // given
+        HttpClient client = MockHttpClient.thatAlwaysResponds(SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .headers(Map.of("Content-Type", List.of("application/json")))
+                .body("{\"answer\": 42}")
+                .build());
+
+        // when
+        String body = client.execute(REQUEST, (response, inputStream) -> {
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.contentType()).isEqualTo("application/json");
+            return new String(inputStream.readAllBytes(), UTF_8);
+        });
+
+        // then
+        assertThat(body).isEqualTo("{\"answer\": 42}");
+    }
+
+    @Test
+    void should_pass_empty_body_to_reader_when_response_has_no_body() {
+
+        // given
+        HttpClient client = MockHttpClient.thatAlwaysResponds(
+                SuccessfulHttpResponse.builder().statusCode(204).build());
+
+        // when
+        byte[] body = client.execute(REQUEST, (response, inputStream) -> inputStream.readAllBytes());
+
+        // then
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    void should_wrap_IOException_thrown_by_reader() {
+
+        // given
+        HttpClient client = MockHttpClient.thatAlwaysResponds(
+                SuccessfulHttpResponse.builder().statusCode(200).body("{}").build());
+        IOException exception = new IOException("cannot read");
+
+        // when-then
+        assertThatThrownBy(() -> client.execute(REQUEST, (response, inputStream) -> {
+                    throw exception;
+                }))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCause(exception);
+    }
+
+    @Test
+    void should_throw_TimeoutException_when_reader_times_out() {
+
+        // given
+        HttpClient client = MockHttpClient.thatAlwaysResponds(
+                SuccessfulHttpResponse.builder().statusCode(200).body("{}").build());
+        SocketTimeoutException exception = new SocketTimeoutException("Read timed out");
+
+        // when-then
+        assertThatThrownBy(() -> client.execute(REQUEST, (response, inputStream) -> {
+                    throw exception;
+                }))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasCause(exception);
+    }
+}
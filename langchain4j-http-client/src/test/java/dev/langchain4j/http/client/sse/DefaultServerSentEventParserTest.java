@@ -1,6 +1,7 @@
 package dev.langchain4j.http.client.sse;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import org.junit.jupiter.api.AfterEach;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -130,6 +133,79 @@ class DefaultServerSentEventParserTest {
         verify(listener, never()).onEvent(any());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"\r\n", "\r", "\n"})
+    void shouldParseEventsWithAnyLineEnding(String lineEnding) {
+
+        // given
+        String input = String.join(
+                lineEnding,
+                "event: first",
+                "data: First line",
+                "data: Second line",
+                "",
+                "id: 2",
+                "data: Second event",
+                "",
+                "");
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(eq(new ServerSentEvent("first", "First line\nSecond line")), any());
+        verify(listener).onEvent(eq(new ServerSentEvent(null, "Second event")), any());
+    }
+
+    @Test
+    void shouldParseEventsSplitAcrossReads() {
+
+        // given
+        String input = "event: greeting\r\ndata: Grüße, 世界 👋\r\n\r\ndata: {\"done\": true}\r\n\r\n";
+        InputStream stream = new OneByteAtATimeInputStream(new ByteArrayInputStream(input.getBytes(UTF_8)));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(eq(new ServerSentEvent("greeting", "Grüße, 世界 👋")), any());
+        verify(listener).onEvent(eq(new ServerSentEvent(null, "{\"done\": true}")), any());
+    }
+
+    @Test
+    void shouldParseEventsLongerThanReadBuffer() {
+
+        // given
+        String longData = "x".repeat(100_000);
+        String input = "data: " + longData + "\n\ndata: short\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(eq(new ServerSentEvent(null, longData)), any());
+        verify(listener).onEvent(eq(new ServerSentEvent(null, "short")), any());
+    }
+
+    @Test
+    void shouldExposeDataAsUtf8Bytes() {
+
+        // given
+        String input = "data: {\"text\": \"héllo\"}\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+        ArgumentCaptor<ServerSentEvent> captor = ArgumentCaptor.forClass(ServerSentEvent.class);
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(captor.capture(), any());
+        assertThat(captor.getValue().dataBytes()).isEqualTo("{\"text\": \"héllo\"}".getBytes(UTF_8));
+        assertThat(captor.getValue().data()).isEqualTo("{\"text\": \"héllo\"}");
+    }
+
     @Test
     void shouldHandleIOException() {
 
@@ -148,4 +224,16 @@ class DefaultServerSentEventParserTest {
         // then
         verify(listener).onError(simulatedIoException);
     }
+
+    private static class OneByteAtATimeInputStream extends FilterInputStream {
+
+        OneByteAtATimeInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
 }
@@ -1,16 +1,57 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
 import ai.onnxruntime.OrtSession;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
 
 abstract class AbstractInProcessScoringModel implements ScoringModel, AutoCloseable {
 
-    public AbstractInProcessScoringModel() {}
+    static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private final Executor executor;
+    private final int maxBatchSize;
+
+    public AbstractInProcessScoringModel() {
+        this(null, null);
+    }
+
+    /**
+     * @param executor     The executor to use to score batches in parallel.
+     *                     By default, a cached thread pool with as many threads as available processors is used.
+     * @param maxBatchSize The maximum number of query/document pairs scored by a single ONNX inference.
+     *                     Pairs are padded to the length of the longest one in their batch,
+     *                     so documents are batched with documents of similar length. Default: 32.
+     */
+    protected AbstractInProcessScoringModel(Executor executor, Integer maxBatchSize) {
+        this.executor = getOrDefault(executor, AbstractInProcessScoringModel::createDefaultExecutor);
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(maxBatchSize, DEFAULT_MAX_BATCH_SIZE), "maxBatchSize");
+    }
+
+    private static Executor createDefaultExecutor() {
+        int threadPoolSize = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor threadPoolExecutor =
+                new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 1, SECONDS, new LinkedBlockingQueue<>());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
 
     static OnnxScoringBertCrossEncoder loadFromFileSystem(
             String pathToModel,
@@ -27,10 +68,65 @@ abstract class AbstractInProcessScoringModel implements ScoringModel, AutoClosea
 
     protected abstract OnnxScoringBertCrossEncoder model();
 
+    /**
+     * Splits the segments into batches of segments of similar length, which are scored in parallel.
+     * The scores are returned in the order of the segments.
+     */
     public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
-        OnnxScoringBertCrossEncoder.ScoringAndTokenCount scoresAndTokenCount = this.model()
-                .scoreAll(query, segments.stream().map(TextSegment::text).collect(Collectors.toList()));
-        return Response.from(scoresAndTokenCount.scores, new TokenUsage(scoresAndTokenCount.tokenCount));
+        if (segments.size() <= maxBatchSize) {
+            OnnxScoringBertCrossEncoder.ScoringAndTokenCount scoresAndTokenCount = this.model()
+                    .scoreAll(query, segments.stream().map(TextSegment::text).collect(toList()));
+            return Response.from(scoresAndTokenCount.scores, new TokenUsage(scoresAndTokenCount.tokenCount));
+        }
+
+        List<Integer> order = IntStream.range(0, segments.size()).boxed().collect(toList());
+        order.sort(comparingInt(i -> segments.get(i).text().length()));
+
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < order.size(); from += maxBatchSize) {
+            batches.add(order.subList(from, Math.min(order.size(), from + maxBatchSize)));
+        }
+
+        int queryTokenCount = model().countTokens(query);
+        Double[] scores = new Double[segments.size()];
+        int[] tokenCounts = new int[batches.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            List<Integer> batch = batches.get(i);
+            int batchIndex = i;
+            futures.add(runAsync(
+                    () -> tokenCounts[batchIndex] = scoreBatch(segments, batch, query, queryTokenCount, scores),
+                    executor));
+        }
+        futures.forEach(AbstractInProcessScoringModel::join);
+
+        return Response.from(Arrays.asList(scores), new TokenUsage(Arrays.stream(tokenCounts).sum()));
+    }
+
+    private int scoreBatch(
+            List<TextSegment> segments, List<Integer> batch, String query, int queryTokenCount, Double[] scores) {
+        List<String> documents = batch.stream().map(i -> segments.get(i).text()).collect(toList());
+        List<Double> batchScores = model().score(query, documents);
+        int tokenCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            scores[batch.get(i)] = batchScores.get(i);
+            tokenCount += queryTokenCount + model().countTokens(documents.get(i));
+        }
+        return tokenCount;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     @Override
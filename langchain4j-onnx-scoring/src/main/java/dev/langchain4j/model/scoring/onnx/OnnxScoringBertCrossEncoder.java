@@ -92,22 +92,35 @@ class OnnxScoringBertCrossEncoder implements AutoCloseable {
     }
 
     ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
+        int queryTokenCount = countTokens(query);
         int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
-        PairList<String, String> pairs = new PairList<>();
+        for (String document : documents) {
+            tokenCount += queryTokenCount + countTokens(document);
+        }
+        return new ScoringAndTokenCount(score(query, documents), tokenCount);
+    }
+
+    /**
+     * Counts the tokens of the given text, without the special tokens [CLS] and [SEP].
+     */
+    int countTokens(String text) {
+        return tokenizer.tokenize(text).size() - 2;
+    }
+
+    /**
+     * Scores all the documents against the query with a single inference.
+     * The query/document pairs are padded to the length of the longest one.
+     */
+    List<Double> score(String query, List<String> documents) {
+        PairList<String, String> pairs = new PairList<>(documents.size());
         for (String document : documents) {
             pairs.add(query, document);
-            tokenCount += queryTokenCount
-                    + tokenizer.tokenize(document).size()
-                    - 2; // do not count special tokens [CLS] and [SEP]
         }
         try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
+            return this.toScore(result);
         } catch (OrtException e) {
             throw new RuntimeException(e);
         }
-        return new ScoringAndTokenCount(scores, tokenCount);
     }
 
     private Result encode(PairList<String, String> pairs) throws OrtException {
@@ -139,7 +152,7 @@ class OnnxScoringBertCrossEncoder implements AutoCloseable {
 
     private List<Double> toScore(OrtSession.Result result) throws OrtException {
         float[][] output = (float[][]) result.get(0).getValue();
-        List<Double> scores = new ArrayList<>();
+        List<Double> scores = new ArrayList<>(output.length);
         for (float[] floats : output) {
             if (normalize) {
                 scores.add(sigmoid(floats[0]));
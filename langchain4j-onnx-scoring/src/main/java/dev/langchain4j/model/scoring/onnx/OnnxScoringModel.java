@@ -1,6 +1,10 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 import ai.onnxruntime.OrtSession;
+import java.util.concurrent.Executor;
 
 public class OnnxScoringModel extends AbstractInProcessScoringModel {
 
@@ -34,10 +38,24 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
     }
 
+    private OnnxScoringModel(Builder builder) {
+        super(builder.executor, builder.maxBatchSize);
+        this.onnxBertBiEncoder = loadFromFileSystem(
+                ensureNotNull(builder.pathToModel, "pathToModel"),
+                getOrDefault(builder.options, OnnxScoringModel::newDefaultSessionOptions),
+                ensureNotNull(builder.pathToTokenizer, "pathToTokenizer"),
+                getOrDefault(builder.modelMaxLength, DEFAULT_MODEL_MAX_LENGTH),
+                getOrDefault(builder.normalize, DEFAULT_NORMALIZE));
+    }
+
     protected OnnxScoringBertCrossEncoder model() {
         return this.onnxBertBiEncoder;
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
     private static OrtSession.SessionOptions newDefaultSessionOptions() {
         try {
             return new OrtSession.SessionOptions();
@@ -56,4 +74,82 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
                         + "See https://onnxruntime.ai/docs/install/ for the full list of requirements.",
                 cause);
     }
+
+    public static class Builder {
+
+        private String pathToModel;
+        private OrtSession.SessionOptions options;
+        private String pathToTokenizer;
+        private Integer modelMaxLength;
+        private Boolean normalize;
+        private Executor executor;
+        private Integer maxBatchSize;
+
+        /**
+         * @param pathToModel The path to the model file (e.g., "/path/to/model.onnx")
+         * @return builder
+         */
+        public Builder pathToModel(String pathToModel) {
+            this.pathToModel = pathToModel;
+            return this;
+        }
+
+        /**
+         * @param options The ONNX runtime session options (e.g., to use the GPU). They are closed once the model is loaded.
+         * @return builder
+         */
+        public Builder options(OrtSession.SessionOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        /**
+         * @param pathToTokenizer The path to the tokenizer file (e.g., "/path/to/tokenizer.json")
+         * @return builder
+         */
+        public Builder pathToTokenizer(String pathToTokenizer) {
+            this.pathToTokenizer = pathToTokenizer;
+            return this;
+        }
+
+        /**
+         * @param modelMaxLength The maximum number of tokens of a query/document pair. Default: 510.
+         * @return builder
+         */
+        public Builder modelMaxLength(Integer modelMaxLength) {
+            this.modelMaxLength = modelMaxLength;
+            return this;
+        }
+
+        /**
+         * @param normalize Whether the scores should be normalized to [0, 1] with a sigmoid. Default: false.
+         * @return builder
+         */
+        public Builder normalize(Boolean normalize) {
+            this.normalize = normalize;
+            return this;
+        }
+
+        /**
+         * @param executor The executor to use to score batches in parallel.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize The maximum number of query/document pairs scored by a single ONNX inference. Default: 32.
+         * @return builder
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public OnnxScoringModel build() {
+            return new OnnxScoringModel(this);
+        }
+    }
 }
@@ -77,6 +77,40 @@ class OnnxScoringModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_score_in_parallel_batches_and_keep_order() {
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            segments.add(TextSegment.from(
+                    "Berlin has a population of 3,520,031 registered inhabitants in an area of 891.82 square kilometers."));
+            segments.add(TextSegment.from("New York City is famous for the Metropolitan Museum of Art."));
+        }
+
+        String query = "How many people live in Berlin?";
+
+        try (OnnxScoringModel batchingModel = OnnxScoringModel.builder()
+                .pathToModel(modelPath.toString())
+                .pathToTokenizer(tokenizerPath.toString())
+                .modelMaxLength(512)
+                .maxBatchSize(3)
+                .build()) {
+
+            // when
+            Response<List<Double>> response = batchingModel.scoreAll(segments, query);
+
+            // then
+            List<Double> scores = response.content();
+            assertThat(scores).hasSize(20);
+            for (int i = 0; i < 20; i += 2) {
+                assertThat(scores.get(i)).isCloseTo(8.663132667541504, withPercentage(0.1));
+                assertThat(scores.get(i + 1)).isCloseTo(-11.245542526245117, withPercentage(0.1));
+            }
+
+            assertThat(response.tokenUsage().inputTokenCount())
+                    .isEqualTo(model.scoreAll(segments, query).tokenUsage().inputTokenCount());
+        }
+    }
+
     @Test
     void should_implement_autocloseable() {
         assertThat(model).isInstanceOf(AutoCloseable.class);
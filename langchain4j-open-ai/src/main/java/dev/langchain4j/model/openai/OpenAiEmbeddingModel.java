@@ -1,6 +1,8 @@
 package dev.langchain4j.model.openai;
 
-import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutorService;
+import static dev.langchain4j.internal.ExceptionMapper.mappingException;
+import static dev.langchain4j.internal.RetryUtils.retryPolicyBuilder;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
@@ -9,10 +11,13 @@ import static dev.langchain4j.model.openai.internal.OpenAiUtils.tokenUsageFrom;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.time.Duration.ofSeconds;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.RetryUtils;
+import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
@@ -21,11 +26,16 @@ import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -39,15 +49,21 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer dimensions;
     private final String user;
     private final Integer maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
     private final Integer maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
     private final String encodingFormat;
     private final Map<String, Object> customParameters;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
 
+        String baseUrl = getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL);
         this.client = OpenAiClient.builder()
                 .httpClientBuilder(builder.httpClientBuilder)
-                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .baseUrl(baseUrl)
                 .apiKey(builder.apiKey)
                 .organizationId(builder.organizationId)
                 .projectId(builder.projectId)
@@ -64,12 +80,30 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimensions = builder.dimensions;
         this.user = builder.user;
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
+        RetryUtils.RetryPolicy.Builder retryPolicyBuilder = retryPolicyBuilder()
+                .delayMillis(500)
+                .jitterScale(0.2)
+                .backoffExp(1.5)
+                .retryBudget(builder.retryBudget)
+                .executor(builder.executor);
+        if (getOrDefault(builder.circuitBreakerEnabled, false)) {
+            retryPolicyBuilder.circuitBreaker(RetryUtils.circuitBreaker(baseUrl));
+        }
+        this.retryPolicy = retryPolicyBuilder.build();
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        this.maxConcurrentBatches = getOrDefault(builder.maxConcurrentBatches, 1);
+        this.executor = builder.executor;
         this.encodingFormat = builder.encodingFormat;
         this.customParameters = builder.customParameters == null
                 ? null
                 : unmodifiableMap(new LinkedHashMap<>(builder.customParameters));
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        if (this.maxTokensPerBatch != null) {
+            ensureGreaterThanZero(this.maxTokensPerBatch, "maxTokensPerBatch");
+        }
+        ensureGreaterThanZero(this.maxConcurrentBatches, "maxConcurrentBatches");
     }
 
     @Override
@@ -91,26 +125,67 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
         List<String> texts = textSegments.stream().map(TextSegment::text).toList();
 
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
+        List<List<String>> textBatches = partition(texts);
 
         return embedBatchedTexts(textBatches);
     }
 
-    private List<List<String>> partition(List<String> inputList, int size) {
+    /**
+     * Splits the texts into batches of at most {@code maxSegmentsPerBatch} texts
+     * and, when {@code maxTokensPerBatch} is set, of at most {@code maxTokensPerBatch} estimated tokens.
+     * A single text exceeding {@code maxTokensPerBatch} is sent alone.
+     */
+    private List<List<String>> partition(List<String> texts) {
         List<List<String>> result = new ArrayList<>();
-        for (int i = 0; i < inputList.size(); i += size) {
-            int fromIndex = i;
-            int toIndex = Math.min(i + size, inputList.size());
-            result.add(inputList.subList(fromIndex, toIndex));
+        int fromIndex = 0;
+        int batchTokens = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            int textTokens = maxTokensPerBatch == null ? 0 : estimateTokenCount(texts.get(i));
+            boolean batchFull = i - fromIndex == maxSegmentsPerBatch
+                    || (maxTokensPerBatch != null && i > fromIndex && batchTokens + textTokens > maxTokensPerBatch);
+            if (batchFull) {
+                result.add(texts.subList(fromIndex, i));
+                fromIndex = i;
+                batchTokens = 0;
+            }
+            batchTokens += textTokens;
+        }
+        if (fromIndex < texts.size()) {
+            result.add(texts.subList(fromIndex, texts.size()));
         }
         return result;
     }
 
+    private int estimateTokenCount(String text) {
+        if (tokenCountEstimator != null) {
+            return tokenCountEstimator.estimateTokenCountInText(text);
+        }
+        return text.length() / 4 + 1; // roughly 4 characters per token for English text
+    }
+
     private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
         List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
+        if (maxConcurrentBatches == 1 || textBatches.size() == 1) {
+            for (List<String> batch : textBatches) {
+                Response<List<Embedding>> response = embedTexts(batch);
+                responses.add(response);
+            }
+        } else {
+            Executor executor = getOrDefault(this.executor, () -> getDefaultExecutorService());
+            Deque<CompletableFuture<Response<List<Embedding>>>> inFlight = new ArrayDeque<>();
+            try {
+                for (List<String> batch : textBatches) {
+                    if (inFlight.size() == maxConcurrentBatches) {
+                        responses.add(join(inFlight.poll()));
+                    }
+                    inFlight.add(embedTextsAsync(batch, executor));
+                }
+                while (!inFlight.isEmpty()) {
+                    responses.add(join(inFlight.poll()));
+                }
+            } finally {
+                inFlight.forEach(future -> future.cancel(false));
+            }
         }
         return Response.from(
                 responses.stream()
@@ -123,7 +198,32 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                         .orElse(null));
     }
 
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
     private Response<List<Embedding>> embedTexts(List<String> texts) {
+        return retryPolicy.withRetry(() -> embedTextsOnce(texts), maxRetries);
+    }
+
+    /**
+     * Sends the batch on the executor. The retries are scheduled rather than waited for,
+     * so no thread of the executor is blocked between attempts.
+     */
+    private CompletableFuture<Response<List<Embedding>>> embedTextsAsync(List<String> texts, Executor executor) {
+        return retryPolicy.withRetryAsync(() -> supplyAsync(() -> embedTextsOnce(texts), executor), maxRetries);
+    }
+
+    private Response<List<Embedding>> embedTextsOnce(List<String> texts) {
 
         EmbeddingRequest request = EmbeddingRequest.builder()
                 .input(texts)
@@ -134,11 +234,10 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .customParameters(customParameters)
                 .build();
 
-        EmbeddingResponse response =
-                withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+        EmbeddingResponse response = mappingException(() -> client.embedding(request).execute());
 
         List<Embedding> embeddings = response.data().stream()
-                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.vector()))
                 .toList();
 
         return Response.from(embeddings, tokenUsageFrom(response.usage()));
@@ -164,7 +263,13 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private String user;
         private Duration timeout;
         private Integer maxRetries;
+        private Boolean circuitBreakerEnabled;
+        private RetryUtils.RetryBudget retryBudget;
         private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
         private Boolean logRequests;
         private Boolean logResponses;
         private Logger logger;
@@ -232,6 +337,28 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Enables the circuit breaker of the {@link #baseUrl(String) endpoint}, shared by all the models calling it.
+         * After 5 consecutive failed requests, requests fail immediately, without being sent nor retried, for 30 seconds.
+         * Then, a single request is let through: if it succeeds, requests are sent again.
+         * Default: false.
+         */
+        public OpenAiEmbeddingModelBuilder circuitBreakerEnabled(Boolean circuitBreakerEnabled) {
+            this.circuitBreakerEnabled = circuitBreakerEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the budget limiting the rate of retries, so that retrying during an outage does not multiply
+         * the load on the endpoint. When it is exhausted, failed requests are not retried.
+         * Pass the same instance to all the models calling the same endpoint to limit their retries together.
+         * By default, retries are only limited by {@link #maxRetries(Integer)}.
+         */
+        public OpenAiEmbeddingModelBuilder retryBudget(RetryUtils.RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         public OpenAiEmbeddingModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -279,6 +406,50 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the maximum number of tokens sent in a single request by {@code embedAll}.
+         * The segments are then split into batches by estimated token count, in addition to {@link #maxSegmentsPerBatch(Integer)}.
+         * Tokens are estimated with the {@link #tokenCountEstimator(TokenCountEstimator)} if set,
+         * or as one token per 4 characters otherwise.
+         * By default, segments are split by count only.
+         */
+        public OpenAiEmbeddingModelBuilder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the estimator used to split segments into batches of at most {@link #maxTokensPerBatch(Integer)} tokens,
+         * e.g. {@link OpenAiTokenCountEstimator}.
+         */
+        public OpenAiEmbeddingModelBuilder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches sent concurrently by {@code embedAll}.
+         * The embeddings are returned in the order of the segments, and the token usage of all batches is summed up.
+         * Default: 1 (batches are sent one after another).
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which batches are sent when {@link #maxConcurrentBatches(Integer)} is greater than 1.
+         * By default, the executor provided by {@link dev.langchain4j.internal.DefaultExecutorProvider} is used.
+         */
+        public OpenAiEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the format in which the embeddings are returned: {@code "float"} (the default) or {@code "base64"}.
+         * With {@code "base64"}, the responses are about 4 times smaller and are decoded faster.
+         */
         public OpenAiEmbeddingModelBuilder encodingFormat(String encodingFormat) {
             this.encodingFormat = encodingFormat;
             return this;
@@ -7,6 +7,7 @@ import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onPartialToolCall;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onUnmappedRawEvent;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.withLoggingExceptions;
+import static dev.langchain4j.internal.RetryUtils.retryPolicyBuilder;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNotNullOrEmpty;
@@ -25,6 +26,7 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.internal.ExceptionMapper;
 import dev.langchain4j.internal.MappingTrackingStreamingChatResponseHandler;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.internal.ToolCallBuilder;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.StreamingResponseHandler;
@@ -50,6 +52,8 @@ import dev.langchain4j.model.openai.spi.OpenAiStreamingChatModelBuilderFactory;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -70,11 +74,14 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
     private final boolean accumulateToolCallId;
     private final boolean useInputImageFormat;
     private final List<ChatModelListener> listeners;
+    private final int maxRetries;
+    private final RetryUtils.RetryPolicy retryPolicy;
 
     public OpenAiStreamingChatModel(OpenAiStreamingChatModelBuilder builder) {
+        String baseUrl = getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL);
         this.client = OpenAiClient.builder()
                 .httpClientBuilder(builder.httpClientBuilder)
-                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .baseUrl(baseUrl)
                 .apiKey(builder.apiKey)
                 .organizationId(builder.organizationId)
                 .projectId(builder.projectId)
@@ -135,6 +142,19 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
         this.accumulateToolCallId = getOrDefault(builder.accumulateToolCallId, true);
         this.useInputImageFormat = getOrDefault(builder.useInputImageFormat, false);
         this.listeners = copy(builder.listeners);
+        this.maxRetries = getOrDefault(builder.maxRetries, 0);
+        boolean circuitBreakerEnabled = getOrDefault(builder.circuitBreakerEnabled, false);
+        if (maxRetries > 0 || circuitBreakerEnabled) {
+            this.retryPolicy = retryPolicyBuilder()
+                    .delayMillis(500)
+                    .jitterScale(0.2)
+                    .backoffExp(1.5)
+                    .retryBudget(builder.retryBudget)
+                    .circuitBreaker(circuitBreakerEnabled ? RetryUtils.circuitBreaker(baseUrl) : null)
+                    .build();
+        } else {
+            this.retryPolicy = null;
+        }
     }
 
     @Override
@@ -160,6 +180,40 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
                 .streamOptions(StreamOptions.builder().includeUsage(true).build())
                 .build();
 
+        if (retryPolicy == null) {
+            stream(openAiRequest, handler, null);
+            return;
+        }
+
+        retryPolicy
+                .withRetryAsync(
+                        () -> {
+                            CompletableFuture<Void> started = new CompletableFuture<>();
+                            stream(openAiRequest, handler, started);
+                            return started;
+                        },
+                        maxRetries)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        RuntimeException mappedException = ExceptionMapper.DEFAULT.mapException(cause);
+                        withLoggingExceptions(() -> handler.onError(mappedException));
+                    }
+                });
+    }
+
+    /**
+     * Streams the response to the handler. When {@code started} is not {@code null},
+     * it is completed once the first event is received, and an error occurring before
+     * is reported to it (so that the request can be retried) instead of to the handler.
+     */
+    private void stream(
+            ChatCompletionRequest openAiRequest,
+            StreamingChatResponseHandler handler,
+            CompletableFuture<Void> started) {
+
         OpenAiStreamingResponseBuilder openAiResponseBuilder =
                 new OpenAiStreamingResponseBuilder(returnThinking, accumulateToolCallId);
         ToolCallBuilder toolCallBuilder = new ToolCallBuilder();
@@ -169,6 +223,9 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
 
         client.chatCompletion(openAiRequest)
                 .onRawPartialResponse(parsedAndRawResponse -> {
+                    if (started != null) {
+                        started.complete(null);
+                    }
                     trackingHandler.resetMappingTracking();
                     openAiResponseBuilder.append(parsedAndRawResponse);
                     handle(parsedAndRawResponse, toolCallBuilder, trackingHandler);
@@ -178,6 +235,9 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
                     }
                 })
                 .onComplete(() -> {
+                    if (started != null) {
+                        started.complete(null);
+                    }
                     if (toolCallBuilder.hasRequests()) {
                         onCompleteToolCall(trackingHandler, toolCallBuilder.buildAndReset());
                     }
@@ -187,7 +247,9 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
                 })
                 .onError(throwable -> {
                     RuntimeException mappedException = ExceptionMapper.DEFAULT.mapException(throwable);
-                    withLoggingExceptions(() -> handler.onError(mappedException));
+                    if (started == null || !started.completeExceptionally(mappedException)) {
+                        withLoggingExceptions(() -> handler.onError(mappedException));
+                    }
                 })
                 .execute();
     }
@@ -318,6 +380,9 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
         private Boolean accumulateToolCallId;
         private Boolean useInputImageFormat;
         private Duration timeout;
+        private Integer maxRetries;
+        private Boolean circuitBreakerEnabled;
+        private RetryUtils.RetryBudget retryBudget;
         private Boolean logRequests;
         private Boolean logResponses;
         private Logger logger;
@@ -571,6 +636,37 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
             return this;
         }
 
+        /**
+         * Sets how many times a request is retried when it fails before the first event of the response
+         * is received. Once the response has started streaming, errors are reported to the handler.
+         * Default: 0 (requests are not retried).
+         */
+        public OpenAiStreamingChatModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Enables the circuit breaker shared by all the models calling the same base URL,
+         * see {@link RetryUtils#circuitBreaker(String)}. While it is open, requests fail immediately
+         * with a {@link dev.langchain4j.exception.CircuitBreakerOpenException}. Disabled by default.
+         */
+        public OpenAiStreamingChatModelBuilder circuitBreakerEnabled(Boolean circuitBreakerEnabled) {
+            this.circuitBreakerEnabled = circuitBreakerEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the budget limiting the rate of retries, so that retrying during an outage does not multiply
+         * the load on the endpoint. When it is exhausted, failed requests are not retried.
+         * Pass the same instance to all the models calling the same endpoint to limit their retries together.
+         * By default, retries are only limited by {@link #maxRetries(Integer)}.
+         */
+        public OpenAiStreamingChatModelBuilder retryBudget(RetryUtils.RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         public OpenAiStreamingChatModelBuilder logRequests(Boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -51,14 +51,14 @@ class RequestExecutor<Response> implements SyncOrAsyncOrStreaming<Response> {
 
     @Override
     public Response execute() {
-        return executeRaw().parsedResponse();
+        return new SyncRequestExecutor<>(httpClient, httpRequest, responseClass, responseMapper).execute();
     }
 
     @Override
     public ParsedAndRawResponse<Response> executeRaw() {
         SyncRequestExecutor<Response> executor =
                 new SyncRequestExecutor<>(httpClient, httpRequest, responseClass, responseMapper);
-        return executor.execute();
+        return executor.executeRaw();
     }
 
     @Override
@@ -9,12 +9,16 @@ import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.CancellationUnsupportedHandle;
 import dev.langchain4j.model.chat.response.StreamingHandle;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventParsingHandleUtils.toStreamingHandle;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 class StreamingRequestExecutor<Response> {
 
+    private static final byte[] DONE = "[DONE]".getBytes(UTF_8);
+
     private final HttpClient httpClient;
     private final HttpRequest streamingHttpRequest;
     private final Class<Response> responseClass;
@@ -121,7 +125,8 @@ class StreamingRequestExecutor<Response> {
                     streamingHandle = toStreamingHandle(context.parsingHandle());
                 }
 
-                if ("[DONE]".equals(event.data())) {
+                byte[] data = event.dataBytes();
+                if (Arrays.equals(DONE, data)) {
                     return;
                 }
                 try {
@@ -129,7 +134,7 @@ class StreamingRequestExecutor<Response> {
                         errorHandler.accept(new RuntimeException(event.data()));
                         return;
                     }
-                    Response parsedResponse = Json.fromJson(event.data(), responseClass);
+                    Response parsedResponse = Json.fromJson(data, responseClass);
                     if (parsedResponse != null) {
                         ParsedAndRawResponse parsedAndRawResponse = ParsedAndRawResponse.builder()
                                 .parsedResponse(parsedResponse)
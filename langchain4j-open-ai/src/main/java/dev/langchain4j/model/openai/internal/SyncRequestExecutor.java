@@ -27,7 +27,18 @@ class SyncRequestExecutor<Response> {
         this.responseMapper = responseMapper;
     }
 
-    ParsedAndRawResponse<Response> execute() {
+    /**
+     * Deserializes the response body directly from the HTTP response stream, without buffering it.
+     * The raw HTTP response is not available, see {@link #executeRaw()}.
+     */
+    Response execute() {
+        if (responseMapper != null) {
+            return executeRaw().parsedResponse();
+        }
+        return httpClient.execute(httpRequest, (rawHttpResponse, body) -> Json.fromJson(body, responseClass));
+    }
+
+    ParsedAndRawResponse<Response> executeRaw() {
         SuccessfulHttpResponse rawHttpResponse = httpClient.execute(httpRequest);
         Response parsedResponse = responseMapper != null
                 ? responseMapper.apply(rawHttpResponse)
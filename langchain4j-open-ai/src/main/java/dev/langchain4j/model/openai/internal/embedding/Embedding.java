@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai.internal.embedding;
 
 import static java.util.Collections.unmodifiableList;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,6 +12,8 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -20,7 +23,7 @@ import java.util.Objects;
 public final class Embedding {
 
     @JsonProperty
-    private final List<Float> embedding;
+    private final float[] embedding;
 
     @JsonProperty
     private final Integer index;
@@ -30,7 +33,25 @@ public final class Embedding {
         this.index = builder.index;
     }
 
+    /**
+     * @return the embedding vector, as a list of boxed floats.
+     * Prefer {@link #vector()}, which does not copy nor box.
+     */
     public List<Float> embedding() {
+        if (embedding == null) {
+            return null;
+        }
+        List<Float> list = new ArrayList<>(embedding.length);
+        for (float value : embedding) {
+            list.add(value);
+        }
+        return unmodifiableList(list);
+    }
+
+    /**
+     * @return the embedding vector. The array is not copied: it must not be modified.
+     */
+    public float[] vector() {
         return embedding;
     }
 
@@ -47,14 +68,14 @@ public final class Embedding {
 
     @JacocoIgnoreCoverageGenerated
     private boolean equalTo(Embedding another) {
-        return Objects.equals(embedding, another.embedding) && Objects.equals(index, another.index);
+        return Arrays.equals(embedding, another.embedding) && Objects.equals(index, another.index);
     }
 
     @Override
     @JacocoIgnoreCoverageGenerated
     public int hashCode() {
         int h = 5381;
-        h += (h << 5) + Objects.hashCode(embedding);
+        h += (h << 5) + Arrays.hashCode(embedding);
         h += (h << 5) + Objects.hashCode(index);
         return h;
     }
@@ -62,7 +83,7 @@ public final class Embedding {
     @Override
     @JacocoIgnoreCoverageGenerated
     public String toString() {
-        return "Embedding{" + "embedding=" + embedding + ", index=" + index + "}";
+        return "Embedding{" + "embedding=" + Arrays.toString(embedding) + ", index=" + index + "}";
     }
 
     public static Builder builder() {
@@ -74,17 +95,28 @@ public final class Embedding {
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static final class Builder {
 
-        private List<Float> embedding;
+        private float[] embedding;
         private Integer index;
 
-        @JsonDeserialize(using = OpenAiEmbeddingDeserializer.class)
+        @JsonIgnore
         public Builder embedding(List<Float> embedding) {
             if (embedding != null) {
-                this.embedding = unmodifiableList(embedding);
+                float[] vector = new float[embedding.size()];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = embedding.get(i);
+                }
+                this.embedding = vector;
             }
             return this;
         }
 
+        @JsonProperty("embedding")
+        @JsonDeserialize(using = OpenAiEmbeddingDeserializer.class)
+        public Builder vector(float[] vector) {
+            this.embedding = vector;
+            return this;
+        }
+
         public Builder index(Integer index) {
             this.index = index;
             return this;
@@ -3,41 +3,54 @@ package dev.langchain4j.model.openai.internal.embedding;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.ArrayList;
-import java.util.Base64;
-import java.util.List;
+import java.util.Arrays;
 
-class OpenAiEmbeddingDeserializer extends JsonDeserializer<List<Float>> {
-    private static final TypeReference<List<Float>> FLOAT_LIST_TYPE_REFERENCE = new TypeReference<>() {};
+/**
+ * Deserializes an embedding vector straight into a {@code float[]}, without boxing,
+ * whether it is returned as an array of numbers ({@code encoding_format=float}, the default)
+ * or as base64-encoded little-endian floats ({@code encoding_format=base64}).
+ */
+class OpenAiEmbeddingDeserializer extends JsonDeserializer<float[]> {
+
+    private static final int INITIAL_CAPACITY = 1536;
 
     @Override
-    public List<Float> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+    public float[] deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JacksonException {
         JsonToken token = jsonParser.currentToken();
         if (token == JsonToken.START_ARRAY) {
-            return jsonParser.readValueAs(FLOAT_LIST_TYPE_REFERENCE);
+            return readFloatArray(jsonParser);
         } else if (token == JsonToken.VALUE_STRING) {
-            String base64 = jsonParser.getValueAsString();
-            byte[] decodedBytes = Base64.getDecoder().decode(base64);
-
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decodedBytes);
-            byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-            int floatCount = decodedBytes.length / Float.BYTES;
-            List<Float> result = new ArrayList<>(floatCount);
-
-            for (int i = 0; i < floatCount; i++) {
-                result.add(byteBuffer.getFloat());
-            }
-            return result;
+            return decodeBase64(jsonParser.getBinaryValue());
         } else {
             throw new IOException("Illegal embedding: " + token);
         }
     }
+
+    private static float[] readFloatArray(JsonParser jsonParser) throws IOException {
+        float[] vector = new float[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null || !token.isNumeric()) {
+                throw new IOException("Illegal embedding value: " + token);
+            }
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, size * 2);
+            }
+            vector[size++] = jsonParser.getFloatValue();
+        }
+        return size == vector.length ? vector : Arrays.copyOf(vector, size);
+    }
+
+    private static float[] decodeBase64(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
 }
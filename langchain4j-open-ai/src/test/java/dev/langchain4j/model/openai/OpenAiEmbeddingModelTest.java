@@ -1,13 +1,38 @@
 package dev.langchain4j.model.openai;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.CircuitBreakerOpenException;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.MockHttpClient;
 import dev.langchain4j.http.client.MockHttpClientBuilder;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class OpenAiEmbeddingModelTest {
@@ -93,6 +118,238 @@ class OpenAiEmbeddingModelTest {
                 """);
     }
 
+    @Test
+    void should_decode_base64_encoded_embeddings() {
+        // given
+        float[] vector = {0.1f, -0.2f, 0.3f};
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (float value : vector) {
+            buffer.putFloat(value);
+        }
+        String base64 = Base64.getEncoder().encodeToString(buffer.array());
+
+        MockHttpClient mockHttpClient = MockHttpClient.thatAlwaysResponds(SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .body("""
+                        {
+                          "model": "text-embedding-3-small",
+                          "data": [
+                            {
+                              "index": 0,
+                              "embedding": "%s"
+                            }
+                          ],
+                          "usage": {
+                            "prompt_tokens": 1,
+                            "total_tokens": 1
+                          }
+                        }
+                        """.formatted(base64))
+                .build());
+
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(mockHttpClient))
+                .modelName("text-embedding-3-small")
+                .encodingFormat("base64")
+                .build();
+
+        // when
+        Embedding embedding = model.embed("hello").content();
+
+        // then
+        assertThat(embedding.vector()).containsExactly(vector);
+        assertThat(mockHttpClient.request().body()).isEqualToIgnoringWhitespace("""
+                {
+                  "model": "text-embedding-3-small",
+                  "input": [
+                    "hello"
+                  ],
+                  "encoding_format": "base64"
+                }
+                """);
+    }
+
+    @Test
+    void should_send_batches_concurrently_and_return_embeddings_in_order() {
+        // given
+        EchoHttpClient httpClient = new EchoHttpClient();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(4)
+                .maxConcurrentBatches(3)
+                .executor(executor)
+                .build();
+
+        List<TextSegment> segments = IntStream.range(0, 50)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+
+        // when
+        Response<List<Embedding>> response;
+        try {
+            response = model.embedAll(segments);
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(response.content()).hasSize(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(response.content().get(i).vector()).containsExactly((float) i);
+        }
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(50);
+        assertThat(httpClient.batchSizes).hasSize(13);
+        assertThat(httpClient.maxConcurrentRequests.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void should_split_batches_by_estimated_token_count() {
+        // given
+        EchoHttpClient httpClient = new EchoHttpClient();
+
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .modelName("text-embedding-3-small")
+                .maxTokensPerBatch(5)
+                .tokenCountEstimator(new OpenAiTokenCountEstimator(OpenAiEmbeddingModelName.TEXT_EMBEDDING_3_SMALL))
+                .build();
+
+        List<TextSegment> segments = List.of(
+                TextSegment.from("1"),
+                TextSegment.from("2"),
+                TextSegment.from("3"),
+                TextSegment.from("4 5 6 7 8 9"),
+                TextSegment.from("10"),
+                TextSegment.from("11"));
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        // then
+        assertThat(response.content()).hasSize(6);
+        assertThat(response.content().get(3).vector()).containsExactly(4f);
+        assertThat(httpClient.batchSizes).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    void should_retry_failed_batches_sent_concurrently() {
+        // given
+        EchoHttpClient httpClient = new EchoHttpClient();
+        httpClient.failuresLeft.set(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                    .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                    .modelName("text-embedding-3-small")
+                    .maxSegmentsPerBatch(2)
+                    .maxConcurrentBatches(2)
+                    .executor(executor)
+                    .build();
+
+            List<TextSegment> segments = IntStream.range(0, 6)
+                    .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                    .toList();
+
+            // when
+            Response<List<Embedding>> response = model.embedAll(segments);
+
+            // then
+            assertThat(response.content())
+                    .extracting(embedding -> embedding.vector()[0])
+                    .containsExactly(0f, 1f, 2f, 3f, 4f, 5f);
+            assertThat(httpClient.requests.get()).isEqualTo(3 + 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_stop_sending_requests_when_circuit_breaker_is_open() {
+        // given
+        EchoHttpClient httpClient = new EchoHttpClient();
+        httpClient.failuresLeft.set(Integer.MAX_VALUE);
+
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .baseUrl("https://circuit-breaker-test.example.com/v1")
+                .modelName("text-embedding-3-small")
+                .maxRetries(0)
+                .circuitBreakerEnabled(true)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> model.embed("1")).isInstanceOf(InternalServerException.class);
+        }
+
+        // when-then
+        assertThatThrownBy(() -> model.embed("1")).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(httpClient.requests.get()).isEqualTo(5);
+    }
+
+    /**
+     * Responds to each text with a one-dimensional embedding holding the number the text starts with.
+     * The first {@code failuresLeft} requests fail with a 503 status code.
+     */
+    private static class EchoHttpClient implements HttpClient {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger concurrentRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            requests.incrementAndGet();
+            if (failuresLeft.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0) {
+                throw new HttpException(503, "Service Unavailable");
+            }
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                JsonNode input = OBJECT_MAPPER.readTree(request.body()).get("input");
+                batchSizes.add(input.size());
+                Thread.sleep(10);
+
+                List<String> data = new ArrayList<>();
+                for (int i = 0; i < input.size(); i++) {
+                    String number = input.get(i).asText().split(" ")[0];
+                    data.add("{\"index\": %d, \"embedding\": [%s]}".formatted(i, number));
+                }
+                return SuccessfulHttpResponse.builder()
+                        .statusCode(200)
+                        .body("""
+                                {
+                                  "model": "text-embedding-3-small",
+                                  "data": [%s],
+                                  "usage": {
+                                    "prompt_tokens": %d,
+                                    "total_tokens": %d
+                                  }
+                                }
+                                """.formatted(String.join(",", data), input.size(), input.size()))
+                        .build();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                concurrentRequests.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private static SuccessfulHttpResponse embeddingResponse() {
         return SuccessfulHttpResponse.builder().statusCode(200).body("""
                         {
@@ -0,0 +1,133 @@
+package dev.langchain4j.model.openai;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.MockHttpClient;
+import dev.langchain4j.http.client.MockHttpClientBuilder;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class OpenAiStreamingChatModelRetryTest {
+
+    private static final List<ServerSentEvent> EVENTS = List.of(
+            new ServerSentEvent(null, "{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Hello\"}}]}"),
+            new ServerSentEvent(null, "[DONE]"));
+
+    @Test
+    void should_retry_request_failing_before_streaming() throws Exception {
+
+        // given
+        FailingHttpClient httpClient = new FailingHttpClient(2, false);
+        StreamingChatModel model = model(httpClient, builder -> builder.maxRetries(2));
+
+        // when
+        ChatResponse response = chat(model).get(5, SECONDS);
+
+        // then
+        assertThat(response.aiMessage().text()).isEqualTo("Hello");
+        assertThat(httpClient.requests()).hasSize(3);
+    }
+
+    @Test
+    void should_not_retry_by_default() {
+
+        // given
+        FailingHttpClient httpClient = new FailingHttpClient(1, false);
+        StreamingChatModel model = model(httpClient, UnaryOperator.identity());
+
+        // when-then
+        assertThatThrownBy(() -> chat(model).get(5, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(InternalServerException.class);
+        assertThat(httpClient.requests()).hasSize(1);
+    }
+
+    @Test
+    void should_not_retry_request_failing_after_streaming_started() {
+
+        // given
+        FailingHttpClient httpClient = new FailingHttpClient(1, true);
+        StreamingChatModel model = model(httpClient, builder -> builder.maxRetries(2));
+
+        // when-then
+        assertThatThrownBy(() -> chat(model).get(5, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(InternalServerException.class);
+        assertThat(httpClient.requests()).hasSize(1);
+    }
+
+    private static StreamingChatModel model(
+            MockHttpClient httpClient,
+            UnaryOperator<OpenAiStreamingChatModel.OpenAiStreamingChatModelBuilder> customizer) {
+        return customizer
+                .apply(OpenAiStreamingChatModel.builder()
+                        .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                        .apiKey("test-key")
+                        .modelName("gpt-4o-mini"))
+                .build();
+    }
+
+    private static CompletableFuture<ChatResponse> chat(StreamingChatModel model) {
+        CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+        model.chat("Hi", new StreamingChatResponseHandler() {
+            @Override
+            public void onPartialResponse(String partialResponse) {}
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                futureResponse.complete(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                futureResponse.completeExceptionally(error);
+            }
+        });
+        return futureResponse;
+    }
+
+    /**
+     * Fails the first requests with a 503, either before or after streaming the first event.
+     */
+    private static class FailingHttpClient extends MockHttpClient {
+
+        private int failuresLeft;
+        private final boolean failAfterFirstEvent;
+
+        FailingHttpClient(int failures, boolean failAfterFirstEvent) {
+            super(EVENTS);
+            this.failuresLeft = failures;
+            this.failAfterFirstEvent = failAfterFirstEvent;
+        }
+
+        @Override
+        public synchronized void execute(
+                HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            if (failuresLeft == 0) {
+                super.execute(request, parser, listener);
+                return;
+            }
+            failuresLeft--;
+            requests().add(request);
+            if (failAfterFirstEvent) {
+                listener.onOpen(null);
+                listener.onEvent(EVENTS.get(0));
+            }
+            listener.onError(new HttpException(503, "Service Unavailable"));
+        }
+    }
+}
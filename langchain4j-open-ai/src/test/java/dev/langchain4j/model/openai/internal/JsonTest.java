@@ -0,0 +1,49 @@
+package dev.langchain4j.model.openai.internal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.exception.TimeoutException;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+
+    @Test
+    void should_throw_TimeoutException_when_reading_stream_times_out() {
+
+        // given
+        SocketTimeoutException exception = new SocketTimeoutException("Read timed out");
+        InputStream timingOutStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw exception;
+            }
+        };
+
+        // when-then
+        assertThatThrownBy(() -> Json.fromJson(timingOutStream, EmbeddingResponse.class))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasCause(exception);
+    }
+
+    @Test
+    void should_wrap_other_IOException_when_reading_stream() {
+
+        // given
+        IOException exception = new IOException("Connection reset");
+        InputStream failingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw exception;
+            }
+        };
+
+        // when-then
+        assertThatThrownBy(() -> Json.fromJson(failingStream, EmbeddingResponse.class))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCause(exception);
+    }
+}
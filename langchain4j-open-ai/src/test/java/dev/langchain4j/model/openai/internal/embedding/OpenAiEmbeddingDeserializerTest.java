@@ -1,21 +1,21 @@
 package dev.langchain4j.model.openai.internal.embedding;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -32,11 +32,16 @@ class OpenAiEmbeddingDeserializerTest {
         DeserializationContext context = mock(DeserializationContext.class);
 
         when(parser.currentToken()).thenReturn(JsonToken.START_ARRAY);
-        List<Float> expected = List.of(1.0f, 2.0f, 3.0f);
-        when(parser.readValueAs(any(TypeReference.class))).thenReturn(expected);
-
-        List<Float> result = deserializer.deserialize(parser, context);
-        assertEquals(expected, result);
+        when(parser.nextToken())
+                .thenReturn(
+                        JsonToken.VALUE_NUMBER_FLOAT,
+                        JsonToken.VALUE_NUMBER_INT,
+                        JsonToken.VALUE_NUMBER_FLOAT,
+                        JsonToken.END_ARRAY);
+        when(parser.getFloatValue()).thenReturn(1.0f, 2.0f, 3.0f);
+
+        float[] result = deserializer.deserialize(parser, context);
+        assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f}, result);
     }
 
     @Test
@@ -53,11 +58,11 @@ class OpenAiEmbeddingDeserializerTest {
         DeserializationContext context = mock(DeserializationContext.class);
 
         when(parser.currentToken()).thenReturn(JsonToken.VALUE_STRING);
-        when(parser.getValueAsString()).thenReturn(base64);
+        when(parser.getBinaryValue()).thenReturn(Base64.getDecoder().decode(base64));
 
-        List<Float> result = deserializer.deserialize(parser, context);
+        float[] result = deserializer.deserialize(parser, context);
 
-        assertListFloatEquals(original, result, 0.0001f);
+        assertListFloatEquals(original, toList(result), 0.0001f);
     }
 
     @Test
@@ -83,6 +88,7 @@ class OpenAiEmbeddingDeserializerTest {
         Embedding embedding = mapper.readValue(json, Embedding.class);
         assertEquals(1, embedding.index());
         assertListFloatEquals(List.of(1.0f, 2.0f, 3.0f), embedding.embedding(), 0.0001f);
+        assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f}, embedding.vector());
     }
 
     @Test
@@ -122,6 +128,42 @@ class OpenAiEmbeddingDeserializerTest {
         assertTrue(ex.getMessage().contains("Illegal embedding"));
     }
 
+    @Test
+    void testDeserializeEmbeddingWithIllegalArrayValue() {
+        String json =
+                """
+                {
+                  "index": 4,
+                  "embedding": [1.0, "2.0"]
+                }
+                """;
+        JsonProcessingException ex = assertThrows(JsonProcessingException.class, () -> {
+            mapper.readValue(json, Embedding.class);
+        });
+        assertTrue(ex.getMessage().contains("Illegal embedding value"));
+    }
+
+    @Test
+    void testDeserializeEmbeddingLargerThanInitialCapacity() throws Exception {
+        float[] original = new float[3072];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = i / 1000f;
+        }
+        String json = mapper.writeValueAsString(
+                Embedding.builder().vector(original).index(0).build());
+
+        Embedding embedding = mapper.readValue(json, Embedding.class);
+        assertArrayEquals(original, embedding.vector());
+    }
+
+    private static List<Float> toList(float[] vector) {
+        List<Float> list = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            list.add(value);
+        }
+        return list;
+    }
+
     private static void assertListFloatEquals(List<Float> expected, List<Float> actual, float delta) {
         assertEquals(expected.size(), actual.size(), "List size not equal");
         for (int i = 0; i < expected.size(); i++) {
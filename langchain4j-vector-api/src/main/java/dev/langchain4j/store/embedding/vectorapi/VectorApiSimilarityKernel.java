@@ -0,0 +1,161 @@
+package dev.langchain4j.store.embedding.vectorapi;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static jdk.incubator.vector.VectorOperators.ADD;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link SimilarityKernel} that uses the JDK Vector API to process
+ * as many vector components per instruction as the CPU allows.
+ * <p>
+ * Products are accumulated in {@code float} lanes and reduced at the end,
+ * so results may differ from the scalar kernel in the last few bits.
+ * <p>
+ * Requires the {@code jdk.incubator.vector} module to be resolved at runtime
+ * (for example, with {@code --add-modules jdk.incubator.vector}).
+ */
+public class VectorApiSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /**
+     * Later versions of the incubating API load vectors from memory segments instead of byte buffers.
+     * Without it, vectors stored in buffers are read by the scalar default implementation.
+     */
+    private static final boolean LOADS_FROM_BYTE_BUFFERS = loadsFromByteBuffers();
+
+    @Override
+    public double dotProduct(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vectorA.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector a = FloatVector.fromArray(SPECIES, vectorA, i);
+            FloatVector b = FloatVector.fromArray(SPECIES, vectorB, i);
+            sum = a.fma(b, sum);
+        }
+
+        double dotProduct = sum.reduceLanes(ADD);
+        for (; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public double dotProduct(ByteBuffer vectorsA, int offsetA, float[] vectorB) {
+        if (!LOADS_FROM_BYTE_BUFFERS) {
+            return SimilarityKernel.super.dotProduct(vectorsA, offsetA, vectorB);
+        }
+
+        ByteOrder order = vectorsA.order();
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vectorB.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector a = FloatVector.fromByteBuffer(SPECIES, vectorsA, offsetA + i * Float.BYTES, order);
+            FloatVector b = FloatVector.fromArray(SPECIES, vectorB, i);
+            sum = a.fma(b, sum);
+        }
+
+        double dotProduct = sum.reduceLanes(ADD);
+        for (; i < vectorB.length; i++) {
+            dotProduct += vectorsA.getFloat(offsetA + i * Float.BYTES) * vectorB[i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public double norm(float[] vector) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vector.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector v = FloatVector.fromArray(SPECIES, vector, i);
+            sum = v.fma(v, sum);
+        }
+
+        double sumOfSquares = sum.reduceLanes(ADD);
+        for (; i < vector.length; i++) {
+            sumOfSquares += vector[i] * vector[i];
+        }
+        return Math.sqrt(sumOfSquares);
+    }
+
+    @Override
+    public double cosineSimilarity(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        FloatVector dotProductSum = FloatVector.zero(SPECIES);
+        FloatVector normASum = FloatVector.zero(SPECIES);
+        FloatVector normBSum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vectorA.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector a = FloatVector.fromArray(SPECIES, vectorA, i);
+            FloatVector b = FloatVector.fromArray(SPECIES, vectorB, i);
+            dotProductSum = a.fma(b, dotProductSum);
+            normASum = a.fma(a, normASum);
+            normBSum = b.fma(b, normBSum);
+        }
+
+        double dotProduct = dotProductSum.reduceLanes(ADD);
+        double normA = normASum.reduceLanes(ADD);
+        double normB = normBSum.reduceLanes(ADD);
+        for (; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+            normA += vectorA[i] * vectorA[i];
+            normB += vectorB[i] * vectorB[i];
+        }
+
+        // Avoid division by zero.
+        return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), CosineSimilarity.EPSILON);
+    }
+
+    @Override
+    public double squaredEuclideanDistance(float[] vectorA, float[] vectorB) {
+        ensureSameLength(vectorA, vectorB);
+
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(vectorA.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector difference =
+                    FloatVector.fromArray(SPECIES, vectorA, i).sub(FloatVector.fromArray(SPECIES, vectorB, i));
+            sum = difference.fma(difference, sum);
+        }
+
+        double squaredDistance = sum.reduceLanes(ADD);
+        for (; i < vectorA.length; i++) {
+            float difference = vectorA[i] - vectorB[i];
+            squaredDistance += difference * difference;
+        }
+        return squaredDistance;
+    }
+
+    private static boolean loadsFromByteBuffers() {
+        try {
+            FloatVector.class.getMethod(
+                    "fromByteBuffer", VectorSpecies.class, ByteBuffer.class, int.class, ByteOrder.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static void ensureSameLength(float[] vectorA, float[] vectorB) {
+        if (vectorA.length != vectorB.length) {
+            throw illegalArgument(
+                    "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vectorA.length, vectorB.length);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.langchain4j.store.embedding.vectorapi;
+
+import dev.langchain4j.spi.store.embedding.SimilarityKernelFactory;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+
+/**
+ * Registers {@link VectorApiSimilarityKernel} as the default {@link SimilarityKernel}
+ * when the {@code jdk.incubator.vector} module is available.
+ * Otherwise, {@link #create()} throws and the scalar kernel is used.
+ */
+public class VectorApiSimilarityKernelFactory implements SimilarityKernelFactory {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    @Override
+    public SimilarityKernel create() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            throw new IllegalStateException(
+                    "Module " + VECTOR_MODULE + " is not available, run the JVM with --add-modules " + VECTOR_MODULE);
+        }
+        return new VectorApiSimilarityKernel();
+    }
+}
@@ -0,0 +1,87 @@
+package dev.langchain4j.store.embedding.vectorapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityKernels;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VectorApiSimilarityKernelTest {
+
+    private final SimilarityKernel kernel = new VectorApiSimilarityKernel();
+    private final SimilarityKernel scalar = SimilarityKernels.scalar();
+    private final Random random = new Random(42);
+
+    @Test
+    void should_be_used_as_default_kernel() {
+        assertThat(SimilarityKernels.defaultKernel()).isInstanceOf(VectorApiSimilarityKernel.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8, 17, 384, 1023})
+    void should_match_scalar_kernel(int dimension) {
+
+        // given
+        float[] a = randomVector(dimension);
+        float[] b = randomVector(dimension);
+
+        // then
+        assertThat(kernel.dotProduct(a, b)).isCloseTo(scalar.dotProduct(a, b), within(1e-3));
+        assertThat(kernel.norm(a)).isCloseTo(scalar.norm(a), within(1e-3));
+        assertThat(kernel.cosineSimilarity(a, b)).isCloseTo(scalar.cosineSimilarity(a, b), within(1e-5));
+        assertThat(kernel.cosineSimilarity(a, kernel.norm(a), b, kernel.norm(b)))
+                .isCloseTo(scalar.cosineSimilarity(a, b), within(1e-5));
+        assertThat(kernel.squaredEuclideanDistance(a, b))
+                .isCloseTo(scalar.squaredEuclideanDistance(a, b), within(1e-3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8, 17, 384, 1023})
+    void should_match_scalar_kernel_on_vectors_stored_in_buffer(int dimension) {
+
+        // given
+        float[] a = randomVector(dimension);
+        float[] b = randomVector(dimension);
+        int offset = dimension * Float.BYTES;
+
+        for (ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer vectors = ByteBuffer.allocateDirect(3 * dimension * Float.BYTES).order(byteOrder);
+            vectors.asFloatBuffer().put(dimension, a);
+
+            // then
+            assertThat(kernel.dotProduct(vectors, offset, b)).isCloseTo(scalar.dotProduct(a, b), within(1e-3));
+            assertThat(scalar.dotProduct(vectors, offset, b)).isCloseTo(scalar.dotProduct(a, b), within(1e-9));
+            assertThat(kernel.cosineSimilarity(vectors, offset, kernel.norm(a), b, kernel.norm(b)))
+                    .isCloseTo(scalar.cosineSimilarity(a, b), within(1e-5));
+        }
+    }
+
+    @Test
+    void should_consider_all_zeros_vectors_orthogonal() {
+        float[] zeros = new float[16];
+
+        assertThat(kernel.cosineSimilarity(zeros, zeros)).isZero();
+    }
+
+    @Test
+    void should_fail_on_different_lengths() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> kernel.dotProduct(new float[3], new float[4]))
+                .withMessage("Length of vector a (3) must be equal to the length of vector b (4)");
+    }
+
+    private float[] randomVector(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.langchain4j.data.document.loader;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import dev.langchain4j.data.document.Document;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Lazily loads the documents of the given files, in the order of the files.
+ * <p>
+ * Without an executor, each file is loaded by the consuming thread when the next document is requested.
+ * With an executor, up to {@code maxFilesInFlight} files are loaded ahead, in parallel, on the executor.
+ * <p>
+ * The loader returns {@code null} for the files that do not produce a document (blank, failed or unchanged),
+ * which are skipped.
+ * <p>
+ * The {@link LoadedDocument#onDelivery() delivery callback} of a document runs only when the document is returned
+ * by {@link #next()}, so that the documents loaded ahead but never consumed (e.g. when the stream is closed early)
+ * are not considered as loaded.
+ */
+class FileSystemDocumentIterator implements Iterator<Document> {
+
+    /**
+     * A document loaded from a file, and what to do when it is returned to the consumer.
+     */
+    record LoadedDocument(Document document, Runnable onDelivery) {
+
+        static LoadedDocument of(Document document) {
+            return document == null ? null : new LoadedDocument(document, () -> {});
+        }
+    }
+
+    private final Iterator<Path> files;
+    private final Function<Path, LoadedDocument> loader;
+    private final Executor executor;
+    private final int maxFilesInFlight;
+
+    private final Deque<CompletableFuture<LoadedDocument>> inFlight = new ArrayDeque<>();
+    private LoadedDocument next;
+
+    FileSystemDocumentIterator(
+            Iterator<Path> files, Function<Path, LoadedDocument> loader, Executor executor, int maxFilesInFlight) {
+        this.files = files;
+        this.loader = loader;
+        this.executor = executor;
+        this.maxFilesInFlight = maxFilesInFlight;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (executor == null) {
+                if (!files.hasNext()) {
+                    return false;
+                }
+                next = loader.apply(files.next());
+            } else {
+                while (inFlight.size() < maxFilesInFlight && files.hasNext()) {
+                    Path file = files.next();
+                    inFlight.add(supplyAsync(() -> loader.apply(file), executor));
+                }
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                next = join(inFlight.poll());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Document next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        LoadedDocument loaded = next;
+        next = null;
+        loaded.onDelivery().run();
+        return loaded.document();
+    }
+
+    /**
+     * Cancels the loads that are not started yet. The loads in progress are left to complete.
+     */
+    void close() {
+        inFlight.forEach(future -> future.cancel(false));
+        inFlight.clear();
+    }
+
+    private static LoadedDocument join(CompletableFuture<LoadedDocument> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
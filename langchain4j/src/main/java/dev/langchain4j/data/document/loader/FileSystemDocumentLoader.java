@@ -3,23 +3,37 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.DocumentSource;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.document.loader.FileSystemDocumentIterator.LoadedDocument;
 import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.data.document.source.FileSystemSource;
 import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -482,30 +496,218 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Lazily loads matching {@link Document}s from the specified directory. Does not use recursion.
+     * <br>
+     * Files are read and parsed as the returned stream is consumed, either by the consuming thread,
+     * or in parallel on the {@link FileSystemLoadingOptions#executor() executor} of the options.
+     * Thus, only a bounded number of documents are held in memory, whatever the number of files.
+     * Documents are returned in the order in which the files are found.
+     * When a {@link FileSystemLoadingOptions#manifest() manifest} is set, only new and changed files are loaded.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * The returned stream should be closed (e.g., with a try-with-resources statement) once consumed.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       Each file path is converted from absolute to relative
+     *                       (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @param options        The loading options.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocuments(
+            Path directoryPath,
+            PathMatcher pathMatcher,
+            DocumentParser documentParser,
+            FileSystemLoadingOptions options) {
+        ensureNotNull(options, "options");
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return streamDocuments(Files.list(directoryPath), pathMatcher, directoryPath, documentParser, options);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * Files are read and parsed as the returned stream is consumed, either by the consuming thread,
+     * or in parallel on the {@link FileSystemLoadingOptions#executor() executor} of the options.
+     * Thus, only a bounded number of documents are held in memory, whatever the number of files.
+     * Documents are returned in the order in which the files are found.
+     * When a {@link FileSystemLoadingOptions#manifest() manifest} is set, only new and changed files are loaded.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * The returned stream should be closed (e.g., with a try-with-resources statement) once consumed.
+     * It can be ingested with {@code EmbeddingStoreIngestor.ingest(stream.iterator())}.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       When traversing the directory tree, each file path is converted from absolute to relative
+     *                       (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     *                       Thus, {@code pathMatcher} should use relative patterns.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @param options        The loading options.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see dev.langchain4j.data.document.source.FileSystemSource FileSystemSource
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath,
+            PathMatcher pathMatcher,
+            DocumentParser documentParser,
+            FileSystemLoadingOptions options) {
+        ensureNotNull(options, "options");
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return streamDocuments(Files.walk(directoryPath), pathMatcher, directoryPath, documentParser, options);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lazily and recursively loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param options       The loading options.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see #streamDocumentsRecursively(Path, PathMatcher, DocumentParser, FileSystemLoadingOptions)
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, FileSystemLoadingOptions options) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true, DEFAULT_DOCUMENT_PARSER, options);
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
 
-        pathStream
+        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).forEach(file -> {
+            Document document = loadDocumentOrSkip(file, () -> loadDocument(file, documentParser));
+            if (document != null) {
+                documents.add(document);
+            }
+        });
+
+        return documents;
+    }
+
+    private static Stream<Document> streamDocuments(
+            Stream<Path> pathStream,
+            PathMatcher pathMatcher,
+            Path pathMatcherRoot,
+            DocumentParser documentParser,
+            FileSystemLoadingOptions options) {
+        FileSystemManifest manifest = options.manifest();
+        Function<Path, LoadedDocument> loader = manifest == null
+                ? file -> LoadedDocument.of(loadDocumentOrSkip(file, () -> loadDocument(file, documentParser)))
+                : file -> loadDocumentOrSkip(file, () -> loadDocumentIfChanged(file, documentParser, manifest));
+
+        FileSystemDocumentIterator documents = new FileSystemDocumentIterator(
+                matchingFiles(pathStream, pathMatcher, pathMatcherRoot).iterator(),
+                loader,
+                options.executor(),
+                options.maxFilesInFlight());
+
+        return StreamSupport.stream(spliteratorUnknownSize(documents, ORDERED | NONNULL), false)
+                .onClose(documents::close)
+                .onClose(pathStream::close);
+    }
+
+    private static Stream<Path> matchingFiles(Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
                 .map(pathMatcherRoot::relativize)
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
-                .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
+                .map(pathMatcherRoot::resolve);
+    }
 
-        return documents;
+    private static <T> T loadDocumentOrSkip(Path file, Supplier<T> loader) {
+        try {
+            return loader.get();
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+        }
+        return null;
+    }
+
+    /**
+     * Loads the document of the given file, unless the manifest shows that the file did not change.
+     * The file is read only once: its content is both hashed and parsed.
+     * The new state of the file is recorded in the manifest only when the document is delivered to the consumer.
+     */
+    private static LoadedDocument loadDocumentIfChanged(
+            Path file, DocumentParser documentParser, FileSystemManifest manifest) {
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        manifest.seen(absoluteFile);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            long size = attributes.size();
+
+            FileSystemManifest.FileState previous = manifest.get(absoluteFile);
+            if (previous != null && previous.lastModifiedMillis() == lastModifiedMillis && previous.size() == size) {
+                return null;
+            }
+
+            byte[] content = Files.readAllBytes(file);
+            FileSystemManifest.FileState current =
+                    new FileSystemManifest.FileState(lastModifiedMillis, size, FileSystemManifest.hash(content));
+            if (previous != null && previous.hash().equals(current.hash())) {
+                manifest.put(absoluteFile, current);
+                return null;
+            }
+
+            FileSystemSource source = from(file);
+            DocumentSource contentSource = new DocumentSource() {
+
+                @Override
+                public InputStream inputStream() {
+                    return new ByteArrayInputStream(content);
+                }
+
+                @Override
+                public Metadata metadata() {
+                    return source.metadata();
+                }
+            };
+            try {
+                Document document = DocumentLoader.load(contentSource, documentParser);
+                return new LoadedDocument(
+                        document,
+                        previous == null
+                                ? () -> manifest.put(absoluteFile, current)
+                                : () -> manifest.changed(absoluteFile, current));
+            } catch (BlankDocumentException e) {
+                // blank files are recorded too, so that they are not parsed again until they change
+                manifest.put(absoluteFile, current);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -0,0 +1,87 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options of the streaming loads of {@link FileSystemDocumentLoader},
+ * e.g. {@link FileSystemDocumentLoader#streamDocumentsRecursively(java.nio.file.Path, FileSystemLoadingOptions)}.
+ */
+public class FileSystemLoadingOptions {
+
+    static final int DEFAULT_MAX_FILES_IN_FLIGHT = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final Executor executor;
+    private final int maxFilesInFlight;
+    private final FileSystemManifest manifest;
+
+    public FileSystemLoadingOptions(Builder builder) {
+        this.executor = builder.executor;
+        this.maxFilesInFlight = ensureGreaterThanZero(
+                getOrDefault(builder.maxFilesInFlight, DEFAULT_MAX_FILES_IN_FLIGHT),
+                "maxFilesInFlight");
+        this.manifest = builder.manifest;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    public int maxFilesInFlight() {
+        return maxFilesInFlight;
+    }
+
+    public FileSystemManifest manifest() {
+        return manifest;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Executor executor;
+        private Integer maxFilesInFlight;
+        private FileSystemManifest manifest;
+
+        /**
+         * @param executor The executor on which the files are read and parsed, in parallel.
+         *                 By default, they are read and parsed one by one, by the thread consuming the documents.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxFilesInFlight The maximum number of files being read and parsed (or already parsed,
+         *                         but not yet consumed) at the same time, when an {@link #executor(Executor)} is set.
+         *                         It bounds the memory used by a load, whatever the number of files.
+         *                         Default: twice the number of available processors.
+         * @return builder
+         */
+        public Builder maxFilesInFlight(Integer maxFilesInFlight) {
+            this.maxFilesInFlight = maxFilesInFlight;
+            return this;
+        }
+
+        /**
+         * @param manifest The manifest recording the files loaded so far.
+         *                 When set, only new and changed files are loaded, and the manifest is updated accordingly.
+         *                 By default, all the files are loaded.
+         * @return builder
+         */
+        public Builder manifest(FileSystemManifest manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        public FileSystemLoadingOptions build() {
+            return new FileSystemLoadingOptions(this);
+        }
+    }
+}
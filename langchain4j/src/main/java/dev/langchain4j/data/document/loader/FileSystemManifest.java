@@ -0,0 +1,190 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the state (last modification time, size and SHA-256 hash of the content) of the files
+ * loaded by {@link FileSystemDocumentLoader}, so that subsequent loads skip the files that did not change.
+ * <p>
+ * A file is considered unchanged when its last modification time and size are the same as recorded:
+ * it is not even read. When they differ, the file is read and its hash is compared with the recorded one:
+ * a file that was only touched is not parsed either.
+ * <p>
+ * Files that fail to load are not recorded, so they are retried by the next load.
+ * Neither are the files whose documents are not consumed (e.g. when the stream of documents is closed early).
+ * <p>
+ * The manifest can be persisted with {@link #save(Path)} and read back with {@link #load(Path)}.
+ * It is thread-safe.
+ *
+ * @see FileSystemLoadingOptions.Builder#manifest(FileSystemManifest)
+ */
+public class FileSystemManifest {
+
+    private static final String SEPARATOR = "\t";
+
+    private final Map<Path, FileState> files = new ConcurrentHashMap<>();
+    private final Set<Path> seenFiles = ConcurrentHashMap.newKeySet();
+    private final Set<Path> changedFiles = ConcurrentHashMap.newKeySet();
+
+    record FileState(long lastModifiedMillis, long size, String hash) {}
+
+    /**
+     * Creates an empty manifest: all files are loaded by the first load using it.
+     *
+     * @return an empty manifest
+     */
+    public static FileSystemManifest empty() {
+        return new FileSystemManifest();
+    }
+
+    /**
+     * Reads a manifest previously written by {@link #save(Path)}.
+     *
+     * @param manifestFile the file to read the manifest from
+     * @return the manifest, or an empty manifest if the file does not exist
+     */
+    public static FileSystemManifest load(Path manifestFile) {
+        ensureNotNull(manifestFile, "manifestFile");
+        FileSystemManifest manifest = new FileSystemManifest();
+        if (!Files.exists(manifestFile)) {
+            return manifest;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(SEPARATOR, 4);
+                if (parts.length == 4) {
+                    manifest.files.put(
+                            Paths.get(parts[3]),
+                            new FileState(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes this manifest to the given file, replacing it atomically when the file system supports it.
+     *
+     * @param manifestFile the file to write the manifest to
+     */
+    public void save(Path manifestFile) {
+        ensureNotNull(manifestFile, "manifestFile");
+        Path absoluteManifestFile = manifestFile.toAbsolutePath();
+        try {
+            Path tempFile = Files.createTempFile(absoluteManifestFile.getParent(), ".manifest", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                for (Map.Entry<Path, FileState> entry : files.entrySet()) {
+                    String path = entry.getKey().toString();
+                    if (path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0) {
+                        continue; // such files are simply loaded again next time
+                    }
+                    FileState state = entry.getValue();
+                    writer.write(state.lastModifiedMillis() + SEPARATOR + state.size() + SEPARATOR + state.hash()
+                            + SEPARATOR + path);
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(tempFile, absoluteManifestFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteManifestFile, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the (absolute) paths of the files recorded in this manifest
+     */
+    public Set<Path> files() {
+        return Set.copyOf(files.keySet());
+    }
+
+    /**
+     * Removes from this manifest the files that were not found by the loads performed since the manifest
+     * was created, or since the last call to this method.
+     * Typically, it is called after a full load of a directory, to find out which files were deleted
+     * (so that their documents can be removed from the embedding store, for example).
+     *
+     * @return the (absolute) paths of the removed files
+     */
+    public Set<Path> removeUnseenFiles() {
+        Set<Path> removed = new HashSet<>();
+        for (Path file : files.keySet()) {
+            if (!seenFiles.contains(file) && files.remove(file) != null) {
+                removed.add(file);
+            }
+        }
+        seenFiles.clear();
+        return removed;
+    }
+
+    /**
+     * Returns the files that were already recorded in this manifest, and whose documents were loaded again
+     * because their content changed, since the manifest was created or since the last call to this method.
+     * The documents previously ingested for these files are outdated:
+     * typically, they should be removed from the embedding store before the new ones are ingested.
+     * <p>
+     * As files are recorded when their documents are consumed, calling this method right after a document
+     * is consumed tells whether the file of this document changed.
+     *
+     * @return the (absolute) paths of the changed files
+     */
+    public Set<Path> takeChangedFiles() {
+        Set<Path> changed = new HashSet<>();
+        for (Path file : changedFiles) {
+            if (changedFiles.remove(file)) {
+                changed.add(file);
+            }
+        }
+        return changed;
+    }
+
+    FileState get(Path file) {
+        return files.get(file);
+    }
+
+    void seen(Path file) {
+        seenFiles.add(file);
+    }
+
+    void put(Path file, FileState state) {
+        files.put(file, state);
+    }
+
+    void changed(Path file, FileState state) {
+        put(file, state);
+        changedFiles.add(file);
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
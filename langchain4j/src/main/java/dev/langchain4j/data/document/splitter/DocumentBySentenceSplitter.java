@@ -19,6 +19,8 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * For token-based limit, a {@link TokenCountEstimator} must be provided.
  * <p>
  * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
+ * The model is loaded once per JVM, when the first splitter using it is created, and shared by all splitters.
+ * Each thread splits with its own {@link SentenceDetectorME}, so a splitter can be used by multiple threads at once.
  * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
@@ -32,26 +34,33 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
-    private final SentenceModel sentenceModel;
+    private static final String DEFAULT_SENTENCE_MODEL_FILE_PATH = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
+
+    private static final ThreadLocal<SentenceDetectorME> DEFAULT_SENTENCE_DETECTOR =
+            ThreadLocal.withInitial(() -> new SentenceDetectorME(defaultSentenceModel()));
+
+    private static volatile SentenceModel defaultSentenceModel;
+
+    private final ThreadLocal<SentenceDetectorME> sentenceDetector;
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceDetector = defaultSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceDetector = defaultSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       TokenCountEstimator tokenCountEstimator) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceDetector = defaultSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -59,7 +68,7 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       TokenCountEstimator tokenCountEstimator,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceDetector = defaultSentenceDetector();
     }
 
     /**
@@ -73,12 +82,35 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       DocumentSplitter subSplitter,
                                       SentenceModel sentenceModel) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.sentenceModel = ensureNotNull(sentenceModel, "sentenceModel");
+        ensureNotNull(sentenceModel, "sentenceModel");
+        this.sentenceDetector = ThreadLocal.withInitial(() -> new SentenceDetectorME(sentenceModel));
+    }
+
+    private static ThreadLocal<SentenceDetectorME> defaultSentenceDetector() {
+        defaultSentenceModel(); // fails fast, in the constructor, if the model cannot be loaded
+        return DEFAULT_SENTENCE_DETECTOR;
+    }
+
+    /**
+     * Loads the default sentence model on first use, exactly once per JVM.
+     * If loading fails, it is attempted again by the next splitter.
+     */
+    private static SentenceModel defaultSentenceModel() {
+        SentenceModel sentenceModel = defaultSentenceModel;
+        if (sentenceModel == null) {
+            synchronized (DocumentBySentenceSplitter.class) {
+                sentenceModel = defaultSentenceModel;
+                if (sentenceModel == null) {
+                    sentenceModel = loadDefaultSentenceModel();
+                    defaultSentenceModel = sentenceModel;
+                }
+            }
+        }
+        return sentenceModel;
     }
 
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
+    private static SentenceModel loadDefaultSentenceModel() {
+        try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(DEFAULT_SENTENCE_MODEL_FILE_PATH)) {
             return new SentenceModel(is);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -87,8 +119,7 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return sentenceDetector.get().sentDetect(text);
     }
 
     @Override
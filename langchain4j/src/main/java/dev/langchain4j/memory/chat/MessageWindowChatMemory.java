@@ -11,6 +11,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -43,6 +44,7 @@ import java.util.function.Function;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the added and evicted messages are written to it.
  */
 public class MessageWindowChatMemory implements ChatMemory {
 
@@ -66,7 +68,9 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = window(storedMessages);
+        boolean replacesSystemMessage = false;
 
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = SystemMessage.findFirst(messages);
@@ -75,6 +79,7 @@ public class MessageWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(systemMessage.get()); // need to replace existing system message
+                    replacesSystemMessage = true;
                 }
             }
         }
@@ -89,7 +94,22 @@ public class MessageWindowChatMemory implements ChatMemory {
         ensureGreaterThanZero(maxMessages, "maxMessages");
         ensureCapacity(messages, maxMessages);
 
-        store.updateMessages(id, messages);
+        if (store instanceof AppendableChatMemoryStore appendableStore) {
+            // messages are only ever evicted from the head (skipping the system message),
+            // so the store can be brought to the same state without rewriting the retained messages
+            if (message instanceof SystemMessage systemMessage) {
+                appendableStore.replaceSystemMessage(id, systemMessage, alwaysKeepSystemMessageFirst);
+            } else {
+                appendableStore.appendMessages(id, List.of(message));
+            }
+            // includes the messages evicted when reading, if the window has shrunk since the last update
+            int evictedMessages = storedMessages.size() + (replacesSystemMessage ? 0 : 1) - messages.size();
+            if (evictedMessages > 0) {
+                appendableStore.trimHead(id, evictedMessages);
+            }
+        } else {
+            store.updateMessages(id, messages);
+        }
     }
 
     @Override
@@ -112,9 +132,13 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public List<ChatMessage> messages() {
+        return window(store.getMessages(id));
+    }
+
+    private List<ChatMessage> window(List<ChatMessage> storedMessages) {
         Integer maxMessages = this.maxMessagesProvider.apply(this.id);
         ensureGreaterThanZero(maxMessages, "maxMessages");
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
         ensureCapacity(messages, maxMessages);
         return messages;
     }
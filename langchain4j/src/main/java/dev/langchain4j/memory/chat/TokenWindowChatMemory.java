@@ -12,10 +12,13 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -45,6 +48,7 @@ import java.util.function.Function;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the added and evicted messages are written to it.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -54,6 +58,16 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final ChatMemoryStore store;
     private final boolean alwaysKeepSystemMessageFirst;
 
+    /**
+     * The token counts of the messages retained in the memory, so that each message is only estimated once.
+     * Keyed by equality rather than identity, so that the messages a persistent {@link ChatMemoryStore}
+     * deserializes anew on each read still find the counts estimated for their previous copies.
+     * Replaced (never modified) after each update, so that it is safe to read concurrently.
+     */
+    private volatile Map<ChatMessage, Integer> tokenCounts = Map.of();
+
+    private volatile Integer messagesOverhead;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokensProvider = ensureNotNull(builder.maxTokensProvider, "maxTokensProvider");
@@ -70,7 +84,9 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = window(storedMessages);
+        boolean replacesSystemMessage = false;
 
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = SystemMessage.findFirst(messages);
@@ -79,6 +95,7 @@ public class TokenWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    replacesSystemMessage = true;
                 }
             }
         }
@@ -91,9 +108,24 @@ public class TokenWindowChatMemory implements ChatMemory {
 
         Integer maxTokens = maxTokensProvider.apply(id);
         ensureGreaterThanZero(maxTokens, "maxTokens");
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-
-        store.updateMessages(id, messages);
+        ensureCapacity(messages, maxTokens);
+
+        if (store instanceof AppendableChatMemoryStore appendableStore) {
+            // messages are only ever evicted from the head (skipping the system message),
+            // so the store can be brought to the same state without rewriting the retained messages
+            if (message instanceof SystemMessage systemMessage) {
+                appendableStore.replaceSystemMessage(id, systemMessage, alwaysKeepSystemMessageFirst);
+            } else {
+                appendableStore.appendMessages(id, List.of(message));
+            }
+            // includes the messages evicted when reading, if the window has shrunk since the last update
+            int evictedMessages = storedMessages.size() + (replacesSystemMessage ? 0 : 1) - messages.size();
+            if (evictedMessages > 0) {
+                appendableStore.trimHead(id, evictedMessages);
+            }
+        } else {
+            store.updateMessages(id, messages);
+        }
     }
 
     @Override
@@ -110,39 +142,57 @@ public class TokenWindowChatMemory implements ChatMemory {
     private void set(List<ChatMessage> messages) {
         Integer maxTokens = maxTokensProvider.apply(id);
         ensureGreaterThanZero(maxTokens, "maxTokens");
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
+        ensureCapacity(messages, maxTokens);
         store.updateMessages(id, messages);
     }
 
     @Override
     public List<ChatMessage> messages() {
+        return window(store.getMessages(id));
+    }
+
+    private List<ChatMessage> window(List<ChatMessage> storedMessages) {
         Integer maxTokens = maxTokensProvider.apply(id);
         ensureGreaterThanZero(maxTokens, "maxTokens");
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
+        ensureCapacity(messages, maxTokens);
         return messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, TokenCountEstimator estimator) {
+    private void ensureCapacity(List<ChatMessage> messages, int maxTokens) {
 
         if (messages.isEmpty()) {
+            tokenCounts = Map.of();
             return;
         }
 
-        int currentTokenCount = estimator.estimateTokenCountInMessages(messages);
+        Map<ChatMessage, Integer> previousTokenCounts = tokenCounts;
+        Map<ChatMessage, Integer> currentTokenCounts = new HashMap<>(messages.size() * 2);
+        int currentTokenCount = messagesOverhead(messages.get(0));
+        for (ChatMessage message : messages) {
+            Integer tokenCount = currentTokenCounts.get(message);
+            if (tokenCount == null) {
+                tokenCount = previousTokenCounts.get(message);
+                if (tokenCount == null) {
+                    tokenCount = tokenCountEstimator.estimateTokenCountInMessage(message);
+                }
+                currentTokenCounts.put(message, tokenCount);
+            }
+            currentTokenCount += tokenCount;
+        }
+
         while (currentTokenCount > maxTokens && !messages.isEmpty()) {
 
             int messageToEvictIndex = 0;
             if (messages.get(0) instanceof SystemMessage) {
                 if (messages.size() == 1) {
-                    return;
+                    break;
                 }
                 messageToEvictIndex = 1;
             }
 
             ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = estimator.estimateTokenCountInMessage(evictedMessage);
-            currentTokenCount -= tokenCountOfEvictedMessage;
+            currentTokenCount -= evict(evictedMessage, currentTokenCounts);
 
             if (evictedMessage instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
                 while (messages.size() > messageToEvictIndex
@@ -150,10 +200,32 @@ public class TokenWindowChatMemory implements ChatMemory {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
                     ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    currentTokenCount -= estimator.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    currentTokenCount -= evict(orphanToolExecutionResultMessage, currentTokenCounts);
                 }
             }
         }
+
+        tokenCounts = currentTokenCounts;
+    }
+
+    private static int evict(ChatMessage message, Map<ChatMessage, Integer> tokenCounts) {
+        // not removed, as an equal message can be held more than once and evicted again later
+        return tokenCounts.get(message);
+    }
+
+    /**
+     * Returns the number of tokens that {@link TokenCountEstimator#estimateTokenCountInMessages(Iterable)}
+     * adds on top of the token counts of the individual messages (e.g., to prime the reply).
+     * It is estimated once, from the given message.
+     */
+    private int messagesOverhead(ChatMessage message) {
+        Integer overhead = messagesOverhead;
+        if (overhead == null) {
+            overhead = tokenCountEstimator.estimateTokenCountInMessages(List.of(message))
+                    - tokenCountEstimator.estimateTokenCountInMessage(message);
+            messagesOverhead = overhead;
+        }
+        return overhead;
     }
 
     @Override
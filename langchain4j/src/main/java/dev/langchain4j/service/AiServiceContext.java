@@ -13,6 +13,7 @@ import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.observability.api.AiServiceListenerRegistrar;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.service.guardrail.GuardrailService;
+import dev.langchain4j.service.memory.ChatMemoryCacheConfig;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.service.tool.ToolService;
 import dev.langchain4j.spi.services.AiServiceContextFactory;
@@ -83,6 +84,10 @@ public class AiServiceContext {
         chatMemoryService = new ChatMemoryService(chatMemoryProvider);
     }
 
+    public void initChatMemories(ChatMemoryProvider chatMemoryProvider, ChatMemoryCacheConfig cacheConfig) {
+        chatMemoryService = new ChatMemoryService(chatMemoryProvider, cacheConfig);
+    }
+
     public boolean hasModerationModel() {
         return moderationModel != null;
     }
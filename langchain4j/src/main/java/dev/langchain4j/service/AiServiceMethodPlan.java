@@ -0,0 +1,328 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.invocation.InvocationParameters;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Everything {@link DefaultAiServices} needs to know about an AI service method that does not depend on the arguments
+ * of a particular call. It is created on the first call of the method and reused for all subsequent calls,
+ * so that they only have to bind the arguments.
+ * <p>
+ * The parameter bindings are resolved when the plan is created.
+ * The message templates, the JSON schema and the output format instructions are resolved on first use
+ * (and then reused), so that any error in them is still reported at the same point of the call as before.
+ */
+@Internal
+class AiServiceMethodPlan {
+
+    private static final Set<Class<? extends Annotation>> VALID_PARAM_ANNOTATIONS = Set.of(
+            UserMessage.class, V.class, MemoryId.class, UserName.class);
+
+    private final Method method;
+    private final Parameter[] parameters;
+    private final String[] variableNames;
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+    private final int invocationParametersIndex;
+    private final int chatRequestParametersIndex;
+    private final int itIndex;
+    private final int[] userMessageIndexes;
+    private final boolean singleUnannotatedParameter;
+    private final boolean moderated;
+
+    private final Type returnType;
+    private final boolean streaming;
+    private final boolean returnsImage;
+    private final boolean returnsResult;
+
+    private volatile Optional<PromptTemplate> systemMessageTemplate;
+    private volatile Optional<PromptTemplate> userMessageTemplate;
+    private volatile Optional<JsonSchema> jsonSchema;
+    private volatile Optional<String> outputFormatInstructions;
+
+    AiServiceMethodPlan(Method method, Type returnType, boolean streaming, boolean returnsImage) {
+        this.method = method;
+        this.parameters = method.getParameters();
+        this.variableNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!InvocationParameters.class.isAssignableFrom(parameters[i].getType())) {
+                variableNames[i] = ParameterNameResolver.name(parameters[i]);
+            }
+        }
+        this.memoryIdIndex = indexOfAnnotated(MemoryId.class);
+        this.userNameIndex = indexOfAnnotated(UserName.class);
+        this.invocationParametersIndex = indexOfType(InvocationParameters.class);
+        this.chatRequestParametersIndex = indexOfType(ChatRequestParameters.class);
+        this.itIndex = indexOfIt();
+        this.userMessageIndexes = IntStream.range(0, parameters.length)
+                .filter(i -> parameters[i].isAnnotationPresent(UserMessage.class))
+                .toArray();
+        this.singleUnannotatedParameter = parameters.length == 1 && !hasAnyValidAnnotation(parameters[0]);
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+
+        this.returnType = returnType;
+        this.streaming = streaming;
+        this.returnsImage = returnsImage;
+        this.returnsResult = typeHasRawClass(returnType, Result.class);
+    }
+
+    Method method() {
+        return method;
+    }
+
+    Parameter[] parameters() {
+        return parameters;
+    }
+
+    int[] userMessageIndexes() {
+        return userMessageIndexes;
+    }
+
+    /**
+     * Whether the method has a single parameter, without any of the
+     * {@link UserMessage}, {@link V}, {@link MemoryId} or {@link UserName} annotations.
+     */
+    boolean singleUnannotatedParameter() {
+        return singleUnannotatedParameter;
+    }
+
+    boolean moderated() {
+        return moderated;
+    }
+
+    Type returnType() {
+        return returnType;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    boolean returnsImage() {
+        return returnsImage;
+    }
+
+    boolean returnsResult() {
+        return returnsResult;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    parameters[memoryIdIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<String> userName(Object[] args) {
+        return userNameIndex < 0 ? Optional.empty() : Optional.of(args[userNameIndex].toString());
+    }
+
+    Optional<InvocationParameters> invocationParameters(Object[] args) {
+        return argument(invocationParametersIndex, InvocationParameters.class, args);
+    }
+
+    Optional<ChatRequestParameters> chatRequestParameters(Object[] args) {
+        return argument(chatRequestParametersIndex, ChatRequestParameters.class, args);
+    }
+
+    /**
+     * Binds the arguments to the variables of the given template,
+     * like {@link InternalReflectionVariableResolver#findTemplateVariables(String, Method, Object[])}.
+     */
+    Map<String, Object> templateVariables(String template, Object[] args) {
+        if (args == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (variableNames[i] == null) {
+                continue;
+            }
+            Object variableValue = args[i];
+            variables.put(variableNames[i], variableValue);
+            if (variableValue instanceof Map<?, ?> variablesMap) {
+                variablesMap.entrySet().stream()
+                        .filter(e -> e.getKey().getClass() == String.class)
+                        .forEach(e -> variables.put((String) e.getKey(), e.getValue()));
+            }
+        }
+
+        if (template.contains("{{it}}") && !variables.containsKey("it")) {
+            if (itIndex < 0) {
+                throw illegalConfiguration(
+                        "Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put("it", InternalReflectionVariableResolver.asString(args[itIndex]));
+        }
+
+        return variables;
+    }
+
+    /**
+     * The template of the {@link SystemMessage} annotation of the method, if any.
+     */
+    Optional<PromptTemplate> systemMessageTemplate() {
+        Optional<PromptTemplate> template = systemMessageTemplate;
+        if (template == null) {
+            template = Optional.ofNullable(method.getAnnotation(SystemMessage.class))
+                    .map(a -> PromptTemplate.from(
+                            getTemplate(method, "System", a.fromResource(), a.value(), a.delimiter())));
+            systemMessageTemplate = template;
+        }
+        return template;
+    }
+
+    /**
+     * The template of the {@link UserMessage} annotation of the method, if any.
+     */
+    Optional<PromptTemplate> userMessageTemplate() {
+        Optional<PromptTemplate> template = userMessageTemplate;
+        if (template == null) {
+            template = Optional.ofNullable(method.getAnnotation(UserMessage.class))
+                    .map(a -> PromptTemplate.from(
+                            getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter())));
+            userMessageTemplate = template;
+        }
+        return template;
+    }
+
+    Optional<JsonSchema> jsonSchema(ServiceOutputParser serviceOutputParser) {
+        Optional<JsonSchema> schema = jsonSchema;
+        if (schema == null) {
+            schema = serviceOutputParser.jsonSchema(returnType);
+            jsonSchema = schema;
+        }
+        return schema;
+    }
+
+    String outputFormatInstructions(ServiceOutputParser serviceOutputParser) {
+        Optional<String> instructions = outputFormatInstructions;
+        if (instructions == null) {
+            instructions = Optional.ofNullable(serviceOutputParser.outputFormatInstructions(returnType));
+            outputFormatInstructions = instructions;
+        }
+        return instructions.orElse(null);
+    }
+
+    static boolean hasAnyValidAnnotation(Parameter parameter) {
+        for (Class<? extends Annotation> a : VALID_PARAM_ANNOTATIONS) {
+            if (parameter.getAnnotation(a) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <P> Optional<P> argument(int index, Class<P> type, Object[] args) {
+        if (index < 0 || args == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ensureNotNull(type.cast(args[index]), type.getSimpleName()));
+    }
+
+    private int indexOfAnnotated(Class<? extends Annotation> annotation) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(annotation)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfType(Class<?> type) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (type.isAssignableFrom(parameters[i].getType())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The index of the parameter providing the value of the {@code {{it}}} template variable, or -1 if there is none.
+     */
+    private int indexOfIt() {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
+            }
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAnnotatedWithIt(Parameter parameter) {
+        V annotation = parameter.getAnnotation(V.class);
+        return annotation != null && "it".equals(annotation.value());
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+                Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+}
@@ -4,8 +4,6 @@ import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.service.tool.ToolServiceContext;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +14,7 @@ class AiServiceParamsUtil {
     private AiServiceParamsUtil() { }
 
     static ChatRequestParameters chatRequestParameters(
-            Method method,
+            AiServiceMethodPlan plan,
             Object[] args,
             ToolServiceContext toolServiceContext,
             ResponseFormat responseFormat) {
@@ -24,26 +22,11 @@ class AiServiceParamsUtil {
                 .toolSpecifications(toolServiceContext.effectiveTools())
                 .responseFormat(responseFormat)
                 .build();
-        return findArgumentOfType(ChatRequestParameters.class, args, method.getParameters())
+        return plan.chatRequestParameters(args)
                 .map(p -> p.defaultedBy(defaultParams))
                 .orElse(defaultParams);
     }
 
-    static <P> Optional<P> findArgumentOfType(Class<P> paramType, Object[] args, Parameter[] params) {
-        if (args == null) {
-            return Optional.empty();
-        }
-        for (int i = 0; i < params.length; i++) {
-            Parameter parameter = params[i];
-            if (paramType.isAssignableFrom(parameter.getType())) {
-                P param = (P) args[i];
-                ensureNotNull(param, paramType.getSimpleName());
-                return Optional.of(param);
-            }
-        }
-        return Optional.empty();
-    }
-
     static ChatRequestParameters chatRequestParameters(
             List<? extends Object> args,
             List<ToolSpecification> toolSpecifications) {
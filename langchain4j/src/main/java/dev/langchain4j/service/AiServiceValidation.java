@@ -6,9 +6,9 @@ import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
@@ -16,7 +16,7 @@ import static java.lang.reflect.Modifier.isStatic;
 
 class AiServiceValidation {
 
-    private static final Set<Method> VALID_METHODS = new HashSet<>();
+    private static final Set<Method> VALID_METHODS = ConcurrentHashMap.newKeySet();
 
     private AiServiceValidation() { }
 
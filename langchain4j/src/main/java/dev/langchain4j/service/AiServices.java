@@ -41,6 +41,7 @@ import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.service.memory.ChatMemoryCacheConfig;
 import dev.langchain4j.service.tool.AiServiceTool;
 import dev.langchain4j.service.tool.BeforeToolExecution;
 import dev.langchain4j.service.tool.DefaultToolExecutor;
@@ -434,6 +435,44 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the chat memory provider, like {@link #chatMemoryProvider(ChatMemoryProvider)},
+     * but bounds the number of {@link ChatMemory} instances kept by the AI Service.
+     * <p>
+     * Memories that were not used recently are evicted once there are more than {@link ChatMemoryCacheConfig#maxSize()},
+     * and idle memories are evicted after {@link ChatMemoryCacheConfig#idleTimeout()}.
+     * When an evicted memory is used again, it is obtained again from the provider,
+     * so the provider should create memories backed by a persistent
+     * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} to preserve their messages.
+     * Example:
+     * <pre>
+     * Assistant assistant = AiServices.builder(Assistant.class)
+     *     .chatModel(chatModel)
+     *     .chatMemoryProvider(
+     *         memoryId -> MessageWindowChatMemory.builder()
+     *             .id(memoryId)
+     *             .maxMessages(10)
+     *             .chatMemoryStore(persistentChatMemoryStore)
+     *             .build(),
+     *         ChatMemoryCacheConfig.builder()
+     *             .maxSize(10_000)
+     *             .idleTimeout(Duration.ofMinutes(30))
+     *             .build())
+     *     .build();
+     * </pre>
+     * Hit, miss and eviction counters are available via {@link dev.langchain4j.service.memory.ChatMemoryAccess#getChatMemoryCacheStats()}.
+     *
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
+     * @param cacheConfig        The bounds of the chat memories kept by the AI Service.
+     * @return builder
+     */
+    public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider, ChatMemoryCacheConfig cacheConfig) {
+        if (chatMemoryProvider != null) {
+            context.initChatMemories(chatMemoryProvider, cacheConfig);
+        }
+        return this;
+    }
+
     /**
      * Configures a transformer that will be applied to the {@link ChatRequest} before it is sent to the LLM.
      * <p>
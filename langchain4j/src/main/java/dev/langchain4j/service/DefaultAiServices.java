@@ -2,13 +2,11 @@ package dev.langchain4j.service;
 
 import static dev.langchain4j.agent.tool.ReturnBehavior.IMMEDIATE;
 import static dev.langchain4j.agent.tool.ReturnBehavior.IMMEDIATE_IF_LAST;
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
 import static dev.langchain4j.service.AiServiceParamsUtil.chatRequestParameters;
-import static dev.langchain4j.service.AiServiceParamsUtil.findArgumentOfType;
 import static dev.langchain4j.service.AiServiceValidation.validateParameters;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 import static dev.langchain4j.service.TypeUtils.getRawClass;
@@ -53,17 +51,15 @@ import dev.langchain4j.rag.AugmentationResult;
 import dev.langchain4j.rag.query.Metadata;
 import dev.langchain4j.service.guardrail.GuardrailService;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
+import dev.langchain4j.service.memory.ChatMemoryCacheStats;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.ToolExecution;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import dev.langchain4j.service.tool.ToolServiceResult;
 import dev.langchain4j.spi.services.TokenStreamAdapter;
-import java.io.InputStream;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -72,9 +68,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -85,8 +81,7 @@ class DefaultAiServices<T> extends AiServices<T> {
     private final ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
     private final Collection<TokenStreamAdapter> tokenStreamAdapters = loadFactories(TokenStreamAdapter.class);
 
-    private static final Set<Class<? extends Annotation>> VALID_PARAM_ANNOTATIONS =
-            Set.of(dev.langchain4j.service.UserMessage.class, V.class, MemoryId.class, UserName.class);
+    private final Map<Method, AiServiceMethodPlan> methodPlans = new ConcurrentHashMap<>();
 
     DefaultAiServices(AiServiceContext context) {
         super(context);
@@ -101,6 +96,10 @@ class DefaultAiServices<T> extends AiServices<T> {
         return switch (method.getName()) {
             case "getChatMemory" -> context.chatMemoryService.getChatMemory(args[0]);
             case "evictChatMemory" -> context.chatMemoryService.evictChatMemory(args[0]) != null;
+            case "getChatMemoryCacheStats" ->
+                context.hasChatMemory()
+                        ? context.chatMemoryService.getChatMemoryCacheStats()
+                        : new ChatMemoryCacheStats(0, 0, 0);
             default ->
                 throw new UnsupportedOperationException(
                         "Unknown method on ChatMemoryAccess class : " + method.getName());
@@ -139,19 +138,20 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return handleChatMemoryAccess(method, args);
                         }
 
-                        // TODO do it once, when creating AI Service?
-                        validateParameters(context.aiServiceClass, method);
+                        AiServiceMethodPlan plan = methodPlans.get(method);
+                        if (plan == null) {
+                            plan = methodPlans.computeIfAbsent(method, this::createPlan);
+                        }
 
-                        InvocationParameters invocationParameters = findArgumentOfType(
-                                        InvocationParameters.class, args, method.getParameters())
-                                .orElseGet(InvocationParameters::new);
+                        InvocationParameters invocationParameters =
+                                plan.invocationParameters(args).orElseGet(InvocationParameters::new);
 
                         InvocationContext invocationContext = InvocationContext.builder()
                                 .invocationId(UUID.randomUUID())
                                 .interfaceName(context.aiServiceClass.getName())
                                 .methodName(method.getName())
                                 .methodArguments(args != null ? Arrays.asList(args) : List.of())
-                                .chatMemoryId(findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT))
+                                .chatMemoryId(plan.memoryId(args).orElse(ChatMemoryService.DEFAULT))
                                 .defaultRequestParameters(determineChatRequestParameters(context))
                                 .modelProvider(determineModelProvider(context))
                                 .invocationParameters(invocationParameters)
@@ -159,7 +159,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .timestampNow()
                                 .build();
                         try {
-                            return invoke(method, args, invocationContext);
+                            return invoke(plan, args, invocationContext);
                         } catch (Exception ex) {
                             context.eventListenerRegistrar.fireEvent(AiServiceErrorEvent.builder()
                                     .invocationContext(invocationContext)
@@ -169,6 +169,14 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
+                    private AiServiceMethodPlan createPlan(Method method) {
+                        validateParameters(context.aiServiceClass, method);
+                        Type returnType =
+                                context.returnType != null ? context.returnType : method.getGenericReturnType();
+                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        return new AiServiceMethodPlan(method, returnType, streaming, isImage(returnType));
+                    }
+
                     private static ChatRequestParameters determineChatRequestParameters(AiServiceContext context) {
                         if (context.chatModel != null) {
                             return context.chatModel.defaultRequestParameters();
@@ -185,14 +193,16 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return context.streamingChatModel != null ? context.streamingChatModel.provider() : null;
                     }
 
-                    public Object invoke(Method method, Object[] args, InvocationContext invocationContext) {
+                    public Object invoke(AiServiceMethodPlan plan, Object[] args, InvocationContext invocationContext) {
+
+                        Method method = plan.method();
 
                         Object memoryId = invocationContext.chatMemoryId();
                         ChatMemory chatMemory = context.hasChatMemory()
                                 ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
                                 : null;
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(invocationContext, method, args);
+                        Optional<SystemMessage> systemMessage = prepareSystemMessage(invocationContext, plan, args);
                         if (context.systemMessageTransformer != null) {
                             String transformedSystemMessage = context.systemMessageTransformer.apply(
                                     systemMessage.map(SystemMessage::text).orElse(null), invocationContext);
@@ -200,11 +210,10 @@ class DefaultAiServices<T> extends AiServices<T> {
                                     ? Optional.of(SystemMessage.from(transformedSystemMessage))
                                     : Optional.empty();
                         }
-                        var userMessageTemplate = getUserMessageTemplate(memoryId, method, args);
-                        var variables = InternalReflectionVariableResolver.findTemplateVariables(
-                                userMessageTemplate, method, args);
+                        var userMessageTemplate = getUserMessageTemplate(memoryId, plan, args);
+                        var variables = plan.templateVariables(userMessageTemplate, args);
                         UserMessage originalUserMessage =
-                                prepareUserMessage(method, args, userMessageTemplate, variables);
+                                prepareUserMessage(plan, args, userMessageTemplate, variables);
 
                         context.eventListenerRegistrar.fireEvent(AiServiceStartedEvent.builder()
                                 .invocationContext(invocationContext)
@@ -229,7 +238,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             userMessageForAugmentation = (UserMessage) augmentationResult.chatMessage();
                         }
 
-                        UserMessage userMessage = addContentsToUserMessage(method, args, userMessageForAugmentation);
+                        UserMessage userMessage = addContentsToUserMessage(plan, args, userMessageForAugmentation);
 
                         var commonGuardrailParam = GuardrailRequestParams.builder()
                                 .chatMemory(chatMemory)
@@ -243,20 +252,19 @@ class DefaultAiServices<T> extends AiServices<T> {
                         userMessage = invokeInputGuardrails(
                                 context.guardrailService(), method, userMessage, commonGuardrailParam);
 
-                        Type returnType =
-                                context.returnType != null ? context.returnType : method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        Type returnType = plan.returnType();
+                        boolean streaming = plan.streaming();
 
                         // TODO should it be called when returnType==String?
                         boolean supportsJsonSchema = supportsJsonSchema();
                         Optional<JsonSchema> jsonSchema = Optional.empty();
-                        boolean returnsImage = isImage(returnType);
+                        boolean returnsImage = plan.returnsImage();
 
                         if (supportsJsonSchema && !streaming && !returnsImage) {
-                            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+                            jsonSchema = plan.jsonSchema(serviceOutputParser);
                         }
                         if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming && !returnsImage) {
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+                            userMessage = appendOutputFormatInstructions(plan, userMessage);
                         }
 
                         List<ChatMessage> messages = new ArrayList<>();
@@ -278,7 +286,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .userMessage(userMessage)
                                 .build();
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages);
 
                         ToolServiceContext toolServiceContext =
                                 context.toolService.createContext(invocationContext, userMessage, messages);
@@ -315,7 +323,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
 
                         ChatRequestParameters parameters =
-                                chatRequestParameters(method, args, toolServiceContext, responseFormat);
+                                chatRequestParameters(plan, args, toolServiceContext, responseFormat);
 
                         ChatRequest chatRequest = context.chatRequestTransformer.apply(
                                 ChatRequest.builder()
@@ -340,7 +348,7 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         verifyModerationIfNeeded(moderationFuture);
 
-                        boolean isReturnTypeResult = typeHasRawClass(returnType, Result.class);
+                        boolean isReturnTypeResult = plan.returnsResult();
 
                         ToolServiceResult toolServiceResult = context.toolService.executeInferenceAndToolsLoop(
                                 context,
@@ -520,8 +528,9 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
                     }
 
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(
+                            AiServiceMethodPlan plan, UserMessage userMessage) {
+                        String outputFormatInstructions = plan.outputFormatInstructions(serviceOutputParser);
                         if (isNullOrEmpty(outputFormatInstructions)) {
                             return userMessage;
                         }
@@ -545,8 +554,9 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage.toBuilder().contents(contents).build();
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
+                    private Future<Moderation> triggerModerationIfNeeded(
+                            AiServiceMethodPlan plan, List<ChatMessage> messages) {
+                        if (plan.moderated()) {
                             ExecutorService executor = DefaultExecutorProvider.getDefaultExecutorService();
                             return executor.submit(() -> {
                                 List<ChatMessage> messagesToModerate = removeToolMessages(messages);
@@ -604,21 +614,21 @@ class DefaultAiServices<T> extends AiServices<T> {
     }
 
     private Optional<SystemMessage> prepareSystemMessage(
-            InvocationContext invocationContext, Method method, Object[] args) {
-        return findSystemMessageTemplate(invocationContext, method)
+            InvocationContext invocationContext, AiServiceMethodPlan plan, Object[] args) {
+        Optional<PromptTemplate> templateFromMethodAnnotation = plan.systemMessageTemplate();
+        if (templateFromMethodAnnotation.isPresent()) {
+            PromptTemplate systemMessageTemplate = templateFromMethodAnnotation.get();
+            return Optional.of(systemMessageTemplate
+                    .apply(plan.templateVariables(systemMessageTemplate.template(), args))
+                    .toSystemMessage());
+        }
+        return findSystemMessageTemplate(invocationContext)
                 .map(systemMessageTemplate -> PromptTemplate.from(systemMessageTemplate)
-                        .apply(InternalReflectionVariableResolver.findTemplateVariables(
-                                systemMessageTemplate, method, args))
+                        .apply(plan.templateVariables(systemMessageTemplate, args))
                         .toSystemMessage());
     }
 
-    private Optional<String> findSystemMessageTemplate(InvocationContext invocationContext, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
-        }
+    private Optional<String> findSystemMessageTemplate(InvocationContext invocationContext) {
         if (context.systemMessageProviderWithContext != null) {
             return Optional.of(context.systemMessageProviderWithContext.apply(invocationContext));
         } else {
@@ -627,9 +637,9 @@ class DefaultAiServices<T> extends AiServices<T> {
     }
 
     private static UserMessage prepareUserMessage(
-            Method method, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
+            AiServiceMethodPlan plan, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
 
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
+        Optional<String> maybeUserName = plan.userName(args);
 
         if (userMessageTemplate.isEmpty()) {
             List<Content> contents = new ArrayList<>();
@@ -649,21 +659,27 @@ class DefaultAiServices<T> extends AiServices<T> {
             }
 
             throw illegalConfiguration(
-                    "Error: The method '%s' does not have a user message defined.", method.getName());
+                    "Error: The method '%s' does not have a user message defined.",
+                    plan.method().getName());
         }
 
-        Prompt prompt = PromptTemplate.from(userMessageTemplate).apply(variables);
+        // the template from the method annotation is parsed once, other templates are only known at call time
+        PromptTemplate promptTemplate = plan.userMessageTemplate()
+                .filter(template -> template.template().equals(userMessageTemplate))
+                .orElseGet(() -> PromptTemplate.from(userMessageTemplate));
+        Prompt prompt = promptTemplate.apply(variables);
 
         return maybeUserName
                 .map(userName -> UserMessage.from(userName, prompt.text()))
                 .orElseGet(prompt::toUserMessage);
     }
 
-    private String getUserMessageTemplate(Object memoryId, Method method, Object[] args) {
+    private String getUserMessageTemplate(Object memoryId, AiServiceMethodPlan plan, Object[] args) {
 
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
+        Method method = plan.method();
+        Optional<String> templateFromMethodAnnotation =
+                plan.userMessageTemplate().map(PromptTemplate::template);
+        Optional<String> templateFromParameterAnnotation = findUserMessageTemplateFromAnnotatedParameter(plan, args);
 
         if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
             throw illegalConfiguration(
@@ -678,13 +694,12 @@ class DefaultAiServices<T> extends AiServices<T> {
             return templateFromParameterAnnotation.get();
         }
 
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
+        Optional<String> templateFromTheOnlyArgument = findUserMessageTemplateFromTheOnlyArgument(plan, args);
         if (templateFromTheOnlyArgument.isPresent()) {
             return templateFromTheOnlyArgument.get();
         }
 
-        if (hasContentArgument(method, args)) {
+        if (hasContentArgument(plan, args)) {
             return "";
         }
 
@@ -694,51 +709,32 @@ class DefaultAiServices<T> extends AiServices<T> {
                         "Error: The method '%s' does not have a user message defined.", method.getName()));
     }
 
-    private static boolean hasContentArgument(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                if (args[i] instanceof Content || isListOfContents(args[i])) {
-                    return true;
-                }
+    private static boolean hasContentArgument(AiServiceMethodPlan plan, Object[] args) {
+        for (int i : plan.userMessageIndexes()) {
+            if (args[i] instanceof Content || isListOfContents(args[i])) {
+                return true;
             }
         }
 
-        if (parameters.length == 1 && !hasAnyValidAnnotation(parameters[0])) {
+        if (plan.singleUnannotatedParameter()) {
             return args[0] instanceof Content || isListOfContents(args[0]);
         }
         return false;
     }
 
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
     private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
-                    && !(args[i] instanceof Content)
-                    && !isListOfContents(args[i])) {
+            AiServiceMethodPlan plan, Object[] args) {
+        for (int i : plan.userMessageIndexes()) {
+            if (!(args[i] instanceof Content) && !isListOfContents(args[i])) {
                 return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
             }
         }
         return Optional.empty();
     }
 
-    private static boolean hasAnyValidAnnotation(Parameter parameter) {
-        for (Class<? extends Annotation> a : VALID_PARAM_ANNOTATIONS) {
-            if (parameter.getAnnotation(a) != null) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && !hasAnyValidAnnotation(parameters[0])) {
+    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(
+            AiServiceMethodPlan plan, Object[] args) {
+        if (plan.singleUnannotatedParameter()) {
             if (args[0] instanceof Content || isListOfContents(args[0]) || isMapOfContents(args[0])) {
                 return Optional.empty();
             }
@@ -747,16 +743,9 @@ class DefaultAiServices<T> extends AiServices<T> {
         return Optional.empty();
     }
 
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static UserMessage addContentsToUserMessage(Method method, Object[] args, UserMessage userMessage) {
+    private static UserMessage addContentsToUserMessage(
+            AiServiceMethodPlan plan, Object[] args, UserMessage userMessage) {
+        Method method = plan.method();
         boolean hasTextContent = false;
         List<Content> contents = new ArrayList<>();
 
@@ -777,27 +766,24 @@ class DefaultAiServices<T> extends AiServices<T> {
             }
         }
 
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                if (args[i] instanceof Content content) {
-                    contents.add(content);
-                } else if (isListOfContents(args[i])) {
-                    hasTextContent |= ((List<Content>) args[i]).stream().anyMatch(TextContent.class::isInstance);
-                    contents.addAll((List<Content>) args[i]);
-                } else {
-                    if (hasTextContent) {
-                        throw illegalConfiguration(
-                                "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                                method.getName());
-                    }
-                    contents.addAll(userMessage.contents());
-                    hasTextContent = true;
+        for (int i : plan.userMessageIndexes()) {
+            if (args[i] instanceof Content content) {
+                contents.add(content);
+            } else if (isListOfContents(args[i])) {
+                hasTextContent |= ((List<Content>) args[i]).stream().anyMatch(TextContent.class::isInstance);
+                contents.addAll((List<Content>) args[i]);
+            } else {
+                if (hasTextContent) {
+                    throw illegalConfiguration(
+                            "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                            method.getName());
                 }
+                contents.addAll(userMessage.contents());
+                hasTextContent = true;
             }
         }
 
-        if (contents.isEmpty() && parameters.length == 1 && !hasAnyValidAnnotation(parameters[0])) {
+        if (contents.isEmpty() && plan.singleUnannotatedParameter()) {
             if (args[0] instanceof Content) {
                 hasTextContent |= args[0] instanceof TextContent;
                 contents.add((Content) args[0]);
@@ -832,54 +818,4 @@ class DefaultAiServices<T> extends AiServices<T> {
     private static boolean isListOfContents(Object o) {
         return o instanceof List<?> list && list.stream().allMatch(Content.class::isInstance);
     }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
-        String messageTemplate;
-        if (!resource.trim().isEmpty()) {
-            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
-            if (messageTemplate == null) {
-                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
-            }
-        } else {
-            messageTemplate = String.join(delimiter, value);
-        }
-        if (messageTemplate.trim().isEmpty()) {
-            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
-        }
-        return messageTemplate;
-    }
-
-    private static String getResourceText(Class<?> clazz, String resource) {
-        InputStream inputStream = clazz.getResourceAsStream(resource);
-        if (inputStream == null) {
-            inputStream = clazz.getResourceAsStream("/" + resource);
-        }
-        return getText(inputStream);
-    }
-
-    private static String getText(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (Scanner scanner = new Scanner(inputStream);
-                Scanner s = scanner.useDelimiter("\\A")) {
-            return s.hasNext() ? s.next() : "";
-        }
-    }
-
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
-                }
-                return Optional.of(memoryId);
-            }
-        }
-        return Optional.empty();
-    }
 }
@@ -22,4 +22,16 @@ public interface ChatMemoryAccess {
      * @return true if {@link ChatMemory} with the given id existed, and it was successfully evicted, false otherwise.
      */
     boolean evictChatMemory(Object memoryId);
+
+    /**
+     * Returns the hit, miss and eviction counters of the {@link ChatMemory} instances kept by this AI service.
+     * <p>
+     * The default implementation returns zero counters, for implementations that do not keep track of them.
+     *
+     * @return A snapshot of the counters.
+     * @see ChatMemoryCacheConfig
+     */
+    default ChatMemoryCacheStats getChatMemoryCacheStats() {
+        return new ChatMemoryCacheStats(0, 0, 0);
+    }
 }
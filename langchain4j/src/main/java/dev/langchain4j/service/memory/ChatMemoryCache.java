@@ -0,0 +1,317 @@
+package dev.langchain4j.service.memory;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ChatMemory} instances of a {@link ChatMemoryService} configured with a {@link ChatMemoryCacheConfig}.
+ * <p>
+ * Lookups read a {@link ConcurrentHashMap} without locking: a hit only records the time of the access
+ * and marks its entry as referenced. The lock guards the changes (loads, removals and evictions),
+ * which also maintain a queue used to approximate LRU with the second-chance (CLOCK) algorithm:
+ * when there are too many entries, the eldest one in the queue is evicted,
+ * unless it was referenced since it was queued, in which case it is queued again.
+ * <p>
+ * Idle entries are expired lazily: an expired entry is dropped when it is looked up,
+ * and all the entries are checked when the least recently used one may have expired,
+ * and whenever they are listed.
+ * <p>
+ * {@link ChatMemoryProvider#get(Object)} and the eviction listener are called outside the lock.
+ * Concurrent misses for the same memory ID wait for a single call to the provider.
+ */
+class ChatMemoryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMemoryCache.class);
+
+    private final ChatMemoryProvider chatMemoryProvider;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final ChatMemoryEvictionListener evictionListener;
+    private final LongSupplier nanoTime;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Object, CompletableFuture<ChatMemory>> loading = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * The entries in eviction order, guarded by the lock.
+     */
+    private final LinkedHashMap<Object, Entry> evictionQueue = new LinkedHashMap<>();
+    /**
+     * No entry was accessed before this time, so no entry can expire before {@code idleTimeout} after it.
+     */
+    private volatile long oldestAccessNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    ChatMemoryCache(ChatMemoryProvider chatMemoryProvider, ChatMemoryCacheConfig config, LongSupplier nanoTime) {
+        this.chatMemoryProvider = chatMemoryProvider;
+        this.maxSize = config.maxSize() != null ? config.maxSize() : Integer.MAX_VALUE;
+        this.idleTimeoutNanos = config.idleTimeout() != null ? saturatedNanos(config) : Long.MAX_VALUE;
+        this.evictionListener = config.evictionListener();
+        this.nanoTime = nanoTime;
+    }
+
+    ChatMemory getOrCreate(Object memoryId) {
+        List<Eviction> evictions = new ArrayList<>();
+        try {
+            ChatMemory chatMemory = lookup(memoryId, evictions);
+            if (chatMemory != null) {
+                hitCount.increment();
+                return chatMemory;
+            }
+            missCount.increment();
+            return load(memoryId, evictions);
+        } finally {
+            notify(evictions);
+        }
+    }
+
+    ChatMemory get(Object memoryId) {
+        List<Eviction> evictions = new ArrayList<>();
+        try {
+            return lookup(memoryId, evictions);
+        } finally {
+            notify(evictions);
+        }
+    }
+
+    ChatMemory remove(Object memoryId) {
+        lock.lock();
+        try {
+            evictionQueue.remove(memoryId);
+            Entry entry = entries.remove(memoryId);
+            return entry != null ? entry.chatMemory : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Object> ids() {
+        List<Eviction> evictions = new ArrayList<>();
+        lock.lock();
+        try {
+            expire(nanoTime.getAsLong(), evictions);
+            return new ArrayList<>(entries.keySet());
+        } finally {
+            lock.unlock();
+            notify(evictions);
+        }
+    }
+
+    List<ChatMemory> chatMemories() {
+        List<Eviction> evictions = new ArrayList<>();
+        lock.lock();
+        try {
+            expire(nanoTime.getAsLong(), evictions);
+            List<ChatMemory> chatMemories = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> chatMemories.add(entry.chatMemory));
+            return chatMemories;
+        } finally {
+            lock.unlock();
+            notify(evictions);
+        }
+    }
+
+    List<ChatMemory> removeAll() {
+        lock.lock();
+        try {
+            List<ChatMemory> chatMemories = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> chatMemories.add(entry.chatMemory));
+            entries.clear();
+            evictionQueue.clear();
+            return chatMemories;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ChatMemoryCacheStats stats() {
+        return new ChatMemoryCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private ChatMemory lookup(Object memoryId, List<Eviction> evictions) {
+        long now = nanoTime.getAsLong();
+        if (isExpired(oldestAccessNanos, now) && lock.tryLock()) {
+            try {
+                expire(now, evictions);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Entry entry = entries.get(memoryId);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry.lastAccessNanos, now)) {
+            lock.lock();
+            try {
+                if (evictionQueue.remove(memoryId, entry)) {
+                    entries.remove(memoryId, entry);
+                    evictions.add(new Eviction(memoryId, entry.chatMemory, ChatMemoryEvictionCause.EXPIRED));
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+        entry.lastAccessNanos = now;
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.chatMemory;
+    }
+
+    private ChatMemory load(Object memoryId, List<Eviction> evictions) {
+        CompletableFuture<ChatMemory> future = new CompletableFuture<>();
+        CompletableFuture<ChatMemory> concurrentLoad = loading.putIfAbsent(memoryId, future);
+        if (concurrentLoad != null) {
+            return join(concurrentLoad);
+        }
+        try {
+            // another thread might have loaded it between the lookup and the registration of this load
+            ChatMemory chatMemory = lookup(memoryId, evictions);
+            if (chatMemory == null) {
+                chatMemory = chatMemoryProvider.get(memoryId);
+                if (chatMemory != null) {
+                    put(memoryId, chatMemory, evictions);
+                }
+            }
+            future.complete(chatMemory);
+            return chatMemory;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(memoryId, future);
+        }
+    }
+
+    private void put(Object memoryId, ChatMemory chatMemory, List<Eviction> evictions) {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            if (evictionQueue.isEmpty()) {
+                oldestAccessNanos = now;
+            }
+            Entry entry = new Entry(chatMemory, now);
+            entries.put(memoryId, entry);
+            evictionQueue.remove(memoryId);
+            evictionQueue.put(memoryId, entry);
+            while (evictionQueue.size() > maxSize) {
+                Iterator<Map.Entry<Object, Entry>> iterator = evictionQueue.entrySet().iterator();
+                Map.Entry<Object, Entry> eldest = iterator.next();
+                iterator.remove();
+                Entry candidate = eldest.getValue();
+                if (candidate == entry || candidate.referenced) {
+                    // second chance, the entry just loaded is never evicted
+                    candidate.referenced = false;
+                    evictionQueue.put(eldest.getKey(), candidate);
+                    continue;
+                }
+                entries.remove(eldest.getKey(), candidate);
+                evictions.add(new Eviction(eldest.getKey(), candidate.chatMemory, ChatMemoryEvictionCause.SIZE));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(long lastAccessNanos, long now) {
+        return idleTimeoutNanos != Long.MAX_VALUE && now - lastAccessNanos >= idleTimeoutNanos;
+    }
+
+    /**
+     * Must be called with the lock held.
+     */
+    private void expire(long now, List<Eviction> evictions) {
+        if (idleTimeoutNanos == Long.MAX_VALUE) {
+            return;
+        }
+        long oldestRemainingAccessNanos = now;
+        Iterator<Map.Entry<Object, Entry>> iterator = evictionQueue.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Entry> entry = iterator.next();
+            long lastAccessNanos = entry.getValue().lastAccessNanos;
+            if (!isExpired(lastAccessNanos, now)) {
+                if (lastAccessNanos - oldestRemainingAccessNanos < 0) {
+                    oldestRemainingAccessNanos = lastAccessNanos;
+                }
+                continue;
+            }
+            iterator.remove();
+            entries.remove(entry.getKey(), entry.getValue());
+            evictions.add(new Eviction(entry.getKey(), entry.getValue().chatMemory, ChatMemoryEvictionCause.EXPIRED));
+        }
+        // lookups check all the entries at most 16 times per idle timeout
+        long earliestNextCheck = now - idleTimeoutNanos + idleTimeoutNanos / 16;
+        oldestAccessNanos = earliestNextCheck - oldestRemainingAccessNanos > 0
+                ? earliestNextCheck
+                : oldestRemainingAccessNanos;
+    }
+
+    private void notify(List<Eviction> evictions) {
+        for (Eviction eviction : evictions) {
+            evictionCount.increment();
+            if (evictionListener == null) {
+                continue;
+            }
+            try {
+                evictionListener.onEviction(eviction.memoryId, eviction.chatMemory, eviction.cause);
+            } catch (Exception e) {
+                log.warn("Eviction listener failed for chat memory '{}'", eviction.memoryId, e);
+            }
+        }
+    }
+
+    private static ChatMemory join(CompletableFuture<ChatMemory> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static long saturatedNanos(ChatMemoryCacheConfig config) {
+        try {
+            return config.idleTimeout().toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static class Entry {
+
+        private final ChatMemory chatMemory;
+        private volatile long lastAccessNanos;
+        private volatile boolean referenced;
+
+        private Entry(ChatMemory chatMemory, long lastAccessNanos) {
+            this.chatMemory = chatMemory;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    private record Eviction(Object memoryId, ChatMemory chatMemory, ChatMemoryEvictionCause cause) {}
+}
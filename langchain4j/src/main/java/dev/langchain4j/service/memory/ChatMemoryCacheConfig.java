@@ -0,0 +1,117 @@
+package dev.langchain4j.service.memory;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import java.time.Duration;
+
+/**
+ * Bounds the number of {@link ChatMemory} instances that an AI service keeps
+ * when it is configured with a {@link ChatMemoryProvider}.
+ * <p>
+ * By default, an AI service keeps every {@link ChatMemory} it has ever obtained from the provider
+ * until it is evicted explicitly with {@link ChatMemoryAccess#evictChatMemory(Object)}.
+ * With this configuration, memories that were not used recently are evicted once there are more than
+ * {@link #maxSize()} of them (approximating LRU, so that lookups do not contend on a lock),
+ * and memories that have not been used for {@link #idleTimeout()} are evicted as well.
+ * <p>
+ * An evicted {@link ChatMemory} is only dropped from the AI service, its messages are not cleared.
+ * The built-in {@link ChatMemory} implementations write every change through to their {@link ChatMemoryStore},
+ * so when the provider creates memories backed by a persistent {@link ChatMemoryStore},
+ * a memory that is used again after its eviction is transparently rehydrated from the store by the provider.
+ * Implementations that buffer messages can flush them from the {@link #evictionListener()}.
+ *
+ * @see dev.langchain4j.service.AiServices#chatMemoryProvider(ChatMemoryProvider, ChatMemoryCacheConfig)
+ */
+public class ChatMemoryCacheConfig {
+
+    private final Integer maxSize;
+    private final Duration idleTimeout;
+    private final ChatMemoryEvictionListener evictionListener;
+
+    private ChatMemoryCacheConfig(Builder builder) {
+        this.maxSize = builder.maxSize == null ? null : ensureGreaterThanZero(builder.maxSize, "maxSize");
+        if (builder.idleTimeout != null) {
+            ensureTrue(
+                    !builder.idleTimeout.isNegative() && !builder.idleTimeout.isZero(),
+                    "idleTimeout must be positive");
+        }
+        this.idleTimeout = builder.idleTimeout;
+        ensureTrue(maxSize != null || idleTimeout != null, "Either maxSize or idleTimeout must be set");
+        this.evictionListener = builder.evictionListener;
+    }
+
+    /**
+     * The maximum number of {@link ChatMemory} instances to keep, or {@code null} if unbounded.
+     */
+    public Integer maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * How long a {@link ChatMemory} is kept without being used, or {@code null} if it is kept indefinitely.
+     */
+    public Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * The listener notified of each evicted {@link ChatMemory}, or {@code null}.
+     */
+    public ChatMemoryEvictionListener evictionListener() {
+        return evictionListener;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMemoryCacheConfig{" + "maxSize=" + maxSize + ", idleTimeout=" + idleTimeout + '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration idleTimeout;
+        private ChatMemoryEvictionListener evictionListener;
+
+        /**
+         * @param maxSize The maximum number of {@link ChatMemory} instances to keep.
+         *                When exceeded, a memory that was not used recently is evicted.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout How long a {@link ChatMemory} is kept after it was last used.
+         * @return builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @param evictionListener The listener notified of each evicted {@link ChatMemory}.
+         *                         It is invoked on the thread that triggered the eviction,
+         *                         outside any lock held by the AI service.
+         * @return builder
+         */
+        public Builder evictionListener(ChatMemoryEvictionListener evictionListener) {
+            this.evictionListener = evictionListener;
+            return this;
+        }
+
+        public ChatMemoryCacheConfig build() {
+            return new ChatMemoryCacheConfig(this);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.langchain4j.service.memory;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the counters of the {@link dev.langchain4j.memory.ChatMemory} instances kept by an AI service.
+ *
+ * @see ChatMemoryAccess#getChatMemoryCacheStats()
+ */
+public class ChatMemoryCacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public ChatMemoryCacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * The number of times a chat memory was requested and was already kept by the AI service.
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of times a chat memory was requested and had to be obtained from the
+     * {@link dev.langchain4j.memory.chat.ChatMemoryProvider}.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of chat memories evicted because of the {@link ChatMemoryCacheConfig}.
+     * Explicit evictions are not counted.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChatMemoryCacheStats that = (ChatMemoryCacheStats) o;
+        return hitCount == that.hitCount && missCount == that.missCount && evictionCount == that.evictionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMemoryCacheStats{" + "hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+                + evictionCount + '}';
+    }
+}
@@ -0,0 +1,18 @@
+package dev.langchain4j.service.memory;
+
+/**
+ * Why a {@link dev.langchain4j.memory.ChatMemory} was evicted, see {@link ChatMemoryEvictionListener}.
+ */
+public enum ChatMemoryEvictionCause {
+
+    /**
+     * There were more chat memories than {@link ChatMemoryCacheConfig#maxSize()},
+     * and this one was not used recently.
+     */
+    SIZE,
+
+    /**
+     * The chat memory was not used for {@link ChatMemoryCacheConfig#idleTimeout()}.
+     */
+    EXPIRED
+}
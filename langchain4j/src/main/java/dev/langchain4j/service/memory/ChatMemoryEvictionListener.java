@@ -0,0 +1,21 @@
+package dev.langchain4j.service.memory;
+
+import dev.langchain4j.memory.ChatMemory;
+
+/**
+ * Notified when an AI service evicts a {@link ChatMemory} according to its {@link ChatMemoryCacheConfig}.
+ * <p>
+ * Explicit evictions with {@link ChatMemoryAccess#evictChatMemory(Object)} are not reported.
+ */
+@FunctionalInterface
+public interface ChatMemoryEvictionListener {
+
+    /**
+     * Called after the {@link ChatMemory} has been removed from the AI service.
+     *
+     * @param memoryId   The id of the evicted chat memory.
+     * @param chatMemory The evicted chat memory.
+     * @param cause      Why the chat memory was evicted.
+     */
+    void onEviction(Object memoryId, ChatMemory chatMemory, ChatMemoryEvictionCause cause);
+}
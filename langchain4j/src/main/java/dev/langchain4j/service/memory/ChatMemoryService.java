@@ -8,6 +8,8 @@ import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 @Internal
 public class ChatMemoryService {
@@ -16,42 +18,95 @@ public class ChatMemoryService {
 
     private ChatMemory defaultChatMemory;
     private Map<Object, ChatMemory> chatMemories;
+    private ChatMemoryCache chatMemoryCache;
     private ChatMemoryProvider chatMemoryProvider;
 
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
     public ChatMemoryService(ChatMemoryProvider chatMemoryProvider) {
         this.chatMemories = new ConcurrentHashMap<>();
         this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
     }
 
+    public ChatMemoryService(ChatMemoryProvider chatMemoryProvider, ChatMemoryCacheConfig cacheConfig) {
+        this(chatMemoryProvider, cacheConfig, System::nanoTime);
+    }
+
+    ChatMemoryService(ChatMemoryProvider chatMemoryProvider, ChatMemoryCacheConfig cacheConfig, LongSupplier nanoTime) {
+        this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
+        if (cacheConfig != null) {
+            this.chatMemoryCache = new ChatMemoryCache(chatMemoryProvider, cacheConfig, nanoTime);
+        } else {
+            this.chatMemories = new ConcurrentHashMap<>();
+        }
+    }
+
     public ChatMemoryService(ChatMemory chatMemory) {
         defaultChatMemory = ensureNotNull(chatMemory, "chatMemory");
     }
 
     public ChatMemory getOrCreateChatMemory(Object memoryId) {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.getOrCreate(memoryId);
+        }
         if (chatMemoryProvider != null) {
+            ChatMemory chatMemory = chatMemories.get(memoryId);
+            if (chatMemory != null) {
+                hitCount.increment();
+                return chatMemory;
+            }
+            missCount.increment();
             return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
         }
         return defaultChatMemory;
     }
 
     public ChatMemory getChatMemory(Object memoryId) {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.get(memoryId);
+        }
         return chatMemoryProvider != null ? chatMemories.get(memoryId) : memoryId == DEFAULT ? defaultChatMemory : null;
     }
 
     public ChatMemory evictChatMemory(Object memoryId) {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.remove(memoryId);
+        }
         return chatMemories.remove(memoryId);
     }
 
     public void clearAll() {
+        if (chatMemoryCache != null) {
+            chatMemoryCache.removeAll().forEach(ChatMemory::clear);
+            return;
+        }
         chatMemories.values().forEach(ChatMemory::clear);
         chatMemories.clear();
     }
 
     public Collection<Object> getChatMemoryIDs() {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.ids();
+        }
         return chatMemories.keySet();
     }
 
     public Collection<ChatMemory> getChatMemories() {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.chatMemories();
+        }
         return chatMemories.values();
     }
+
+    /**
+     * Returns the hit, miss and eviction counters of the chat memories obtained from the {@link ChatMemoryProvider}.
+     * Without a {@link ChatMemoryCacheConfig}, chat memories are never evicted automatically.
+     */
+    public ChatMemoryCacheStats getChatMemoryCacheStats() {
+        if (chatMemoryCache != null) {
+            return chatMemoryCache.stats();
+        }
+        return new ChatMemoryCacheStats(hitCount.sum(), missCount.sum(), 0);
+    }
 }
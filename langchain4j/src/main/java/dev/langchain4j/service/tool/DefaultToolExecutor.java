@@ -19,8 +19,12 @@ import dev.langchain4j.internal.Json;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.invocation.InvocationParameters;
 import dev.langchain4j.invocation.LangChain4jManaged;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -40,6 +44,9 @@ public class DefaultToolExecutor implements ToolExecutor {
     private final Method methodToInvoke;
     private final boolean wrapToolArgumentsExceptions;
     private final boolean propagateToolExecutionExceptions;
+    private final ToolParameter[] parameters;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle methodHandle;
 
     public DefaultToolExecutor(Builder builder) {
         this.object = ensureNotNull(builder.object, "object");
@@ -47,6 +54,9 @@ public class DefaultToolExecutor implements ToolExecutor {
         this.methodToInvoke = ensureNotNull(builder.methodToInvoke, "methodToInvoke");
         this.wrapToolArgumentsExceptions = getOrDefault(builder.wrapToolArgumentsExceptions, false);
         this.propagateToolExecutionExceptions = getOrDefault(builder.propagateToolExecutionExceptions, false);
+        this.parameters = toolParameters(originalMethod);
+        this.parameterTypes = methodToInvoke.getParameterTypes();
+        this.methodHandle = methodHandle(methodToInvoke);
     }
 
     public DefaultToolExecutor(Object object, Method method) {
@@ -55,6 +65,9 @@ public class DefaultToolExecutor implements ToolExecutor {
         this.methodToInvoke = this.originalMethod;
         this.wrapToolArgumentsExceptions = false;
         this.propagateToolExecutionExceptions = false;
+        this.parameters = toolParameters(originalMethod);
+        this.parameterTypes = methodToInvoke.getParameterTypes();
+        this.methodHandle = methodHandle(methodToInvoke);
     }
 
     public DefaultToolExecutor(Object object, ToolExecutionRequest toolExecutionRequest) {
@@ -64,6 +77,9 @@ public class DefaultToolExecutor implements ToolExecutor {
         this.methodToInvoke = this.originalMethod;
         this.wrapToolArgumentsExceptions = false;
         this.propagateToolExecutionExceptions = false;
+        this.parameters = toolParameters(originalMethod);
+        this.parameterTypes = methodToInvoke.getParameterTypes();
+        this.methodHandle = methodHandle(methodToInvoke);
     }
 
     public Method originalMethod() {
@@ -99,6 +115,9 @@ public class DefaultToolExecutor implements ToolExecutor {
         this.methodToInvoke = ensureNotNull(methodToInvoke, "methodToInvoke");
         this.wrapToolArgumentsExceptions = false;
         this.propagateToolExecutionExceptions = false;
+        this.parameters = toolParameters(originalMethod);
+        this.parameterTypes = methodToInvoke.getParameterTypes();
+        this.methodHandle = methodHandle(methodToInvoke);
     }
 
     @Override
@@ -148,7 +167,7 @@ public class DefaultToolExecutor implements ToolExecutor {
     private Object[] prepareArguments(ToolExecutionRequest toolExecutionRequest, InvocationContext context) {
         try {
             Map<String, Object> argumentsMap = argumentsAsMap(toolExecutionRequest.arguments());
-            return prepareArguments(originalMethod, toolExecutionRequest.name(), argumentsMap, context);
+            return prepareArguments(parameters, toolExecutionRequest.name(), argumentsMap, context);
         } catch (Exception e) {
             if (wrapToolArgumentsExceptions) {
                 throw new ToolArgumentsException(unwrapRuntimeException(e));
@@ -159,7 +178,7 @@ public class DefaultToolExecutor implements ToolExecutor {
     }
 
     private ToolExecutionResult execute(Object[] arguments) throws IllegalAccessException, InvocationTargetException {
-        Object result = methodToInvoke.invoke(object, arguments);
+        Object result = invoke(arguments);
 
         List<Content> resultContents = toContents(result);
         if (resultContents != null) {
@@ -175,6 +194,38 @@ public class DefaultToolExecutor implements ToolExecutor {
                 .build();
     }
 
+    /**
+     * Invokes the tool method through its {@link MethodHandle} when the arguments have exactly the types
+     * of its parameters, which is the case for all the arguments prepared from a tool execution request.
+     * Otherwise (or if no method handle could be created), it is invoked reflectively,
+     * so that the argument conversions and the exceptions are the same as with {@link Method#invoke}.
+     */
+    private Object invoke(Object[] arguments) throws IllegalAccessException, InvocationTargetException {
+        if (methodHandle == null || !haveExactTypes(arguments)) {
+            return methodToInvoke.invoke(object, arguments);
+        }
+        try {
+            return (Object) methodHandle.invokeExact(object, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private boolean haveExactTypes(Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            Class<?> parameterType = parameterTypes[i];
+            if (parameterType.isPrimitive()) {
+                if (argument == null || argument.getClass() != wrap(parameterType)) {
+                    return false;
+                }
+            } else if (argument != null && !parameterType.isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private List<Content> toContents(Object result) {
         if (result == null) {
             return null;
@@ -209,55 +260,90 @@ public class DefaultToolExecutor implements ToolExecutor {
 
     static Object[] prepareArguments(
             Method method, String toolName, Map<String, Object> argumentsMap, InvocationContext context) {
-        Parameter[] parameters = method.getParameters();
+        return prepareArguments(toolParameters(method), toolName, argumentsMap, context);
+    }
+
+    private static Object[] prepareArguments(
+            ToolParameter[] parameters, String toolName, Map<String, Object> argumentsMap, InvocationContext context) {
         Object[] arguments = new Object[parameters.length];
 
         for (int i = 0; i < parameters.length; i++) {
 
-            Parameter parameter = parameters[i];
+            ToolParameter parameter = parameters[i];
 
-            if (parameter.isAnnotationPresent(ToolMemoryId.class)) {
-                arguments[i] = context.chatMemoryId();
-                continue;
-            }
-
-            if (InvocationParameters.class.isAssignableFrom(parameter.getType())) {
-                arguments[i] = context.invocationParameters();
-                continue;
+            switch (parameter.kind()) {
+                case MEMORY_ID -> arguments[i] = context.chatMemoryId();
+                case INVOCATION_PARAMETERS -> arguments[i] = context.invocationParameters();
+                case INVOCATION_CONTEXT -> arguments[i] = context;
+                case MANAGED -> arguments[i] = context.managedParameters().get(parameter.parameterClass());
+                case ARGUMENT -> arguments[i] = prepareArgument(parameter, toolName, argumentsMap);
             }
+        }
 
-            if (parameter.getType() == InvocationContext.class) {
-                arguments[i] = context;
-                continue;
-            }
+        return arguments;
+    }
 
-            if (LangChain4jManaged.class.isAssignableFrom(parameter.getType())) {
-                arguments[i] = context.managedParameters().get(parameter.getType());
-                continue;
-            }
+    private static Object prepareArgument(ToolParameter parameter, String toolName, Map<String, Object> argumentsMap) {
+        String parameterName = parameter.name();
+        Object argument = argumentsMap.get(parameterName);
+        Class<?> parameterClass = parameter.parameterClass();
+        Type parameterType = parameter.parameterType();
+
+        if (parameterClass == Optional.class) {
+            return createOptional(argument, parameterName, parameterType);
+        } else if (argument != null) {
+            return coerceArgument(argument, parameterName, parameterClass, parameterType);
+        } else if (parameter.defaultValue() != null) {
+            return parseDefaultValue(parameter.defaultValue(), parameterName, parameterClass, parameterType);
+        } else if (parameterClass.isPrimitive()) {
+            throw new IllegalArgumentException(
+                    String.format("Required parameter \"%s\" of tool \"%s\" is missing", parameterName, toolName));
+        }
+        return null;
+    }
 
-            String parameterName = getName(parameter);
-            Object argument = argumentsMap.get(parameterName);
-            Class<?> parameterClass = parameter.getType();
-            Type parameterType = parameter.getParameterizedType();
+    /**
+     * Resolves, once per tool method, how each of its parameters gets its value.
+     */
+    private static ToolParameter[] toolParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        ToolParameter[] toolParameters = new ToolParameter[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            toolParameters[i] = ToolParameter.from(parameters[i]);
+        }
+        return toolParameters;
+    }
 
-            if (parameterClass == Optional.class) {
-                arguments[i] = createOptional(argument, parameterName, parameterType);
-            } else if (argument != null) {
-                arguments[i] = coerceArgument(argument, parameterName, parameterClass, parameterType);
-            } else {
-                P pAnnotation = parameter.getAnnotation(P.class);
-                if (pAnnotation != null && !P.NO_DEFAULT.equals(pAnnotation.defaultValue())) {
-                    arguments[i] =
-                            parseDefaultValue(pAnnotation.defaultValue(), parameterName, parameterClass, parameterType);
-                } else if (parameterClass.isPrimitive()) {
-                    throw new IllegalArgumentException(String.format(
-                            "Required parameter \"%s\" of tool \"%s\" is missing", parameterName, toolName));
-                }
+    /**
+     * Creates a method handle of type {@code (Object, Object[])Object} invoking the given method,
+     * or returns {@code null} if the method is not accessible.
+     */
+    private static MethodHandle methodHandle(Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                methodHandle = unreflect(method);
+            } catch (IllegalAccessException | RuntimeException e2) {
+                return null;
             }
         }
+        if (Modifier.isStatic(method.getModifiers())) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        return methodHandle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
 
-        return arguments;
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        return MethodHandles.lookup().unreflect(method).asFixedArity();
+    }
+
+    private static Class<?> wrap(Class<?> primitiveType) {
+        return MethodType.methodType(primitiveType).wrap().returnType();
     }
 
     private static String errorMessage(Throwable cause) {
@@ -391,8 +477,8 @@ public class DefaultToolExecutor implements ToolExecutor {
         }
 
         if (Collection.class.isAssignableFrom(parameterClass) || Map.class.isAssignableFrom(parameterClass)) {
-            // Conversion to JSON and back is required when parameterType is a POJO
-            return Json.fromJson(Json.toJson(argument), parameterType);
+            // Conversion is required when parameterType is a POJO
+            return Json.convert(argument, parameterType);
         }
 
         if (parameterClass == UUID.class) {
@@ -402,8 +488,8 @@ public class DefaultToolExecutor implements ToolExecutor {
         if (argument instanceof String) {
             return Json.fromJson(argument.toString(), parameterClass);
         } else {
-            // Conversion to JSON and back is required when parameterClass is a POJO
-            return Json.fromJson(Json.toJson(argument), parameterClass);
+            // Conversion is required when parameterClass is a POJO
+            return Json.convert(argument, parameterClass);
         }
     }
 
@@ -453,6 +539,44 @@ public class DefaultToolExecutor implements ToolExecutor {
         return doubleValue.equals(Math.floor(doubleValue));
     }
 
+    private record ToolParameter(
+            Kind kind, String name, Class<?> parameterClass, Type parameterType, String defaultValue) {
+
+        enum Kind {
+            MEMORY_ID,
+            INVOCATION_PARAMETERS,
+            INVOCATION_CONTEXT,
+            MANAGED,
+            ARGUMENT
+        }
+
+        static ToolParameter from(Parameter parameter) {
+            Class<?> parameterClass = parameter.getType();
+            Kind kind;
+            if (parameter.isAnnotationPresent(ToolMemoryId.class)) {
+                kind = Kind.MEMORY_ID;
+            } else if (InvocationParameters.class.isAssignableFrom(parameterClass)) {
+                kind = Kind.INVOCATION_PARAMETERS;
+            } else if (parameterClass == InvocationContext.class) {
+                kind = Kind.INVOCATION_CONTEXT;
+            } else if (LangChain4jManaged.class.isAssignableFrom(parameterClass)) {
+                kind = Kind.MANAGED;
+            } else {
+                P pAnnotation = parameter.getAnnotation(P.class);
+                String defaultValue = pAnnotation != null && !P.NO_DEFAULT.equals(pAnnotation.defaultValue())
+                        ? pAnnotation.defaultValue()
+                        : null;
+                return new ToolParameter(
+                        Kind.ARGUMENT,
+                        getName(parameter),
+                        parameterClass,
+                        parameter.getParameterizedType(),
+                        defaultValue);
+            }
+            return new ToolParameter(kind, null, parameterClass, parameter.getParameterizedType(), null);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,376 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and writes the binary snapshot format of {@link InMemoryEmbeddingStore}.
+ * <p>
+ * All values are little-endian. The file consists of:
+ * <ul>
+ *     <li>a header of {@value #HEADER_SIZE} bytes: magic number, format version, dimension, entry count,
+ *     and the offsets of the following blocks</li>
+ *     <li>the vector block: all vectors as 32-bit floats, back to back, in entry order</li>
+ *     <li>the norm block: the norm of each vector as a 64-bit float, aligned to 8 bytes</li>
+ *     <li>the segment block: for each entry, its id, and its {@link TextSegment} (text and metadata), if any</li>
+ * </ul>
+ * When reading, the vector block is memory-mapped rather than read,
+ * so that the store is searchable without deserializing any vector.
+ * As the file may be mapped by a store while it is written again (e.g. saved back to the file it was read from),
+ * it is never written in place: it is written to a temporary file, which then replaces it.
+ */
+class BinarySnapshot {
+
+    private static final int MAGIC = 0x4C344A45; // "L4JE"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    private static final byte NO_SEGMENT = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 0;
+    private static final byte UUID_TYPE = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+
+    private BinarySnapshot() {}
+
+    static void write(List<? extends Entry<?>> entries, Path filePath) throws IOException {
+        Path absoluteFilePath = filePath.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absoluteFilePath.getParent(), ".embeddings", ".tmp");
+        try {
+            writeContent(entries, tempFile);
+            try {
+                Files.move(tempFile, absoluteFilePath, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFilePath, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeContent(List<? extends Entry<?>> entries, Path file) throws IOException {
+        int dimension = entries.isEmpty() ? 0 : entries.get(0).embedding.dimension();
+        int count = entries.size();
+        long vectorsOffset = HEADER_SIZE;
+        long normsOffset = align8(vectorsOffset + (long) count * dimension * Float.BYTES);
+        long segmentsOffset = normsOffset + (long) count * Double.BYTES;
+
+        try (FileChannel channel = FileChannel.open(file, WRITE)) {
+            Output out = new Output(channel);
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dimension);
+            out.writeInt(count);
+            out.writeLong(vectorsOffset);
+            out.writeLong(normsOffset);
+            out.writeLong(segmentsOffset);
+            out.pad(HEADER_SIZE);
+
+            for (Entry<?> entry : entries) {
+                float[] vector = entry.embedding.vector();
+                if (vector.length != dimension) {
+                    throw illegalArgument(
+                            "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                            vector.length, dimension);
+                }
+                for (float value : vector) {
+                    out.writeFloat(value);
+                }
+            }
+            out.pad(normsOffset);
+
+            for (Entry<?> entry : entries) {
+                out.writeDouble(entry.norm);
+            }
+
+            for (Entry<?> entry : entries) {
+                out.writeString(entry.id);
+                writeEmbedded(out, entry.embedded);
+            }
+            out.flush();
+        }
+    }
+
+    static PackedIndex<TextSegment> read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC) {
+                throw illegalArgument("'%s' is not a binary InMemoryEmbeddingStore file", filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported binary InMemoryEmbeddingStore format version: %s", version);
+            }
+            int dimension = header.getInt();
+            int count = header.getInt();
+            long vectorsOffset = header.getLong();
+            long normsOffset = header.getLong();
+            long segmentsOffset = header.getLong();
+            if (count == 0) {
+                return new PackedIndex<>(TopKScan.SEQUENTIAL, null);
+            }
+
+            PackedVectors vectors = PackedVectors.map(channel, vectorsOffset, LITTLE_ENDIAN, dimension, count);
+
+            double[] norms = new double[count];
+            readNorms(channel, normsOffset, norms);
+
+            String[] ids = new String[count];
+            Object[] embedded = new Object[count];
+            Input in = new Input(channel.position(segmentsOffset));
+            for (int i = 0; i < count; i++) {
+                ids[i] = in.readString();
+                embedded[i] = readEmbedded(in);
+            }
+
+            return new PackedIndex<>(vectors, ids, embedded, norms);
+        }
+    }
+
+    private static void readNorms(FileChannel channel, long position, double[] norms) throws IOException {
+        int chunkSize = Integer.MAX_VALUE / Double.BYTES;
+        for (int from = 0; from < norms.length; from += chunkSize) {
+            int length = Math.min(chunkSize, norms.length - from);
+            DoubleBuffer buffer = channel.map(
+                            FileChannel.MapMode.READ_ONLY,
+                            position + (long) from * Double.BYTES,
+                            (long) length * Double.BYTES)
+                    .order(LITTLE_ENDIAN)
+                    .asDoubleBuffer();
+            buffer.get(norms, from, length);
+        }
+    }
+
+    private static void writeEmbedded(Output out, Object embedded) throws IOException {
+        if (embedded == null) {
+            out.writeByte(NO_SEGMENT);
+            return;
+        }
+        if (!(embedded instanceof TextSegment segment)) {
+            throw illegalArgument(
+                    "Only TextSegment can be written to a binary snapshot, but found %s",
+                    embedded.getClass().getName());
+        }
+        out.writeByte(TEXT_SEGMENT);
+        out.writeString(segment.text());
+
+        Map<String, Object> metadata = segment.metadata().toMap();
+        out.writeInt(metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            out.writeString(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String string) {
+                out.writeByte(STRING);
+                out.writeString(string);
+            } else if (value instanceof UUID uuid) {
+                out.writeByte(UUID_TYPE);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof Integer integer) {
+                out.writeByte(INTEGER);
+                out.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                out.writeByte(FLOAT);
+                out.writeFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(DOUBLE);
+                out.writeDouble(doubleValue);
+            } else {
+                throw illegalArgument("Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+    }
+
+    private static TextSegment readEmbedded(Input in) throws IOException {
+        byte type = in.readByte();
+        if (type == NO_SEGMENT) {
+            return null;
+        }
+        String text = in.readString();
+
+        int size = in.readInt();
+        Map<String, Object> metadata = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            byte valueType = in.readByte();
+            Object value =
+                    switch (valueType) {
+                        case STRING -> in.readString();
+                        case UUID_TYPE -> new UUID(in.readLong(), in.readLong());
+                        case INTEGER -> in.readInt();
+                        case LONG -> in.readLong();
+                        case FLOAT -> in.readFloat();
+                        case DOUBLE -> in.readDouble();
+                        default -> throw illegalArgument("Unknown metadata value type: %s", valueType);
+                    };
+            metadata.put(key, value);
+        }
+        return TextSegment.from(text, new Metadata(metadata));
+    }
+
+    private static long align8(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * Buffered little-endian writer on top of a channel.
+     */
+    private static class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(LITTLE_ENDIAN);
+        private long position;
+
+        Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeByte(byte value) throws IOException {
+            ensureRemaining(Byte.BYTES).put(value);
+            position += Byte.BYTES;
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES).putInt(value);
+            position += Integer.BYTES;
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES).putLong(value);
+            position += Long.BYTES;
+        }
+
+        void writeFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES).putFloat(value);
+            position += Float.BYTES;
+        }
+
+        void writeDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES).putDouble(value);
+            position += Double.BYTES;
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                int length = Math.min(bytes.length - offset, buffer.capacity());
+                ensureRemaining(length).put(bytes, offset, length);
+                offset += length;
+            }
+            position += bytes.length;
+        }
+
+        /**
+         * Writes zeros up to the given absolute position.
+         */
+        void pad(long target) throws IOException {
+            while (position < target) {
+                writeByte((byte) 0);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private ByteBuffer ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Buffered little-endian reader on top of a channel.
+     */
+    private static class Input {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer =
+                ByteBuffer.allocate(1 << 16).order(LITTLE_ENDIAN).flip();
+
+        Input(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        byte readByte() throws IOException {
+            return ensureAvailable(Byte.BYTES).get();
+        }
+
+        int readInt() throws IOException {
+            return ensureAvailable(Integer.BYTES).getInt();
+        }
+
+        long readLong() throws IOException {
+            return ensureAvailable(Long.BYTES).getLong();
+        }
+
+        float readFloat() throws IOException {
+            return ensureAvailable(Float.BYTES).getFloat();
+        }
+
+        double readDouble() throws IOException {
+            return ensureAvailable(Double.BYTES).getDouble();
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readInt()];
+            for (int offset = 0; offset < bytes.length; ) {
+                int length = Math.min(bytes.length - offset, buffer.capacity());
+                ensureAvailable(length).get(bytes, offset, length);
+                offset += length;
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        private ByteBuffer ensureAvailable(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                buffer.compact();
+                while (buffer.position() < bytes) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Unexpected end of binary InMemoryEmbeddingStore file");
+                    }
+                }
+                buffer.flip();
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link Filter} tree once per search into a predicate over embedded objects.
+ * <p>
+ * The predicate accepts everything if the filter is {@code null} (no filtering requested).
+ * Otherwise, it accepts only {@link TextSegment}s whose {@link Metadata} passes the filter,
+ * rejecting {@code null} and any other type of embedded object.
+ * <p>
+ * {@link IsEqualTo} and {@link IsIn} filters on {@link String}, {@link UUID}, {@link Integer} and {@link Long} values
+ * are specialized for the common case where the actual value has the same type as the comparison value(s),
+ * avoiding the type checks and {@link java.math.BigDecimal} conversions of {@link Filter#test(Object)}.
+ * All other cases, including type mismatches (which must fail the same way), are delegated to the filter itself.
+ */
+class CompiledFilter {
+
+    private CompiledFilter() {}
+
+    static Predicate<Object> compile(Filter filter) {
+        if (filter == null) {
+            return embedded -> true;
+        }
+        Predicate<Metadata> predicate = compileMetadataFilter(filter);
+        return embedded -> embedded instanceof TextSegment segment && predicate.test(segment.metadata());
+    }
+
+    private static Predicate<Metadata> compileMetadataFilter(Filter filter) {
+        if (filter instanceof And and) {
+            Predicate<Metadata> left = compileMetadataFilter(and.left());
+            Predicate<Metadata> right = compileMetadataFilter(and.right());
+            return metadata -> left.test(metadata) && right.test(metadata);
+        } else if (filter instanceof Or or) {
+            Predicate<Metadata> left = compileMetadataFilter(or.left());
+            Predicate<Metadata> right = compileMetadataFilter(or.right());
+            return metadata -> left.test(metadata) || right.test(metadata);
+        } else if (filter instanceof Not not) {
+            Predicate<Metadata> expression = compileMetadataFilter(not.expression());
+            return metadata -> !expression.test(metadata);
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            return compileIsEqualTo(isEqualTo);
+        } else if (filter instanceof IsIn isIn) {
+            return compileIsIn(isIn);
+        }
+        return filter::test;
+    }
+
+    private static Predicate<Metadata> compileIsEqualTo(IsEqualTo filter) {
+        String key = filter.key();
+        Object comparisonValue = filter.comparisonValue();
+        if (comparisonValue instanceof String || comparisonValue instanceof UUID) {
+            Class<?> type = comparisonValue.getClass();
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return false;
+                }
+                if (actualValue.getClass() == type) {
+                    return actualValue.equals(comparisonValue);
+                }
+                return filter.test(metadata);
+            };
+        } else if (isIntegral(comparisonValue)) {
+            long comparisonLong = ((Number) comparisonValue).longValue();
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return false;
+                }
+                if (isIntegral(actualValue)) {
+                    return ((Number) actualValue).longValue() == comparisonLong;
+                }
+                return filter.test(metadata);
+            };
+        }
+        return filter::test;
+    }
+
+    private static Predicate<Metadata> compileIsIn(IsIn filter) {
+        String key = filter.key();
+        Collection<?> comparisonValues = filter.comparisonValues();
+        if (allOfType(comparisonValues, String.class)) {
+            // comparisonValues is a HashSet
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return false;
+                }
+                if (actualValue instanceof String) {
+                    return comparisonValues.contains(actualValue);
+                }
+                return filter.test(metadata);
+            };
+        } else if (comparisonValues.stream().allMatch(CompiledFilter::isIntegral)) {
+            Set<Long> comparisonLongs = new HashSet<>();
+            comparisonValues.forEach(value -> comparisonLongs.add(((Number) value).longValue()));
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return false;
+                }
+                if (isIntegral(actualValue)) {
+                    return comparisonLongs.contains(((Number) actualValue).longValue());
+                }
+                return filter.test(metadata);
+            };
+        }
+        return filter::test;
+    }
+
+    static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    static boolean allOfType(Collection<?> values, Class<?> type) {
+        return values.stream().allMatch(value -> value.getClass() == type);
+    }
+}
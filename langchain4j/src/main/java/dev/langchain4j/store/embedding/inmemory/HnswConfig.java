@@ -0,0 +1,120 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) graph index
+ * that can back an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * With an HNSW index, searches are approximate: they run in sub-linear time,
+ * but are not guaranteed to return the exact top-k matches.
+ * Higher values of {@link #m()}, {@link #efConstruction()} and {@link #efSearch()}
+ * improve recall at the cost of memory, ingestion time and search time respectively.
+ *
+ * @see InMemoryEmbeddingStore.Builder#hnsw(HnswConfig)
+ */
+public class HnswConfig {
+
+    static final int DEFAULT_M = 16;
+    static final int DEFAULT_EF_CONSTRUCTION = 200;
+    static final int DEFAULT_EF_SEARCH = 50;
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+
+    private HnswConfig(Builder builder) {
+        this.m = getOrDefault(builder.m, DEFAULT_M);
+        ensureTrue(this.m >= 2, "m must be at least 2");
+        this.efConstruction = ensureGreaterThanZero(
+                getOrDefault(builder.efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(builder.efSearch, DEFAULT_EF_SEARCH), "efSearch");
+    }
+
+    /**
+     * The maximum number of connections a node has on each layer of the graph above the base layer.
+     * Nodes on the base layer have up to {@code 2 * m} connections.
+     */
+    public int m() {
+        return m;
+    }
+
+    /**
+     * The size of the dynamic candidate list used when inserting a new node into the graph.
+     */
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    /**
+     * The size of the dynamic candidate list used when searching the graph.
+     * The effective value is never lower than {@link dev.langchain4j.store.embedding.EmbeddingSearchRequest#maxResults()}.
+     */
+    public int efSearch() {
+        return efSearch;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HnswConfig that = (HnswConfig) o;
+        return m == that.m && efConstruction == that.efConstruction && efSearch == that.efSearch;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(m, efConstruction, efSearch);
+    }
+
+    @Override
+    public String toString() {
+        return "HnswConfig{" + "m=" + m + ", efConstruction=" + efConstruction + ", efSearch=" + efSearch + '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+
+        /**
+         * @param m The maximum number of connections per node and layer. Default: 16.
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the candidate list used while building the graph. Default: 200.
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the candidate list used while searching the graph. Default: 50.
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        public HnswConfig build() {
+            return new HnswConfig(this);
+        }
+    }
+}
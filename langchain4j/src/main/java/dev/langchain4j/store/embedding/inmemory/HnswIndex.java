@@ -0,0 +1,408 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Comparator.comparingDouble;
+
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityKernels;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * An approximate nearest-neighbour index based on a Hierarchical Navigable Small World graph
+ * (Malkov and Yashunin, <a href="https://arxiv.org/abs/1603.09320">arXiv:1603.09320</a>).
+ * <p>
+ * Entries are inserted incrementally. Removed entries are tombstoned: they stay in the graph
+ * to keep it navigable, but are never returned from a search.
+ * Once tombstones outnumber live entries, the graph is rebuilt from the live entries.
+ * <p>
+ * Similarity between vectors is the cosine similarity, computed by {@link SimilarityKernels#defaultKernel()}
+ * with precomputed norms, like in the exact mode of {@link InMemoryEmbeddingStore}.
+ */
+class HnswIndex<Embedded> implements InMemoryIndex<Embedded> {
+
+    private static final Comparator<Candidate> WORST_FIRST = comparingDouble(Candidate::similarity);
+    private static final Comparator<Candidate> BEST_FIRST = WORST_FIRST.reversed();
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final SimilarityKernel kernel = SimilarityKernels.defaultKernel();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private Node<Embedded> entryPoint;
+    private int liveCount;
+
+    HnswIndex(HnswConfig config) {
+        this.m = config.m();
+        this.maxM0 = 2 * config.m();
+        this.efConstruction = config.efConstruction();
+        this.efSearch = config.efSearch();
+        this.levelMultiplier = 1 / Math.log(config.m());
+    }
+
+    @Override
+    public void add(List<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry<Embedded> entry : entries) {
+                insert(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            for (Node<Embedded> node : nodes) {
+                if (!node.deleted && predicate.test(node.entry.id, node.entry.embedded)) {
+                    node.deleted = true;
+                    liveCount--;
+                }
+            }
+            if (nodes.size() - liveCount > liveCount) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            entryPoint = null;
+            liveCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<EmbeddingMatch<Embedded>> search(EmbeddingSearchRequest request) {
+        float[] query = request.queryEmbedding().vector();
+        double queryNorm = kernel.norm(query);
+        Predicate<Object> matchesFilter = CompiledFilter.compile(request.filter());
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return List.of();
+            }
+            ensureSameDimension(query, entryPoint.vector);
+
+            Candidate closest = descend(query, queryNorm, 0);
+            int ef = Math.max(efSearch, request.maxResults());
+            List<Candidate> found = searchLayer(
+                    query,
+                    queryNorm,
+                    List.of(closest),
+                    ef,
+                    0,
+                    node -> !node.deleted && matchesFilter.test(node.entry.embedded));
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(Math.min(found.size(), request.maxResults()));
+            for (Candidate candidate : found) {
+                if (matches.size() == request.maxResults()) {
+                    break;
+                }
+                double score = RelevanceScore.fromCosineSimilarity(candidate.similarity());
+                if (score < request.minScore()) {
+                    break;
+                }
+                Entry<Embedded> entry = nodes.get(candidate.node()).entry;
+                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Entry<Embedded>> entries() {
+        lock.readLock().lock();
+        try {
+            List<Entry<Embedded>> entries = new ArrayList<>(liveCount);
+            for (Node<Embedded> node : nodes) {
+                if (!node.deleted) {
+                    entries.add(node.entry);
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry<Embedded> entry) {
+        float[] vector = entry.embedding.vector();
+        if (entryPoint != null) {
+            ensureSameDimension(vector, entryPoint.vector);
+        }
+
+        int level = randomLevel();
+        Node<Embedded> node = new Node<>(nodes.size(), entry, level, m, maxM0);
+        nodes.add(node);
+        liveCount++;
+
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        List<Candidate> entryPoints = List.of(descend(vector, node.norm, level));
+        for (int layer = Math.min(level, entryPoint.level()); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(vector, node.norm, entryPoints, efConstruction, layer, null);
+            int maxConnections = layer == 0 ? maxM0 : m;
+            for (Candidate selected : selectNeighbours(candidates, m)) {
+                node.connect(layer, selected.node());
+                connect(nodes.get(selected.node()), node, layer, maxConnections);
+            }
+            entryPoints = candidates;
+        }
+
+        if (level > entryPoint.level()) {
+            entryPoint = node;
+        }
+    }
+
+    private void rebuild() {
+        List<Entry<Embedded>> live = entries();
+        nodes.clear();
+        entryPoint = null;
+        liveCount = 0;
+        for (Entry<Embedded> entry : live) {
+            insert(entry);
+        }
+    }
+
+    /**
+     * Greedily walks from the entry point down to (but excluding) the given layer,
+     * returning the node closest to the query on the last visited layer.
+     */
+    private Candidate descend(float[] query, double queryNorm, int targetLayer) {
+        Node<Embedded> current = entryPoint;
+        double currentSimilarity = similarity(query, queryNorm, current);
+        for (int layer = entryPoint.level(); layer > targetLayer; layer--) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                Node<Embedded> node = current;
+                for (int i = 0; i < node.neighbourCounts[layer]; i++) {
+                    Node<Embedded> neighbour = nodes.get(node.neighbours[layer][i]);
+                    double similarity = similarity(query, queryNorm, neighbour);
+                    if (similarity > currentSimilarity) {
+                        current = neighbour;
+                        currentSimilarity = similarity;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return new Candidate(current.ordinal, currentSimilarity);
+    }
+
+    /**
+     * Best-first search of a single layer.
+     * Nodes rejected by {@code accept} are traversed, but are not collected into the results.
+     *
+     * @return up to {@code ef} accepted nodes, most similar first
+     */
+    private List<Candidate> searchLayer(
+            float[] query,
+            double queryNorm,
+            List<Candidate> entryPoints,
+            int ef,
+            int layer,
+            Predicate<Node<Embedded>> accept) {
+
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+        for (Candidate entryPoint : entryPoints) {
+            visited.set(entryPoint.node());
+            candidates.add(entryPoint);
+            if (accept == null || accept.test(nodes.get(entryPoint.node()))) {
+                results.add(entryPoint);
+            }
+        }
+        while (results.size() > ef) {
+            results.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity()) {
+                break;
+            }
+
+            Node<Embedded> node = nodes.get(candidate.node());
+            int[] neighbours = node.neighbours[layer];
+            for (int i = 0; i < node.neighbourCounts[layer]; i++) {
+                int ordinal = neighbours[i];
+                if (visited.get(ordinal)) {
+                    continue;
+                }
+                visited.set(ordinal);
+
+                Node<Embedded> neighbour = nodes.get(ordinal);
+                double similarity = similarity(query, queryNorm, neighbour);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Candidate next = new Candidate(ordinal, similarity);
+                    candidates.add(next);
+                    if (accept == null || accept.test(neighbour)) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(BEST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * Selects up to {@code maxConnections} neighbours from the given candidates (most similar first),
+     * preferring candidates that are closer to the base node than to any already selected neighbour.
+     * This keeps the graph navigable across clusters (heuristic from section 4 of the HNSW paper).
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int maxConnections) {
+        List<Candidate> selected = new ArrayList<>(maxConnections);
+        for (Candidate candidate : candidates) {
+            if (selected.size() == maxConnections) {
+                break;
+            }
+            Node<Embedded> node = nodes.get(candidate.node());
+            boolean diverse = true;
+            for (Candidate alreadySelected : selected) {
+                if (similarity(node, nodes.get(alreadySelected.node())) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Adds a connection from {@code node} to {@code neighbour}, pruning the connections of {@code node}
+     * with {@link #selectNeighbours(List, int)} if it already has {@code maxConnections} of them.
+     */
+    private void connect(Node<Embedded> node, Node<Embedded> neighbour, int layer, int maxConnections) {
+        if (node.neighbourCounts[layer] < maxConnections) {
+            node.connect(layer, neighbour);
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(maxConnections + 1);
+        candidates.add(new Candidate(neighbour.ordinal, similarity(node, neighbour)));
+        int[] neighbours = node.neighbours[layer];
+        for (int i = 0; i < node.neighbourCounts[layer]; i++) {
+            Node<Embedded> existing = nodes.get(neighbours[i]);
+            candidates.add(new Candidate(existing.ordinal, similarity(node, existing)));
+        }
+        candidates.sort(BEST_FIRST);
+
+        node.neighbourCounts[layer] = 0;
+        for (Candidate selected : selectNeighbours(candidates, maxConnections)) {
+            node.connect(layer, selected.node());
+        }
+    }
+
+    private int randomLevel() {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return (int) (-Math.log(random) * levelMultiplier);
+    }
+
+    private double similarity(Node<?> a, Node<?> b) {
+        return similarity(a.vector, a.norm, b);
+    }
+
+    private double similarity(float[] query, double queryNorm, Node<?> node) {
+        return kernel.cosineSimilarity(query, queryNorm, node.vector, node.norm);
+    }
+
+    private static void ensureSameDimension(float[] vectorA, float[] vectorB) {
+        if (vectorA.length != vectorB.length) {
+            throw illegalArgument(
+                    "Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vectorA.length, vectorB.length);
+        }
+    }
+
+    private record Candidate(int node, double similarity) {}
+
+    private static final class Node<E> {
+
+        final int ordinal;
+        final Entry<E> entry;
+        final float[] vector;
+        final double norm;
+        final int[][] neighbours;
+        final int[] neighbourCounts;
+        boolean deleted;
+
+        Node(int ordinal, Entry<E> entry, int level, int m, int maxM0) {
+            this.ordinal = ordinal;
+            this.entry = entry;
+            this.vector = entry.embedding.vector();
+            this.norm = entry.norm;
+            this.neighbours = new int[level + 1][];
+            for (int layer = 0; layer <= level; layer++) {
+                this.neighbours[layer] = new int[layer == 0 ? maxM0 : m];
+            }
+            this.neighbourCounts = new int[level + 1];
+        }
+
+        int level() {
+            return neighbours.length - 1;
+        }
+
+        void connect(int layer, Node<?> neighbour) {
+            connect(layer, neighbour.ordinal);
+        }
+
+        void connect(int layer, int neighbour) {
+            neighbours[layer][neighbourCounts[layer]++] = neighbour;
+        }
+    }
+}
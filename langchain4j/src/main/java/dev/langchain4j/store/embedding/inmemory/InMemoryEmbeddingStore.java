@@ -1,6 +1,10 @@
 package dev.langchain4j.store.embedding.inmemory;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -16,13 +20,15 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.spi.store.embedding.inmemory.InMemoryEmbeddingStoreJsonCodecFactory;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityKernels;
 import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.TopKScan.Match;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
@@ -32,24 +38,38 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * For large stores, an approximate HNSW index can be enabled with {@link Builder#hnsw(HnswConfig)},
+ * which makes searches sub-linear at the cost of exactness.
+ * Alternatively, {@link Builder#offHeap(Boolean)} keeps the exact search,
+ * but packs all vectors into contiguous off-heap memory instead of one object per entry.
+ * With {@link Builder#quantization(QuantizationConfig)}, searches scan int8 or binary quantized vectors,
+ * optionally rescoring the best candidates with full-precision vectors.
+ * Brute-force scans can be split into partitions running in parallel with {@link Builder#searchExecutor(Executor)}.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * For large stores, {@link #serializeToBinaryFile(Path)} and {@link #fromBinaryFile(Path)} use a compact binary format
+ * whose vectors are memory-mapped when loading, instead of being parsed.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
@@ -58,12 +78,78 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
 
+    /**
+     * Owns the entries instead of {@link #entries} when the store is not running in the default exact mode.
+     */
+    private final transient InMemoryIndex<Embedded> index;
+
+    /**
+     * Scans {@link #entries} in the default exact mode, possibly in parallel.
+     */
+    private final transient TopKScan scan;
+
+    /**
+     * Indexes the metadata of {@link #entries} by their position, in the default exact mode, if configured.
+     * {@link #entries} are only modified while holding its monitor, so that both are always consistent.
+     */
+    private final transient MetadataIndex metadataIndex;
+
     public InMemoryEmbeddingStore() {
         this.entries = new CopyOnWriteArrayList<>();
+        this.index = null;
+        this.scan = TopKScan.SEQUENTIAL;
+        this.metadataIndex = null;
     }
 
     private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
         this.entries = new CopyOnWriteArrayList<>(entries);
+        this.index = null;
+        this.scan = TopKScan.SEQUENTIAL;
+        this.metadataIndex = null;
+    }
+
+    private InMemoryEmbeddingStore(InMemoryIndex<Embedded> index) {
+        this.entries = new CopyOnWriteArrayList<>();
+        this.index = index;
+        this.scan = TopKScan.SEQUENTIAL;
+        this.metadataIndex = null;
+    }
+
+    private InMemoryEmbeddingStore(Builder<Embedded> builder) {
+        this.entries = new CopyOnWriteArrayList<>();
+        if (builder.searchExecutor != null) {
+            int parallelism = getOrDefault(builder.searchParallelism, Runtime.getRuntime().availableProcessors());
+            this.scan = new TopKScan(builder.searchExecutor, ensureGreaterThanZero(parallelism, "searchParallelism"));
+        } else {
+            this.scan = TopKScan.SEQUENTIAL;
+        }
+        boolean offHeap = getOrDefault(builder.offHeap, false);
+        if (builder.hnsw != null && offHeap) {
+            throw illegalArgument("hnsw and offHeap cannot be enabled at the same time");
+        }
+        if (builder.quantization != null && (builder.hnsw != null || offHeap)) {
+            throw illegalArgument("quantization cannot be combined with hnsw or offHeap");
+        }
+        MetadataIndex metadataIndex = null;
+        if (!isNullOrEmpty(builder.indexedMetadataKeys)) {
+            if (builder.hnsw != null) {
+                throw illegalArgument("indexedMetadataKeys cannot be combined with hnsw");
+            }
+            metadataIndex = new MetadataIndex(builder.indexedMetadataKeys);
+        }
+        if (builder.hnsw != null) {
+            this.index = new HnswIndex<>(builder.hnsw);
+            this.metadataIndex = null;
+        } else if (offHeap) {
+            this.index = new PackedIndex<>(scan, metadataIndex);
+            this.metadataIndex = null;
+        } else if (builder.quantization != null) {
+            this.index = new QuantizedIndex<>(builder.quantization, scan, metadataIndex);
+            this.metadataIndex = null;
+        } else {
+            this.index = null;
+            this.metadataIndex = metadataIndex;
+        }
     }
 
     @Override
@@ -86,7 +172,17 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        Entry<Embedded> entry = new Entry<>(id, embedding, embedded);
+        if (index != null) {
+            index.add(List.of(entry));
+        } else if (metadataIndex != null) {
+            synchronized (metadataIndex) {
+                metadataIndex.add(entries.size(), entry.embedded);
+                entries.add(entry);
+            }
+        } else {
+            entries.add(entry);
+        }
     }
 
     @Override
@@ -115,7 +211,19 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        if (index != null) {
+            index.add(newEntries);
+        } else if (metadataIndex != null) {
+            synchronized (metadataIndex) {
+                int ordinal = entries.size();
+                for (Entry<Embedded> entry : newEntries) {
+                    metadataIndex.add(ordinal++, entry.embedded);
+                }
+                entries.addAll(newEntries);
+            }
+        } else {
+            entries.addAll(newEntries);
+        }
 
         return newEntries.stream().map(entry -> entry.id).collect(toList());
     }
@@ -125,7 +233,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotEmpty(ids, "ids");
         Set<String> idSet = (ids instanceof Set) ? (Set<String>) ids : new HashSet<>(ids);
 
-        entries.removeIf(entry -> idSet.contains(entry.id));
+        removeIf((id, embedded) -> idSet.contains(id));
     }
 
     /**
@@ -140,12 +248,41 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> matchesFilter(entry.embedded, filter));
+        Predicate<Object> matchesFilter = CompiledFilter.compile(filter);
+        removeIf((id, embedded) -> matchesFilter.test(embedded));
     }
 
     @Override
     public void removeAll() {
-        entries.clear();
+        if (index != null) {
+            index.clear();
+        } else if (metadataIndex != null) {
+            synchronized (metadataIndex) {
+                entries.clear();
+                metadataIndex.clear();
+            }
+        } else {
+            entries.clear();
+        }
+    }
+
+    private void removeIf(BiPredicate<String, Embedded> predicate) {
+        if (index != null) {
+            index.removeIf(predicate);
+        } else if (metadataIndex != null) {
+            synchronized (metadataIndex) {
+                if (entries.removeIf(entry -> predicate.test(entry.id, entry.embedded))) {
+                    // the positions of the remaining entries have changed
+                    metadataIndex.clear();
+                    int ordinal = 0;
+                    for (Entry<Embedded> entry : entries) {
+                        metadataIndex.add(ordinal++, entry.embedded);
+                    }
+                }
+            }
+        } else {
+            entries.removeIf(entry -> predicate.test(entry.id, entry.embedded));
+        }
     }
 
     /**
@@ -157,41 +294,114 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
      * non-matching and are therefore excluded from the results.
      * <p>
      * When no filter is present, all entries are eligible regardless of their embedded object type.
+     * <p>
+     * When an HNSW index or quantization is enabled, the search is approximate
+     * and may miss some of the best matches.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
-        Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
-
-        Filter filter = embeddingSearchRequest.filter();
+        if (index != null) {
+            return new EmbeddingSearchResult<>(index.search(embeddingSearchRequest));
+        }
 
-        for (Entry<Embedded> entry : entries) {
+        Predicate<Object> matchesFilter = CompiledFilter.compile(embeddingSearchRequest.filter());
+        double minScore = embeddingSearchRequest.minScore();
+        SimilarityKernel kernel = SimilarityKernels.defaultKernel();
+        float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+        double queryNorm = kernel.norm(queryVector);
 
-            if (!matchesFilter(entry.embedded, filter)) {
-                continue;
+        int maxResults = embeddingSearchRequest.maxResults();
+        ToDoubleFunction<Entry<Embedded>> scorer = entry -> {
+            if (!matchesFilter.test(entry.embedded)) {
+                return Double.NaN;
             }
-
             double cosineSimilarity =
-                    CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
+                    kernel.cosineSimilarity(entry.embedding.vector(), entry.norm, queryVector, queryNorm);
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-            if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
-                if (matches.size() > embeddingSearchRequest.maxResults()) {
-                    matches.poll();
-                }
-            }
+            return score >= minScore ? score : Double.NaN;
+        };
+
+        // a snapshot, so that entries can be scanned while they are being added or removed
+        EntriesSnapshot<Embedded> snapshot = snapshot(embeddingSearchRequest.filter());
+        if (snapshot.array() == null) {
+            return new EmbeddingSearchResult<>(
+                    sequentialSearch(snapshot.iterator(), snapshot.candidates(), scorer, maxResults));
         }
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
-        Collections.reverse(result);
+        Object[] array = snapshot.array();
+        List<Match> best = scan.search(
+                array.length,
+                snapshot.candidates(),
+                maxResults,
+                () -> ordinal -> scorer.applyAsDouble((Entry<Embedded>) array[ordinal]));
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(best.size());
+        for (Match match : best) {
+            Entry<Embedded> entry = (Entry<Embedded>) array[match.ordinal()];
+            result.add(new EmbeddingMatch<>(match.score(), entry.id, entry.embedding, entry.embedded));
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * The entries to scan, with the positions of the candidates pre-selected by the {@link #metadataIndex}, if any.
+     * When the scan is split into partitions, the entries are copied into an {@code array}, so that partitions
+     * can access them by position. Otherwise, they are iterated: the iterator of a {@link CopyOnWriteArrayList}
+     * is already a snapshot, so the entries are not copied.
+     */
+    private record EntriesSnapshot<Embedded>(
+            BitSet candidates, Iterator<Entry<Embedded>> iterator, Object[] array) {}
+
+    private EntriesSnapshot<Embedded> snapshot(Filter filter) {
+        if (metadataIndex == null || filter == null) {
+            return snapshot((BitSet) null);
+        }
+        synchronized (metadataIndex) {
+            return snapshot(metadataIndex.candidates(filter));
+        }
+    }
+
+    private EntriesSnapshot<Embedded> snapshot(BitSet candidates) {
+        int scanned = candidates == null ? entries.size() : candidates.cardinality();
+        return scan.isPartitioned(scanned)
+                ? new EntriesSnapshot<>(candidates, null, entries.toArray())
+                : new EntriesSnapshot<>(candidates, entries.iterator(), null);
+    }
+
+    /**
+     * Scans the entries on the calling thread, skipping the ones that are not {@code candidates} (if not null).
+     */
+    private static <Embedded> List<EmbeddingMatch<Embedded>> sequentialSearch(
+            Iterator<Entry<Embedded>> entries,
+            BitSet candidates,
+            ToDoubleFunction<Entry<Embedded>> scorer,
+            int maxResults) {
+        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparingDouble(EmbeddingMatch::score));
+        int end = candidates == null ? Integer.MAX_VALUE : candidates.length();
+        for (int ordinal = 0; ordinal < end && entries.hasNext(); ordinal++) {
+            Entry<Embedded> entry = entries.next();
+            if (candidates != null && !candidates.get(ordinal)) {
+                continue;
+            }
+            double score = scorer.applyAsDouble(entry);
+            if (Double.isNaN(score) || (matches.size() == maxResults && score <= matches.peek().score())) {
+                continue;
+            }
+            matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+            if (matches.size() > maxResults) {
+                matches.poll();
+            }
+        }
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
+        result.sort(comparingDouble(EmbeddingMatch<Embedded>::score).reversed());
+        return result;
+    }
+
     public String serializeToJson() {
-        return loadCodec().toJson(this);
+        return loadCodec().toJson(serializable());
     }
 
     /**
@@ -203,7 +413,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     public void serializeToFile(Path filePath) {
         try (OutputStream outputStream =
                 new BufferedOutputStream(Files.newOutputStream(filePath, CREATE, TRUNCATE_EXISTING))) {
-            loadCodec().toJson(outputStream, this);
+            loadCodec().toJson(outputStream, serializable());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -241,6 +451,59 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Serializes this store to a file in a compact binary format, which can be loaded with {@link #fromBinaryFile(Path)}.
+     * <p>
+     * The file contains a header, a block with all vectors packed back to back,
+     * and a block with the ids and {@link TextSegment}s.
+     * Only stores whose embedded objects are {@link TextSegment}s (or {@code null}) can be serialized this way.
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            BinarySnapshot.write(entries(), filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @see #serializeToBinaryFile(Path)
+     */
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
+    /**
+     * Loads an embedding store from a file written by {@link #serializeToBinaryFile(Path)}.
+     * <p>
+     * The vectors are memory-mapped rather than read, so the store is searchable immediately,
+     * and its memory is managed by the operating system's page cache.
+     * The returned store runs in the off-heap mode (see {@link Builder#offHeap(Boolean)}).
+     * The file must not be modified while the store is in use.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        try {
+            return new InMemoryEmbeddingStore<>(BinarySnapshot.read(filePath));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @see #fromBinaryFile(Path)
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
+    /**
+     * Converts a store serialized with {@link #serializeToFile(Path)} into the binary format
+     * read by {@link #fromBinaryFile(Path)}.
+     */
+    public static void convertJsonFileToBinaryFile(Path jsonFilePath, Path binaryFilePath) {
+        fromFile(jsonFilePath).serializeToBinaryFile(binaryFilePath);
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -250,7 +513,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotNull(stores, "stores");
         List<Entry<Embedded>> entries = new ArrayList<>();
         for (InMemoryEmbeddingStore<Embedded> store : stores) {
-            entries.addAll(store.entries);
+            entries.addAll(store.entries());
         }
         return new InMemoryEmbeddingStore<>(entries);
     }
@@ -264,29 +527,17 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return merge(asList(first, second));
     }
 
-    /**
-     * Tests whether an embedded object matches the given {@link Filter}.
-     *
-     * @return {@code true} if the filter is {@code null} (no filtering requested), or if the embedded object
-     *         is a {@link TextSegment} whose {@link Metadata} passes the filter;
-     *         {@code false} otherwise, including when the embedded object is {@code null} or not a {@link TextSegment}.
-     */
-    private static boolean matchesFilter(Object embedded, Filter filter) {
-        if (filter == null) {
-            return true;
-        }
-        if (embedded instanceof TextSegment) {
-            return filter.test(((TextSegment) embedded).metadata());
-        }
-        return false;
-    }
-
     static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
 
+        /**
+         * The norm of {@link #embedding}, computed once so that searches do not recompute it for every query.
+         */
+        final transient double norm;
+
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
         }
@@ -295,6 +546,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             this.id = ensureNotBlank(id, "id");
             this.embedding = ensureNotNull(embedding, "embedding");
             this.embedded = embedded;
+            this.norm = SimilarityKernels.defaultKernel().norm(embedding.vector());
         }
 
         @Override
@@ -321,13 +573,132 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return new JacksonInMemoryEmbeddingStoreJsonCodec();
     }
 
+    /**
+     * Returns the live entries of this store, regardless of the mode it runs in.
+     */
+    private List<Entry<Embedded>> entries() {
+        return index != null ? index.entries() : entries;
+    }
+
+    /**
+     * Returns a store in the default mode holding the same entries as this one,
+     * so that codecs only ever need to deal with {@link #entries}.
+     */
+    private InMemoryEmbeddingStore<Embedded> serializable() {
+        return index != null ? new InMemoryEmbeddingStore<>(index.entries()) : this;
+    }
+
     @JsonIgnore
     public int size() {
-        return entries.size();
+        return index != null ? index.size() : entries.size();
     }
 
     @JsonIgnore
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size() == 0;
+    }
+
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<Embedded> {
+
+        private HnswConfig hnsw;
+        private Boolean offHeap;
+        private QuantizationConfig quantization;
+        private Executor searchExecutor;
+        private Integer searchParallelism;
+        private Collection<String> indexedMetadataKeys;
+
+        /**
+         * @param hnsw The configuration of the HNSW graph index to search with.
+         *             If not provided, the store performs an exact brute-force search.
+         * @return builder
+         */
+        public Builder<Embedded> hnsw(HnswConfig hnsw) {
+            this.hnsw = hnsw;
+            return this;
+        }
+
+        /**
+         * @param offHeap Whether to pack all vectors into contiguous off-heap memory,
+         *                with ids and embedded objects held in parallel arrays.
+         *                This avoids allocating objects per entry and makes scans cache-friendly.
+         *                Off-heap memory is limited by the {@code -XX:MaxDirectMemorySize} JVM option.
+         *                Cannot be combined with {@link #hnsw(HnswConfig)}. Default: {@code false}.
+         * @return builder
+         */
+        public Builder<Embedded> offHeap(Boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        /**
+         * @param quantization The configuration of the quantization of the vectors to search with.
+         *                     Quantized vectors use 4 ({@link Quantization#INT8}) to 32 ({@link Quantization#BINARY})
+         *                     times less memory than full-precision vectors and are faster to scan,
+         *                     at the cost of approximate similarities, unless rescoring is enabled.
+         *                     Cannot be combined with {@link #hnsw(HnswConfig)} or {@link #offHeap(Boolean)}.
+         * @return builder
+         */
+        public Builder<Embedded> quantization(QuantizationConfig quantization) {
+            this.quantization = quantization;
+            return this;
+        }
+
+        /**
+         * @param searchExecutor The executor to scan partitions of the store on, in parallel.
+         *                       Each partition keeps its own top-k matches, which are merged at the end,
+         *                       so that a single search over a large store can use all available cores.
+         *                       A virtual thread executor or a {@link java.util.concurrent.ForkJoinPool}
+         *                       is a good fit. Stores with fewer than a few thousand entries
+         *                       are always scanned on the calling thread.
+         *                       Has no effect with {@link #hnsw(HnswConfig)}.
+         *                       If not provided, searches run on the calling thread.
+         * @return builder
+         */
+        public Builder<Embedded> searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        /**
+         * @param searchParallelism The maximum number of partitions a search is split into
+         *                          when a {@link #searchExecutor(Executor)} is provided.
+         *                          Default: the number of available processors.
+         * @return builder
+         */
+        public Builder<Embedded> searchParallelism(Integer searchParallelism) {
+            this.searchParallelism = searchParallelism;
+            return this;
+        }
+
+        /**
+         * @param indexedMetadataKeys The metadata keys to maintain an inverted index for.
+         *                            Searches with {@code isEqualTo} and {@code isIn} filters on these keys
+         *                            (possibly combined with {@code and} and {@code or})
+         *                            only compare the query with the embeddings of the pre-selected entries,
+         *                            instead of testing the filter against every entry.
+         *                            {@link String}, {@link java.util.UUID}, {@link Integer} and {@link Long}
+         *                            values are indexed.
+         *                            Cannot be combined with {@link #hnsw(HnswConfig)}.
+         * @return builder
+         */
+        public Builder<Embedded> indexedMetadataKeys(Collection<String> indexedMetadataKeys) {
+            this.indexedMetadataKeys = indexedMetadataKeys;
+            return this;
+        }
+
+        /**
+         * @see #indexedMetadataKeys(Collection)
+         */
+        public Builder<Embedded> indexedMetadataKeys(String... indexedMetadataKeys) {
+            return indexedMetadataKeys(asList(indexedMetadataKeys));
+        }
+
+        public InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
+        }
     }
 }
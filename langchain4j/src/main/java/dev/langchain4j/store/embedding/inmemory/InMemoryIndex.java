@@ -0,0 +1,36 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * A search structure that owns the entries of an {@link InMemoryEmbeddingStore}
+ * when the store is not running in its default (exact, brute-force) mode.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ */
+interface InMemoryIndex<Embedded> {
+
+    void add(List<Entry<Embedded>> entries);
+
+    /**
+     * Removes all entries for which the predicate, given the entry id and embedded object, returns {@code true}.
+     */
+    void removeIf(BiPredicate<String, Embedded> predicate);
+
+    void clear();
+
+    List<EmbeddingMatch<Embedded>> search(EmbeddingSearchRequest request);
+
+    /**
+     * Returns all live entries, in insertion order.
+     */
+    List<Entry<Embedded>> entries();
+
+    int size();
+}
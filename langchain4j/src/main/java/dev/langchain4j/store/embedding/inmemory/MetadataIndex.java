@@ -0,0 +1,180 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.inmemory.CompiledFilter.allOfType;
+import static dev.langchain4j.store.embedding.inmemory.CompiledFilter.isIntegral;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An inverted index from metadata values to the ordinals of the entries having them,
+ * for a fixed set of metadata keys.
+ * <p>
+ * It is used to pre-select the candidates of a search from {@link IsEqualTo} and {@link IsIn} filters
+ * (possibly combined with {@link And} and {@link Or}) as a {@link BitSet} of ordinals, before any vector is compared.
+ * The pre-selection is a superset of the matching entries: the filter is still evaluated on every candidate.
+ * <p>
+ * {@link String}, {@link UUID}, {@link Integer} and {@link Long} values are indexed.
+ * A filter on a key that also holds values of other types (or of a type incompatible with the comparison value)
+ * is not pre-selected, so that it behaves exactly like {@link Filter#test(Object)}, including type mismatch errors.
+ * <p>
+ * Not thread-safe, callers must synchronize access.
+ */
+class MetadataIndex {
+
+    private final Set<String> keys;
+    private final Map<String, KeyIndex> indexes = new HashMap<>();
+
+    MetadataIndex(Collection<String> keys) {
+        this.keys = Set.copyOf(keys);
+    }
+
+    /**
+     * Indexes the metadata of the entry with the given ordinal.
+     * Ordinals must be added in increasing order.
+     */
+    void add(int ordinal, Object embedded) {
+        if (!(embedded instanceof TextSegment segment)) {
+            return;
+        }
+        for (String key : keys) {
+            Object value = segment.metadata().getObject(key);
+            if (value != null) {
+                indexes.computeIfAbsent(key, k -> new KeyIndex()).add(ordinal, value);
+            }
+        }
+    }
+
+    void clear() {
+        indexes.clear();
+    }
+
+    /**
+     * Returns the ordinals of the entries that may match the given filter,
+     * or {@code null} if the filter cannot be resolved using this index.
+     */
+    BitSet candidates(Filter filter) {
+        if (filter instanceof And and) {
+            BitSet left = candidates(and.left());
+            BitSet right = candidates(and.right());
+            if (left == null) {
+                return right;
+            }
+            if (right != null) {
+                left.and(right);
+            }
+            return left;
+        } else if (filter instanceof Or or) {
+            BitSet left = candidates(or.left());
+            BitSet right = candidates(or.right());
+            if (left == null || right == null) {
+                return null;
+            }
+            left.or(right);
+            return left;
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            return candidates(isEqualTo.key(), List.of(isEqualTo.comparisonValue()));
+        } else if (filter instanceof IsIn isIn) {
+            return candidates(isIn.key(), isIn.comparisonValues());
+        }
+        return null;
+    }
+
+    private BitSet candidates(String key, Collection<?> comparisonValues) {
+        if (!keys.contains(key)) {
+            return null;
+        }
+        KeyIndex index = indexes.get(key);
+        if (index == null) {
+            // no entry has this key
+            return new BitSet();
+        }
+        if (!index.canResolve(comparisonValues)) {
+            return null;
+        }
+        BitSet candidates = new BitSet();
+        for (Object comparisonValue : comparisonValues) {
+            Postings postings = index.postings.get(normalize(comparisonValue));
+            if (postings != null) {
+                postings.addTo(candidates);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Integral numbers are compared by value regardless of their type, see {@link IsEqualTo}.
+     */
+    private static Object normalize(Object value) {
+        return isIntegral(value) ? Long.valueOf(((Number) value).longValue()) : value;
+    }
+
+    private static class KeyIndex {
+
+        private final Map<Object, Postings> postings = new HashMap<>();
+        private final Set<Class<?>> types = new HashSet<>();
+        private boolean hasUnindexedValues;
+
+        void add(int ordinal, Object value) {
+            if (!(value instanceof String || value instanceof UUID || isIntegral(value))) {
+                hasUnindexedValues = true;
+                return;
+            }
+            types.add(isIntegral(value) ? Long.class : value.getClass());
+            postings.computeIfAbsent(normalize(value), v -> new Postings()).add(ordinal);
+        }
+
+        /**
+         * Whether all values of this key are of the same kind as the comparison values,
+         * so that equality of normalized values is equivalent to {@link Filter#test(Object)}.
+         */
+        boolean canResolve(Collection<?> comparisonValues) {
+            if (hasUnindexedValues || types.size() > 1) {
+                return false;
+            }
+            if (types.isEmpty()) {
+                return true;
+            }
+            Class<?> type = types.iterator().next();
+            if (type == Long.class) {
+                return comparisonValues.stream().allMatch(CompiledFilter::isIntegral);
+            }
+            return allOfType(comparisonValues, type);
+        }
+    }
+
+    /**
+     * Ordinals in increasing order.
+     */
+    private static class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(ordinals[i]);
+            }
+        }
+    }
+}
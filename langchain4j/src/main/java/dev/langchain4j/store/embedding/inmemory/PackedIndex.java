@@ -0,0 +1,241 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityKernels;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.inmemory.TopKScan.Match;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * An exact (brute-force) index that keeps all vectors in a single {@link PackedVectors} arena,
+ * with ids, embedded objects and vector norms held in parallel arrays indexed by ordinal.
+ * <p>
+ * Compared to the default mode of {@link InMemoryEmbeddingStore}, no object is allocated per entry,
+ * appending is amortized O(1), and vectors are stored off-heap.
+ * {@link Embedding}s are only materialized for the entries returned from a search.
+ * <p>
+ * Removals compact the arrays, preserving the insertion order of the remaining entries.
+ */
+class PackedIndex<Embedded> implements InMemoryIndex<Embedded> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SimilarityKernel kernel = SimilarityKernels.defaultKernel();
+    private final TopKScan scan;
+    private final MetadataIndex metadataIndex;
+
+    private PackedVectors vectors;
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private Object[] embedded = new Object[INITIAL_CAPACITY];
+    private double[] norms = new double[INITIAL_CAPACITY];
+    private int size;
+
+    PackedIndex(TopKScan scan, MetadataIndex metadataIndex) {
+        this.scan = scan;
+        this.metadataIndex = metadataIndex;
+    }
+
+    /**
+     * Creates an index over existing data, e.g. memory-mapped from a binary snapshot.
+     * The arrays are used as-is and must all have the same length as {@code vectors}.
+     */
+    PackedIndex(PackedVectors vectors, String[] ids, Object[] embedded, double[] norms) {
+        this.scan = TopKScan.SEQUENTIAL;
+        this.metadataIndex = null;
+        this.vectors = vectors;
+        this.ids = ids;
+        this.embedded = embedded;
+        this.norms = norms;
+        this.size = ids.length;
+    }
+
+    @Override
+    public void add(List<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry<Embedded> entry : entries) {
+                float[] vector = entry.embedding.vector();
+                if (vectors == null) {
+                    vectors = new PackedVectors(vector.length);
+                }
+                ensureSameDimension(vector, vectors.dimension());
+
+                ensureCapacity(size + 1);
+                vectors.add(vector);
+                ids[size] = entry.id;
+                embedded[size] = entry.embedded;
+                norms[size] = entry.norm;
+                if (metadataIndex != null) {
+                    metadataIndex.add(size, entry.embedded);
+                }
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            float[] buffer = vectors == null ? null : new float[vectors.dimension()];
+            int kept = 0;
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (predicate.test(ids[ordinal], (Embedded) embedded[ordinal])) {
+                    continue;
+                }
+                if (kept != ordinal) {
+                    vectors.move(ordinal, kept, buffer);
+                    ids[kept] = ids[ordinal];
+                    embedded[kept] = embedded[ordinal];
+                    norms[kept] = norms[ordinal];
+                }
+                kept++;
+            }
+            Arrays.fill(ids, kept, size, null);
+            Arrays.fill(embedded, kept, size, null);
+            size = kept;
+            reindexMetadata();
+            if (kept == 0) {
+                vectors = null;
+            } else {
+                vectors.truncate(kept);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            vectors = null;
+            ids = new String[INITIAL_CAPACITY];
+            embedded = new Object[INITIAL_CAPACITY];
+            norms = new double[INITIAL_CAPACITY];
+            size = 0;
+            reindexMetadata();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EmbeddingMatch<Embedded>> search(EmbeddingSearchRequest request) {
+        float[] query = request.queryEmbedding().vector();
+        double queryNorm = kernel.norm(query);
+        Filter filter = request.filter();
+        Predicate<Object> matchesFilter = CompiledFilter.compile(filter);
+        double minScore = request.minScore();
+
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            ensureSameDimension(query, vectors.dimension());
+
+            PackedVectors vectors = this.vectors;
+            Object[] embedded = this.embedded;
+            double[] norms = this.norms;
+            BitSet candidates = filter != null && metadataIndex != null ? metadataIndex.candidates(filter) : null;
+            // vectors are scored in place, without copying them out of their chunk
+            List<Match> best = scan.search(size, candidates, request.maxResults(), () -> ordinal -> {
+                if (!matchesFilter.test(embedded[ordinal])) {
+                    return Double.NaN;
+                }
+                double cosineSimilarity = kernel.cosineSimilarity(
+                        vectors.chunk(ordinal), vectors.offset(ordinal), norms[ordinal], query, queryNorm);
+                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                return score >= minScore ? score : Double.NaN;
+            });
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(best.size());
+            for (Match match : best) {
+                int ordinal = match.ordinal();
+                matches.add(new EmbeddingMatch<>(
+                        match.score(),
+                        ids[ordinal],
+                        Embedding.from(vectors.get(ordinal)),
+                        (Embedded) embedded[ordinal]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Entry<Embedded>> entries() {
+        lock.readLock().lock();
+        try {
+            List<Entry<Embedded>> entries = new ArrayList<>(size);
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                Embedding embedding = Embedding.from(vectors.get(ordinal));
+                entries.add(new Entry<>(ids[ordinal], embedding, (Embedded) embedded[ordinal]));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the metadata index after ordinals have changed.
+     */
+    private void reindexMetadata() {
+        if (metadataIndex != null) {
+            metadataIndex.clear();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                metadataIndex.add(ordinal, embedded[ordinal]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            embedded = Arrays.copyOf(embedded, newCapacity);
+            norms = Arrays.copyOf(norms, newCapacity);
+        }
+    }
+
+    private static void ensureSameDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw illegalArgument(
+                    "Length of vector a (%s) must be equal to the length of vector b (%s)", vector.length, dimension);
+        }
+    }
+
+}
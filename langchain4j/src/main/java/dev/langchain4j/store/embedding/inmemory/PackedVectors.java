@@ -0,0 +1,150 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static java.nio.ByteOrder.nativeOrder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-dimension float vectors packed back to back into off-heap memory.
+ * <p>
+ * Vectors are addressed by their ordinal (insertion position).
+ * The memory is split into chunks of equal capacity, so that appending never copies existing vectors
+ * and the store is not limited by the maximum size of a single {@link ByteBuffer}.
+ * Within a chunk, vectors are contiguous, which keeps scans cache-friendly.
+ * <p>
+ * Chunks can also be memory-mapped from a file (see {@link #map(FileChannel, long, ByteOrder, int, int)}).
+ * Mapped chunks are read-only: a chunk is copied into direct memory the first time it is written to.
+ * <p>
+ * Not thread-safe, callers must synchronize access.
+ */
+class PackedVectors {
+
+    /**
+     * The target number of floats per chunk (4 MB).
+     */
+    private static final int CHUNK_FLOATS = 1 << 20;
+
+    private final int dimension;
+    private final int vectorsPerChunk;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int size;
+
+    PackedVectors(int dimension) {
+        this.dimension = dimension;
+        this.vectorsPerChunk = Math.max(1, CHUNK_FLOATS / dimension);
+    }
+
+    /**
+     * Maps {@code size} vectors stored back to back in the given file, starting at {@code position},
+     * without reading them.
+     */
+    static PackedVectors map(FileChannel channel, long position, ByteOrder order, int dimension, int size)
+            throws IOException {
+        PackedVectors vectors = new PackedVectors(dimension);
+        long chunkBytes = (long) vectors.vectorsPerChunk * dimension * Float.BYTES;
+        long end = position + (long) size * dimension * Float.BYTES;
+        for (long start = position; start < end; start += chunkBytes) {
+            long length = Math.min(chunkBytes, end - start);
+            ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length).order(order);
+            vectors.chunks.add(chunk);
+        }
+        vectors.size = size;
+        return vectors;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(float[] vector) {
+        if (size == (long) chunks.size() * vectorsPerChunk) {
+            chunks.add(allocateChunk());
+        }
+        set(size++, vector);
+    }
+
+    /**
+     * Copies the vector with the given ordinal into {@code target}, which must have {@link #dimension()} elements.
+     */
+    void get(int ordinal, float[] target) {
+        chunks.get(ordinal / vectorsPerChunk).asFloatBuffer().get(index(ordinal), target, 0, dimension);
+    }
+
+    /**
+     * Returns the chunk holding the vector with the given ordinal, which starts at byte {@link #offset(int)}.
+     * It can be used to read the vector in place, but must not be modified.
+     */
+    ByteBuffer chunk(int ordinal) {
+        return chunks.get(ordinal / vectorsPerChunk);
+    }
+
+    /**
+     * Returns the offset, in bytes, of the first component of the vector with the given ordinal
+     * in its {@link #chunk(int)}.
+     */
+    int offset(int ordinal) {
+        return index(ordinal) * Float.BYTES;
+    }
+
+    private int index(int ordinal) {
+        return (ordinal % vectorsPerChunk) * dimension;
+    }
+
+    float[] get(int ordinal) {
+        float[] vector = new float[dimension];
+        get(ordinal, vector);
+        return vector;
+    }
+
+    /**
+     * Moves the vector at {@code from} to {@code to}, overwriting it.
+     * Used to compact the storage after removals.
+     */
+    void move(int from, int to, float[] buffer) {
+        get(from, buffer);
+        set(to, buffer);
+    }
+
+    /**
+     * Drops all vectors with an ordinal greater or equal to {@code newSize},
+     * releasing the chunks that are no longer needed.
+     */
+    void truncate(int newSize) {
+        size = newSize;
+        int neededChunks = (newSize + vectorsPerChunk - 1) / vectorsPerChunk;
+        while (chunks.size() > neededChunks) {
+            chunks.remove(chunks.size() - 1);
+        }
+    }
+
+    private void set(int ordinal, float[] vector) {
+        writableChunk(ordinal / vectorsPerChunk).asFloatBuffer().put(index(ordinal), vector, 0, dimension);
+    }
+
+    private ByteBuffer writableChunk(int index) {
+        ByteBuffer chunk = chunks.get(index);
+        if (chunk.isReadOnly()) {
+            // copied float by float, as the mapped file may not be in the native byte order
+            ByteBuffer copy = allocateChunk();
+            FloatBuffer floats = chunk.asFloatBuffer();
+            copy.asFloatBuffer().put(0, floats, 0, floats.limit());
+            chunks.set(index, copy);
+            return copy;
+        }
+        return chunk;
+    }
+
+    private ByteBuffer allocateChunk() {
+        return ByteBuffer.allocateDirect(vectorsPerChunk * dimension * Float.BYTES).order(nativeOrder());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * The way vectors are compressed by an {@link InMemoryEmbeddingStore} configured with a {@link QuantizationConfig}.
+ */
+public enum Quantization {
+
+    /**
+     * Each component is stored as a signed byte, scaled per vector. Uses 4x less memory than 32-bit floats.
+     */
+    INT8,
+
+    /**
+     * Only the sign of each component is stored, as a single bit. Uses 32x less memory than 32-bit floats.
+     * Similarities are estimated from the Hamming distance between the bit vectors,
+     * so this is best combined with rescoring.
+     */
+    BINARY
+}
@@ -0,0 +1,126 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.Objects;
+
+/**
+ * Configuration of vector quantization for an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * With quantization, searches scan compressed vectors, which is faster and uses less memory,
+ * but the similarities computed during the scan are approximate.
+ * By default, full-precision vectors are not kept at all:
+ * scores are approximate and the returned embeddings are reconstructed from the quantized vectors.
+ * <p>
+ * When {@link #rescore()} is enabled, the best {@code maxResults * oversampling} candidates of the scan
+ * are rescored against their full-precision vectors, so that the returned scores are exact and
+ * {@link dev.langchain4j.store.embedding.EmbeddingSearchRequest#minScore()} is applied to exact scores.
+ * This keeps the float vectors (off-heap) in addition to the quantized ones,
+ * so the store then uses more memory than without quantization: only the scans are faster.
+ *
+ * @see InMemoryEmbeddingStore.Builder#quantization(QuantizationConfig)
+ */
+public class QuantizationConfig {
+
+    static final int DEFAULT_INT8_OVERSAMPLING = 3;
+    static final int DEFAULT_BINARY_OVERSAMPLING = 10;
+
+    private final Quantization type;
+    private final boolean rescore;
+    private final int oversampling;
+
+    private QuantizationConfig(Builder builder) {
+        this.type = ensureNotNull(builder.type, "type");
+        this.rescore = getOrDefault(builder.rescore, false);
+        int defaultOversampling =
+                type == Quantization.BINARY ? DEFAULT_BINARY_OVERSAMPLING : DEFAULT_INT8_OVERSAMPLING;
+        this.oversampling =
+                ensureGreaterThanZero(getOrDefault(builder.oversampling, defaultOversampling), "oversampling");
+    }
+
+    /**
+     * How vectors are quantized.
+     */
+    public Quantization type() {
+        return type;
+    }
+
+    /**
+     * Whether the best candidates of the quantized scan are rescored with full-precision vectors.
+     */
+    public boolean rescore() {
+        return rescore;
+    }
+
+    /**
+     * How many candidates per requested result are rescored with full-precision vectors.
+     */
+    public int oversampling() {
+        return oversampling;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QuantizationConfig that = (QuantizationConfig) o;
+        return type == that.type && rescore == that.rescore && oversampling == that.oversampling;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, rescore, oversampling);
+    }
+
+    @Override
+    public String toString() {
+        return "QuantizationConfig{" + "type=" + type + ", rescore=" + rescore + ", oversampling=" + oversampling
+                + '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Quantization type;
+        private Boolean rescore;
+        private Integer oversampling;
+
+        /**
+         * @param type How vectors are quantized. Mandatory.
+         * @return builder
+         */
+        public Builder type(Quantization type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * @param rescore Whether to rescore the best candidates with full-precision vectors,
+         *                which are then kept in addition to the quantized vectors. Default: {@code false}.
+         * @return builder
+         */
+        public Builder rescore(Boolean rescore) {
+            this.rescore = rescore;
+            return this;
+        }
+
+        /**
+         * @param oversampling How many candidates per requested result are rescored.
+         *                     Default: 3 for {@link Quantization#INT8}, 10 for {@link Quantization#BINARY}.
+         * @return builder
+         */
+        public Builder oversampling(Integer oversampling) {
+            this.oversampling = oversampling;
+            return this;
+        }
+
+        public QuantizationConfig build() {
+            return new QuantizationConfig(this);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Comparator.comparingDouble;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityKernels;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore.Entry;
+import dev.langchain4j.store.embedding.inmemory.TopKScan.Match;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A brute-force index that scans {@link QuantizedVectors} instead of full-precision vectors.
+ * <p>
+ * When rescoring is enabled, full-precision vectors are kept in a {@link PackedVectors} arena,
+ * and the best {@code maxResults * oversampling} candidates of the quantized scan are rescored against them.
+ * Otherwise, only the quantized vectors are kept, and scores are approximate.
+ *
+ * @see QuantizationConfig
+ */
+class QuantizedIndex<Embedded> implements InMemoryIndex<Embedded> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SimilarityKernel kernel = SimilarityKernels.defaultKernel();
+    private final QuantizationConfig config;
+    private final TopKScan scan;
+    private final MetadataIndex metadataIndex;
+
+    private QuantizedVectors codes;
+    private PackedVectors vectors;
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private Object[] embedded = new Object[INITIAL_CAPACITY];
+    private double[] norms = new double[INITIAL_CAPACITY];
+    private int size;
+
+    QuantizedIndex(QuantizationConfig config, TopKScan scan, MetadataIndex metadataIndex) {
+        this.config = config;
+        this.scan = scan;
+        this.metadataIndex = metadataIndex;
+    }
+
+    @Override
+    public void add(List<Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry<Embedded> entry : entries) {
+                float[] vector = entry.embedding.vector();
+                if (codes == null) {
+                    codes = QuantizedVectors.create(config.type(), vector.length);
+                    vectors = config.rescore() ? new PackedVectors(vector.length) : null;
+                }
+                ensureSameDimension(vector, codes.dimension());
+
+                ensureCapacity(size + 1);
+                codes.add(vector);
+                if (vectors != null) {
+                    vectors.add(vector);
+                }
+                ids[size] = entry.id;
+                embedded[size] = entry.embedded;
+                norms[size] = entry.norm;
+                if (metadataIndex != null) {
+                    metadataIndex.add(size, entry.embedded);
+                }
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            float[] buffer = vectors == null ? null : new float[vectors.dimension()];
+            int kept = 0;
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (predicate.test(ids[ordinal], (Embedded) embedded[ordinal])) {
+                    continue;
+                }
+                if (kept != ordinal) {
+                    codes.move(ordinal, kept);
+                    if (vectors != null) {
+                        vectors.move(ordinal, kept, buffer);
+                    }
+                    ids[kept] = ids[ordinal];
+                    embedded[kept] = embedded[ordinal];
+                    norms[kept] = norms[ordinal];
+                }
+                kept++;
+            }
+            Arrays.fill(ids, kept, size, null);
+            Arrays.fill(embedded, kept, size, null);
+            size = kept;
+            reindexMetadata();
+            if (kept == 0) {
+                codes = null;
+                vectors = null;
+            } else {
+                codes.truncate(kept);
+                if (vectors != null) {
+                    vectors.truncate(kept);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            codes = null;
+            vectors = null;
+            ids = new String[INITIAL_CAPACITY];
+            embedded = new Object[INITIAL_CAPACITY];
+            norms = new double[INITIAL_CAPACITY];
+            size = 0;
+            reindexMetadata();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EmbeddingMatch<Embedded>> search(EmbeddingSearchRequest request) {
+        float[] query = request.queryEmbedding().vector();
+        double queryNorm = kernel.norm(query);
+        Filter filter = request.filter();
+        Predicate<Object> matchesFilter = CompiledFilter.compile(filter);
+
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            ensureSameDimension(query, codes.dimension());
+
+            boolean rescore = vectors != null;
+            int candidateCount = rescore
+                    ? saturatedMultiply(request.maxResults(), config.oversampling())
+                    : request.maxResults();
+            double minScore = request.minScore();
+
+            QuantizedVectors.Scorer scorer = codes.scorer(query, queryNorm);
+            Object[] embedded = this.embedded;
+            double[] norms = this.norms;
+            BitSet candidates = filter != null && metadataIndex != null ? metadataIndex.candidates(filter) : null;
+            List<Match> best = scan.search(size, candidates, candidateCount, () -> ordinal -> {
+                if (!matchesFilter.test(embedded[ordinal])) {
+                    return Double.NaN;
+                }
+                double score = RelevanceScore.fromCosineSimilarity(scorer.cosineSimilarity(ordinal, norms[ordinal]));
+                // with rescoring, minScore is applied to exact scores only
+                return rescore || score >= minScore ? score : Double.NaN;
+            });
+
+            if (rescore) {
+                PriorityQueue<Match> rescored = new PriorityQueue<>(comparingDouble(Match::score));
+                for (Match candidate : best) {
+                    int ordinal = candidate.ordinal();
+                    double cosineSimilarity = kernel.cosineSimilarity(
+                            vectors.chunk(ordinal), vectors.offset(ordinal), norms[ordinal], query, queryNorm);
+                    double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                    if (score >= minScore) {
+                        TopKScan.offer(rescored, new Match(ordinal, score), request.maxResults());
+                    }
+                }
+                best = new ArrayList<>(rescored);
+                best.sort(comparingDouble(Match::score).reversed());
+            }
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(best.size());
+            for (Match match : best) {
+                int ordinal = match.ordinal();
+                matches.add(new EmbeddingMatch<>(
+                        match.score(), ids[ordinal], embedding(ordinal), (Embedded) embedded[ordinal]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Entry<Embedded>> entries() {
+        lock.readLock().lock();
+        try {
+            List<Entry<Embedded>> entries = new ArrayList<>(size);
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                entries.add(new Entry<>(ids[ordinal], embedding(ordinal), (Embedded) embedded[ordinal]));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the full-precision embedding if it is kept, or its reconstruction from the quantized vector otherwise.
+     */
+    private Embedding embedding(int ordinal) {
+        return Embedding.from(vectors != null ? vectors.get(ordinal) : codes.dequantize(ordinal, norms[ordinal]));
+    }
+
+    /**
+     * Rebuilds the metadata index after ordinals have changed.
+     */
+    private void reindexMetadata() {
+        if (metadataIndex != null) {
+            metadataIndex.clear();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                metadataIndex.add(ordinal, embedded[ordinal]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            embedded = Arrays.copyOf(embedded, newCapacity);
+            norms = Arrays.copyOf(norms, newCapacity);
+        }
+    }
+
+    private static int saturatedMultiply(int a, int b) {
+        long result = (long) a * b;
+        return result > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) result;
+    }
+
+    private static void ensureSameDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw illegalArgument(
+                    "Length of vector a (%s) must be equal to the length of vector b (%s)", vector.length, dimension);
+        }
+    }
+
+}
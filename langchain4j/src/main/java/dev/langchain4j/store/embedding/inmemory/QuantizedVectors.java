@@ -0,0 +1,259 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-dimension vectors compressed with a {@link Quantization}, addressed by ordinal.
+ * <p>
+ * Like {@link PackedVectors}, codes are split into chunks of equal capacity,
+ * so that appending never copies existing codes, and are contiguous within a chunk.
+ * <p>
+ * Not thread-safe, callers must synchronize access.
+ */
+abstract class QuantizedVectors {
+
+    /**
+     * The target number of bytes per chunk (4 MB).
+     */
+    static final int CHUNK_BYTES = 1 << 22;
+
+    final int dimension;
+    int size;
+
+    QuantizedVectors(int dimension) {
+        this.dimension = dimension;
+    }
+
+    static QuantizedVectors create(Quantization quantization, int dimension) {
+        return switch (quantization) {
+            case INT8 -> new Int8(dimension);
+            case BINARY -> new Binary(dimension);
+        };
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    abstract void add(float[] vector);
+
+    /**
+     * Returns a scorer estimating the cosine similarity between the given query and the stored vectors.
+     */
+    abstract Scorer scorer(float[] query, double queryNorm);
+
+    /**
+     * Reconstructs an approximation of the vector with the given ordinal, whose original norm is {@code norm}.
+     */
+    abstract float[] dequantize(int ordinal, double norm);
+
+    /**
+     * Moves the codes at {@code from} to {@code to}, overwriting them.
+     * Used to compact the storage after removals.
+     */
+    abstract void move(int from, int to);
+
+    /**
+     * Drops all codes with an ordinal greater or equal to {@code newSize}.
+     */
+    abstract void truncate(int newSize);
+
+    interface Scorer {
+
+        /**
+         * @param ordinal The ordinal of the stored vector.
+         * @param norm    The norm of the original stored vector.
+         * @return The estimated cosine similarity, in the range [-1..1].
+         */
+        double cosineSimilarity(int ordinal, double norm);
+    }
+
+    /**
+     * Symmetric scalar quantization: each vector is scaled so that its largest absolute component maps to 127,
+     * and the dot product is computed over the resulting signed bytes.
+     */
+    static class Int8 extends QuantizedVectors {
+
+        private final int vectorsPerChunk;
+        private final List<byte[]> chunks = new ArrayList<>();
+        private float[] scales = new float[16];
+
+        Int8(int dimension) {
+            super(dimension);
+            this.vectorsPerChunk = Math.max(1, CHUNK_BYTES / dimension);
+        }
+
+        @Override
+        void add(float[] vector) {
+            if (size == (long) chunks.size() * vectorsPerChunk) {
+                chunks.add(new byte[vectorsPerChunk * dimension]);
+            }
+            if (size == scales.length) {
+                scales = Arrays.copyOf(scales, size * 2);
+            }
+            scales[size] = quantize(vector, chunks.get(size / vectorsPerChunk), offset(size));
+            size++;
+        }
+
+        @Override
+        Scorer scorer(float[] query, double queryNorm) {
+            byte[] queryCodes = new byte[dimension];
+            float queryScale = quantize(query, queryCodes, 0);
+            return (ordinal, norm) -> {
+                byte[] chunk = chunks.get(ordinal / vectorsPerChunk);
+                int offset = offset(ordinal);
+                int dotProduct = 0;
+                for (int i = 0; i < dimension; i++) {
+                    dotProduct += chunk[offset + i] * queryCodes[i];
+                }
+                double estimate = (double) dotProduct * scales[ordinal] * queryScale;
+                return estimate / Math.max(norm * queryNorm, CosineSimilarity.EPSILON);
+            };
+        }
+
+        @Override
+        float[] dequantize(int ordinal, double norm) {
+            byte[] chunk = chunks.get(ordinal / vectorsPerChunk);
+            int offset = offset(ordinal);
+            float scale = scales[ordinal];
+            float[] vector = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = chunk[offset + i] * scale;
+            }
+            return vector;
+        }
+
+        @Override
+        void move(int from, int to) {
+            System.arraycopy(
+                    chunks.get(from / vectorsPerChunk),
+                    offset(from),
+                    chunks.get(to / vectorsPerChunk),
+                    offset(to),
+                    dimension);
+            scales[to] = scales[from];
+        }
+
+        @Override
+        void truncate(int newSize) {
+            size = newSize;
+            int neededChunks = (newSize + vectorsPerChunk - 1) / vectorsPerChunk;
+            while (chunks.size() > neededChunks) {
+                chunks.remove(chunks.size() - 1);
+            }
+        }
+
+        private int offset(int ordinal) {
+            return (ordinal % vectorsPerChunk) * dimension;
+        }
+
+        /**
+         * Writes the codes of {@code vector} into {@code target} and returns the scale to multiply them by.
+         */
+        private float quantize(float[] vector, byte[] target, int offset) {
+            float max = 0;
+            for (float value : vector) {
+                max = Math.max(max, Math.abs(value));
+            }
+            if (max == 0) {
+                Arrays.fill(target, offset, offset + dimension, (byte) 0);
+                return 0;
+            }
+            float scale = max / 127;
+            for (int i = 0; i < dimension; i++) {
+                target[offset + i] = (byte) Math.round(vector[i] / scale);
+            }
+            return scale;
+        }
+    }
+
+    /**
+     * Binary quantization: only the sign of each component is kept, 64 components per {@code long}.
+     * The cosine similarity is estimated from the Hamming distance between the bit vectors,
+     * which is proportional to the angle between the original vectors.
+     */
+    static class Binary extends QuantizedVectors {
+
+        private final int words;
+        private final int vectorsPerChunk;
+        private final List<long[]> chunks = new ArrayList<>();
+
+        Binary(int dimension) {
+            super(dimension);
+            this.words = (dimension + Long.SIZE - 1) / Long.SIZE;
+            this.vectorsPerChunk = Math.max(1, CHUNK_BYTES / (words * Long.BYTES));
+        }
+
+        @Override
+        void add(float[] vector) {
+            if (size == (long) chunks.size() * vectorsPerChunk) {
+                chunks.add(new long[vectorsPerChunk * words]);
+            }
+            quantize(vector, chunks.get(size / vectorsPerChunk), offset(size));
+            size++;
+        }
+
+        @Override
+        Scorer scorer(float[] query, double queryNorm) {
+            long[] queryBits = new long[words];
+            quantize(query, queryBits, 0);
+            return (ordinal, norm) -> {
+                long[] chunk = chunks.get(ordinal / vectorsPerChunk);
+                int offset = offset(ordinal);
+                int hammingDistance = 0;
+                for (int i = 0; i < words; i++) {
+                    hammingDistance += Long.bitCount(chunk[offset + i] ^ queryBits[i]);
+                }
+                return Math.cos(Math.PI * hammingDistance / dimension);
+            };
+        }
+
+        @Override
+        float[] dequantize(int ordinal, double norm) {
+            long[] chunk = chunks.get(ordinal / vectorsPerChunk);
+            int offset = offset(ordinal);
+            float magnitude = (float) (norm / Math.sqrt(dimension));
+            float[] vector = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                boolean positive = (chunk[offset + i / Long.SIZE] & (1L << (i % Long.SIZE))) != 0;
+                vector[i] = positive ? magnitude : -magnitude;
+            }
+            return vector;
+        }
+
+        @Override
+        void move(int from, int to) {
+            System.arraycopy(
+                    chunks.get(from / vectorsPerChunk),
+                    offset(from),
+                    chunks.get(to / vectorsPerChunk),
+                    offset(to),
+                    words);
+        }
+
+        @Override
+        void truncate(int newSize) {
+            size = newSize;
+            int neededChunks = (newSize + vectorsPerChunk - 1) / vectorsPerChunk;
+            while (chunks.size() > neededChunks) {
+                chunks.remove(chunks.size() - 1);
+            }
+        }
+
+        private int offset(int ordinal) {
+            return (ordinal % vectorsPerChunk) * words;
+        }
+
+        private void quantize(float[] vector, long[] target, int offset) {
+            Arrays.fill(target, offset, offset + words, 0L);
+            for (int i = 0; i < dimension; i++) {
+                if (vector[i] > 0) {
+                    target[offset + i / Long.SIZE] |= 1L << (i % Long.SIZE);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static java.util.Comparator.comparingDouble;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+
+/**
+ * Finds the best scoring ordinals in {@code [0, size)} by scoring each of them.
+ * <p>
+ * When an {@link Executor} is configured, the range is split into up to {@code parallelism} partitions
+ * that are scanned concurrently on the executor, each keeping its own bounded top-k heap.
+ * The heaps are merged once all partitions are done.
+ * Small ranges are always scanned on the calling thread.
+ * <p>
+ * The scan can be restricted to a set of candidate ordinals, e.g. pre-selected by a {@link MetadataIndex}.
+ */
+class TopKScan {
+
+    /**
+     * The minimum number of ordinals per partition, below which splitting costs more than it saves.
+     */
+    static final int MIN_PARTITION_SIZE = 4_096;
+
+    private static final Comparator<Match> WORST_FIRST = comparingDouble(Match::score);
+
+    static final TopKScan SEQUENTIAL = new TopKScan(null, 1);
+
+    private final Executor executor;
+    private final int parallelism;
+
+    TopKScan(Executor executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param size       The number of ordinals to scan.
+     * @param candidates If not {@code null}, only the ordinals set in this bit set are scanned.
+     * @param maxResults The maximum number of matches to return.
+     * @param scorers    Creates a scorer for each partition, so that scorers can hold non-thread-safe state.
+     *                   A scorer returns {@link Double#NaN} for ordinals that must not be returned
+     *                   (e.g., filtered out or below the minimum score).
+     * @return The best matches, sorted by descending score.
+     */
+    List<Match> search(int size, BitSet candidates, int maxResults, Supplier<IntToDoubleFunction> scorers) {
+        int partitions = partitions(candidates == null ? size : candidates.cardinality());
+        if (partitions <= 1) {
+            return sorted(scan(0, size, candidates, maxResults, scorers.get()));
+        }
+
+        int partitionSize = (size + partitions - 1) / partitions;
+        List<CompletableFuture<PriorityQueue<Match>>> futures = new ArrayList<>(partitions);
+        for (int from = 0; from < size; from += partitionSize) {
+            int start = from;
+            int end = Math.min(size, from + partitionSize);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> scan(start, end, candidates, maxResults, scorers.get()), executor));
+        }
+
+        PriorityQueue<Match> merged = new PriorityQueue<>(WORST_FIRST);
+        for (CompletableFuture<PriorityQueue<Match>> future : futures) {
+            for (Match match : join(future)) {
+                offer(merged, match, maxResults);
+            }
+        }
+        return sorted(merged);
+    }
+
+    /**
+     * Whether scanning {@code scanned} ordinals is split into partitions running on the executor.
+     * If not, {@link #search} scans them on the calling thread.
+     */
+    boolean isPartitioned(int scanned) {
+        return partitions(scanned) > 1;
+    }
+
+    private int partitions(int scanned) {
+        return executor == null ? 1 : Math.min(parallelism, scanned / MIN_PARTITION_SIZE);
+    }
+
+    private static PriorityQueue<Match> scan(
+            int from, int to, BitSet candidates, int maxResults, IntToDoubleFunction scorer) {
+        PriorityQueue<Match> matches = new PriorityQueue<>(WORST_FIRST);
+        if (candidates == null) {
+            for (int ordinal = from; ordinal < to; ordinal++) {
+                offer(matches, ordinal, scorer.applyAsDouble(ordinal), maxResults);
+            }
+        } else {
+            for (int ordinal = candidates.nextSetBit(from);
+                    ordinal >= 0 && ordinal < to;
+                    ordinal = candidates.nextSetBit(ordinal + 1)) {
+                offer(matches, ordinal, scorer.applyAsDouble(ordinal), maxResults);
+            }
+        }
+        return matches;
+    }
+
+    private static void offer(PriorityQueue<Match> matches, int ordinal, double score, int maxResults) {
+        if (!Double.isNaN(score)) {
+            offer(matches, new Match(ordinal, score), maxResults);
+        }
+    }
+
+    static void offer(PriorityQueue<Match> matches, Match match, int maxResults) {
+        if (matches.size() < maxResults) {
+            matches.add(match);
+        } else if (match.score() > matches.peek().score()) {
+            matches.poll();
+            matches.add(match);
+        }
+    }
+
+    private static List<Match> sorted(PriorityQueue<Match> matches) {
+        List<Match> sorted = new ArrayList<>(matches);
+        sorted.sort(WORST_FIRST.reversed());
+        return sorted;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    record Match(int ordinal, double score) {}
+}
@@ -3,6 +3,7 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -15,9 +16,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -270,6 +276,112 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
                 .isEqualTo(documents);
     }
 
+    @Test
+    void should_stream_documents_recursively_in_parallel() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        List<Document> expected = loadDocumentsRecursively(resourceDirectory, new TextDocumentParser());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        FileSystemLoadingOptions options = FileSystemLoadingOptions.builder()
+                .executor(executor)
+                .maxFilesInFlight(2)
+                .build();
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream =
+                streamDocumentsRecursively(resourceDirectory, (path) -> true, new TextDocumentParser(), options)) {
+            documents = stream.toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(documents).isEqualTo(expected);
+    }
+
+    @Test
+    void should_only_load_new_and_changed_files_with_manifest(@TempDir Path tempDirectory) throws IOException {
+
+        // given
+        Path directory = Files.createDirectories(tempDirectory.resolve("documents"));
+        Path subdirectory = Files.createDirectories(directory.resolve("subdirectory"));
+        Files.writeString(directory.resolve("unchanged.txt"), "unchanged");
+        Files.writeString(directory.resolve("touched.txt"), "touched");
+        Files.writeString(subdirectory.resolve("changed.txt"), "before");
+        Files.writeString(subdirectory.resolve("deleted.txt"), "deleted");
+
+        FileSystemManifest manifest = FileSystemManifest.empty();
+        assertThat(texts(directory, manifest)).containsExactlyInAnyOrder("unchanged", "touched", "before", "deleted");
+        assertThat(manifest.removeUnseenFiles()).isEmpty();
+        assertThat(manifest.takeChangedFiles()).isEmpty();
+
+        Path manifestFile = tempDirectory.resolve("manifest.tsv");
+        manifest.save(manifestFile);
+
+        Files.setLastModifiedTime(
+                directory.resolve("touched.txt"), FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        Files.writeString(subdirectory.resolve("changed.txt"), "after");
+        Files.delete(subdirectory.resolve("deleted.txt"));
+        Files.writeString(subdirectory.resolve("new.txt"), "new");
+
+        FileSystemManifest loadedManifest = FileSystemManifest.load(manifestFile);
+        assertThat(loadedManifest.files()).isEqualTo(manifest.files());
+
+        // when-then
+        assertThat(texts(directory, loadedManifest)).containsExactlyInAnyOrder("after", "new");
+        assertThat(loadedManifest.removeUnseenFiles())
+                .containsExactly(subdirectory.resolve("deleted.txt").toAbsolutePath().normalize());
+        assertThat(loadedManifest.takeChangedFiles())
+                .containsExactly(subdirectory.resolve("changed.txt").toAbsolutePath().normalize());
+        assertThat(loadedManifest.takeChangedFiles()).isEmpty();
+
+        assertThat(texts(directory, loadedManifest)).isEmpty();
+    }
+
+    @Test
+    void should_not_record_documents_loaded_ahead_but_not_consumed(@TempDir Path tempDirectory) throws IOException {
+
+        // given
+        for (int i = 0; i < 10; i++) {
+            Files.writeString(tempDirectory.resolve("file-" + i + ".txt"), "text " + i);
+        }
+        FileSystemManifest manifest = FileSystemManifest.empty();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        FileSystemLoadingOptions options = FileSystemLoadingOptions.builder()
+                .executor(executor)
+                .maxFilesInFlight(4)
+                .manifest(manifest)
+                .build();
+
+        // when
+        Document first;
+        try (Stream<Document> documents =
+                streamDocumentsRecursively(tempDirectory, (path) -> true, new TextDocumentParser(), options)) {
+            first = documents.findFirst().orElseThrow();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(manifest.files())
+                .containsExactly(tempDirectory
+                        .resolve(first.metadata().getString(Document.FILE_NAME))
+                        .toAbsolutePath()
+                        .normalize());
+    }
+
+    private static List<String> texts(Path directory, FileSystemManifest manifest) {
+        FileSystemLoadingOptions options =
+                FileSystemLoadingOptions.builder().manifest(manifest).build();
+        try (Stream<Document> documents =
+                streamDocumentsRecursively(directory, (path) -> true, new TextDocumentParser(), options)) {
+            return documents.map(Document::text).toList();
+        }
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
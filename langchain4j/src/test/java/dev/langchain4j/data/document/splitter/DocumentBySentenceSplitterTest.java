@@ -7,7 +7,11 @@ import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -174,4 +178,29 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
+
+    @Test
+    void should_split_concurrently_with_splitters_created_per_thread_and_shared() throws Exception {
+
+        String text = "This is a first sentence. This is a second sentence. And this is a third one.";
+        DocumentSplitter sharedSplitter = new DocumentBySentenceSplitter(30, 0);
+        List<TextSegment> expected = sharedSplitter.split(Document.from(text));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                boolean newSplitter = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    DocumentSplitter splitter = newSplitter ? new DocumentBySentenceSplitter(30, 0) : sharedSplitter;
+                    return splitter.split(Document.from(text));
+                }));
+            }
+            for (Future<List<TextSegment>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
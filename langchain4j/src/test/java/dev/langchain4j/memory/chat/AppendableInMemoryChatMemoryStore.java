@@ -0,0 +1,67 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AppendableInMemoryChatMemoryStore implements AppendableChatMemoryStore {
+
+    private final Map<Object, List<ChatMessage>> messagesByMemoryId = new ConcurrentHashMap<>();
+
+    final AtomicInteger writtenMessagesCount = new AtomicInteger();
+    final AtomicInteger updateMessagesCount = new AtomicInteger();
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        return new ArrayList<>(messagesByMemoryId.getOrDefault(memoryId, List.of()));
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        updateMessagesCount.incrementAndGet();
+        writtenMessagesCount.addAndGet(messages.size());
+        messagesByMemoryId.put(memoryId, new ArrayList<>(messages));
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        messagesByMemoryId.remove(memoryId);
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        writtenMessagesCount.addAndGet(messages.size());
+        messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>()).addAll(messages);
+    }
+
+    @Override
+    public void trimHead(Object memoryId, int count) {
+        Iterator<ChatMessage> iterator =
+                messagesByMemoryId.getOrDefault(memoryId, new ArrayList<>()).iterator();
+        int removed = 0;
+        while (removed < count && iterator.hasNext()) {
+            if (!(iterator.next() instanceof SystemMessage)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+    }
+
+    @Override
+    public void replaceSystemMessage(Object memoryId, SystemMessage systemMessage, boolean first) {
+        writtenMessagesCount.incrementAndGet();
+        List<ChatMessage> messages = messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>());
+        messages.removeIf(message -> message instanceof SystemMessage);
+        if (first) {
+            messages.add(0, systemMessage);
+        } else {
+            messages.add(systemMessage);
+        }
+    }
+}
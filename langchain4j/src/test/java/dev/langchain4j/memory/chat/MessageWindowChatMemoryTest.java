@@ -6,11 +6,15 @@ import static dev.langchain4j.data.message.UserMessage.userMessage;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.HitCountChatMemoryStore.HitCounts;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -635,4 +639,59 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         });
         assertThat(counts).isEqualTo(new HitCounts(0, 1, 0));
     }
+
+    @Test
+    void should_only_write_added_and_evicted_messages_to_appendable_store() {
+
+        for (boolean alwaysKeepSystemMessageFirst : new boolean[] {false, true}) {
+
+            // given
+            var appendableStore = new AppendableInMemoryChatMemoryStore();
+            var referenceStore = new InMemoryChatMemoryStore();
+            AtomicInteger maxMessages = new AtomicInteger(4);
+            ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                    .dynamicMaxMessages(id -> maxMessages.get())
+                    .chatMemoryStore(appendableStore)
+                    .alwaysKeepSystemMessageFirst(alwaysKeepSystemMessageFirst)
+                    .build();
+            ChatMemory referenceChatMemory = MessageWindowChatMemory.builder()
+                    .dynamicMaxMessages(id -> maxMessages.get())
+                    .chatMemoryStore(referenceStore)
+                    .alwaysKeepSystemMessageFirst(alwaysKeepSystemMessageFirst)
+                    .build();
+
+            ToolExecutionRequest toolExecutionRequest =
+                    ToolExecutionRequest.builder().id("1").name("tool").arguments("{}").build();
+            List<ChatMessage> conversation = List.of(
+                    userMessage("1"),
+                    systemMessage("system 1"),
+                    aiMessage("2"),
+                    userMessage("3"),
+                    AiMessage.from(toolExecutionRequest),
+                    ToolExecutionResultMessage.from(toolExecutionRequest, "result"),
+                    aiMessage("4"),
+                    systemMessage("system 2"),
+                    userMessage("5"),
+                    systemMessage("system 2"),
+                    aiMessage("6"));
+
+            // when
+            for (int i = 0; i < conversation.size(); i++) {
+                if (i == 8) {
+                    maxMessages.set(2); // the window shrinks
+                }
+                chatMemory.add(conversation.get(i));
+                referenceChatMemory.add(conversation.get(i));
+
+                // then
+                assertThat(appendableStore.getMessages(chatMemory.id()))
+                        .containsExactlyElementsOf(referenceStore.getMessages(chatMemory.id()));
+                assertThat(chatMemory.messages()).containsExactlyElementsOf(referenceChatMemory.messages());
+            }
+
+            // each message is written once, except the repeated system message which is ignored
+            assertThat(appendableStore.writtenMessagesCount).hasValue(conversation.size() - 1);
+            assertThat(appendableStore.updateMessagesCount).hasValue(0);
+        }
+    }
 }
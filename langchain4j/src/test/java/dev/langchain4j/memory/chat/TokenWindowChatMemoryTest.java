@@ -1,6 +1,8 @@
 package dev.langchain4j.memory.chat;
 
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.ChatMessageDeserializer.messagesFromJson;
+import static dev.langchain4j.data.message.ChatMessageSerializer.messagesToJson;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.internal.TestUtils.aiMessageWithTokens;
@@ -19,6 +21,13 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiChatModelName;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
@@ -840,4 +849,163 @@ class TokenWindowChatMemoryTest implements WithAssertions {
         });
         assertThat(counts).isEqualTo(new HitCountChatMemoryStore.HitCounts(0, 1, 0));
     }
+
+    @Test
+    void should_estimate_each_message_only_once() {
+
+        // given
+        CountingTokenCountEstimator countingEstimator = new CountingTokenCountEstimator();
+        List<ChatMessage> estimatedMessages = countingEstimator.estimatedMessages;
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(100, countingEstimator)
+                .build();
+
+        List<ChatMessage> added = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ChatMessage message = i % 2 == 0 ? userMessage("hello number " + i) : aiMessage("hi number " + i);
+            added.add(message);
+            chatMemory.add(message);
+            chatMemory.messages();
+        }
+
+        // then the overhead is estimated once, from the first message
+        assertThat(estimatedMessages.subList(0, 3)).containsExactly(added.get(0), added.get(0), added.get(0));
+        // and then each message is estimated once, when it is added
+        assertThat(estimatedMessages.subList(3, estimatedMessages.size()))
+                .containsExactlyElementsOf(added.subList(1, added.size()));
+
+        // and the window is the same as with an estimator estimating all messages every time
+        List<ChatMessage> messages = chatMemory.messages();
+        assertThat(TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(messages)).isLessThanOrEqualTo(100);
+        assertThat(TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(
+                        added.subList(added.size() - messages.size() - 1, added.size())))
+                .isGreaterThan(100);
+    }
+
+    @Test
+    void should_estimate_each_message_only_once_when_store_deserializes_messages() {
+
+        // given a store returning new instances of the messages on each read, like a persistent one
+        ChatMemoryStore serializingStore = new ChatMemoryStore() {
+
+            private final Map<Object, String> json = new ConcurrentHashMap<>();
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                return messagesFromJson(json.getOrDefault(memoryId, "[]"));
+            }
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                json.put(memoryId, messagesToJson(messages));
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                json.remove(memoryId);
+            }
+        };
+        CountingTokenCountEstimator countingEstimator = new CountingTokenCountEstimator();
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(50, countingEstimator)
+                .chatMemoryStore(serializingStore)
+                .build();
+
+        // when
+        List<ChatMessage> added = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ChatMessage message = i % 2 == 0 ? userMessage("hello number " + i) : aiMessage("hi number " + i);
+            added.add(message);
+            chatMemory.add(message);
+        }
+
+        // then, apart from the overhead estimated from the first message, each message is estimated once
+        List<ChatMessage> estimatedMessages = countingEstimator.estimatedMessages;
+        assertThat(estimatedMessages.subList(3, estimatedMessages.size()))
+                .containsExactlyElementsOf(added.subList(1, added.size()));
+        assertThat(TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(chatMemory.messages()))
+                .isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    void should_only_write_added_and_evicted_messages_to_appendable_store() {
+
+        for (boolean alwaysKeepSystemMessageFirst : new boolean[] {false, true}) {
+
+            // given
+            var appendableStore = new AppendableInMemoryChatMemoryStore();
+            var referenceStore = new InMemoryChatMemoryStore();
+            AtomicInteger maxTokens = new AtomicInteger(60);
+            ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                    .dynamicMaxTokens(id -> maxTokens.get(), TOKEN_COUNT_ESTIMATOR)
+                    .chatMemoryStore(appendableStore)
+                    .alwaysKeepSystemMessageFirst(alwaysKeepSystemMessageFirst)
+                    .build();
+            ChatMemory referenceChatMemory = TokenWindowChatMemory.builder()
+                    .dynamicMaxTokens(id -> maxTokens.get(), TOKEN_COUNT_ESTIMATOR)
+                    .chatMemoryStore(referenceStore)
+                    .alwaysKeepSystemMessageFirst(alwaysKeepSystemMessageFirst)
+                    .build();
+
+            ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                    .id("1")
+                    .name("tool")
+                    .arguments("{}")
+                    .build();
+            List<ChatMessage> conversation = List.of(
+                    userMessage("hello there"),
+                    systemMessage("you are a helpful assistant"),
+                    aiMessage("hi, how can I help you?"),
+                    userMessage("what is the weather like?"),
+                    AiMessage.from(toolExecutionRequest),
+                    ToolExecutionResultMessage.from(toolExecutionRequest, "sunny"),
+                    aiMessage("it is sunny"),
+                    systemMessage("you are a concise assistant"),
+                    userMessage("thanks"),
+                    systemMessage("you are a concise assistant"),
+                    aiMessage("you are welcome"));
+
+            // when
+            for (int i = 0; i < conversation.size(); i++) {
+                if (i == 8) {
+                    maxTokens.set(30); // the window shrinks
+                }
+                chatMemory.add(conversation.get(i));
+                referenceChatMemory.add(conversation.get(i));
+
+                // then
+                assertThat(appendableStore.getMessages(chatMemory.id()))
+                        .containsExactlyElementsOf(referenceStore.getMessages(chatMemory.id()));
+                assertThat(chatMemory.messages()).containsExactlyElementsOf(referenceChatMemory.messages());
+            }
+
+            // each message is written once, except the repeated system message which is ignored
+            assertThat(appendableStore.writtenMessagesCount).hasValue(conversation.size() - 1);
+            assertThat(appendableStore.updateMessagesCount).hasValue(0);
+        }
+    }
+    private static class CountingTokenCountEstimator implements TokenCountEstimator {
+
+        private final List<ChatMessage> estimatedMessages = new ArrayList<>();
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInText(text);
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            estimatedMessages.add(message);
+            return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessage(message);
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            int tokenCount = EXTRA_TOKENS_PER_REQUEST;
+            for (ChatMessage message : messages) {
+                tokenCount += estimateTokenCountInMessage(message);
+            }
+            return tokenCount;
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.invocation.InvocationParameters;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AiServiceMethodPlanTest {
+
+    interface Assistant {
+
+        @SystemMessage("You are a {{role}}")
+        @UserMessage("Tell me about {{topic}}")
+        String annotated(@V("role") String role, @V("topic") String topic);
+
+        String single(String it);
+
+        String withMemoryId(@MemoryId String memoryId, @UserMessage String message, @UserName String userName);
+
+        String withParameters(
+                @UserMessage String message,
+                InvocationParameters invocationParameters,
+                ChatRequestParameters chatRequestParameters);
+
+        String withVariablesMap(@V("it") String it, @V("variables") Map<String, Object> variables);
+
+        List<String> withoutIt(@V("a") String a, @V("b") String b);
+    }
+
+    @Test
+    void should_bind_template_variables_like_reflection_variable_resolver() throws Exception {
+        assertSameVariables("annotated", "{{role}} {{topic}}", "assistant", "cats");
+        assertSameVariables("single", "{{it}}", "hello");
+        assertSameVariables("withMemoryId", "{{message}}", "id", "hello", "Klaus");
+        assertSameVariables(
+                "withParameters", "{{message}}", "hello", InvocationParameters.from(Map.of()), null);
+        assertSameVariables("withVariablesMap", "{{it}} {{x}}", "it value", Map.of("x", 1, "it", "ignored"));
+    }
+
+    @Test
+    void should_fail_when_it_variable_has_no_value() throws Exception {
+        AiServiceMethodPlan plan = plan("withoutIt");
+
+        assertThatThrownBy(() -> plan.templateVariables("{{it}}", new Object[] {"a", "b"}))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        assertThat(plan.templateVariables("{{a}}", new Object[] {"a", "b"})).containsOnlyKeys("a", "b");
+    }
+
+    @Test
+    void should_resolve_annotated_templates_once() throws Exception {
+        AiServiceMethodPlan plan = plan("annotated");
+
+        Optional<PromptTemplate> systemMessageTemplate = plan.systemMessageTemplate();
+        Optional<PromptTemplate> userMessageTemplate = plan.userMessageTemplate();
+
+        assertThat(systemMessageTemplate).map(PromptTemplate::template).contains("You are a {{role}}");
+        assertThat(userMessageTemplate).map(PromptTemplate::template).contains("Tell me about {{topic}}");
+        assertThat(plan.systemMessageTemplate().get()).isSameAs(systemMessageTemplate.get());
+        assertThat(plan.userMessageTemplate().get()).isSameAs(userMessageTemplate.get());
+        assertThat(plan("single").systemMessageTemplate()).isEmpty();
+    }
+
+    @Test
+    void should_bind_special_parameters() throws Exception {
+        AiServiceMethodPlan withMemoryId = plan("withMemoryId");
+        assertThat(withMemoryId.memoryId(new Object[] {"id", "hello", "Klaus"})).contains("id");
+        assertThat(withMemoryId.userName(new Object[] {"id", "hello", "Klaus"})).contains("Klaus");
+        assertThat(withMemoryId.userMessageIndexes()).containsExactly(1);
+        assertThat(withMemoryId.singleUnannotatedParameter()).isFalse();
+        assertThatThrownBy(() -> withMemoryId.memoryId(new Object[] {null, "hello", "Klaus"}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("annotated with @MemoryId in method 'withMemoryId' must not be null");
+
+        InvocationParameters invocationParameters = InvocationParameters.from(Map.of());
+        AiServiceMethodPlan withParameters = plan("withParameters");
+        assertThat(withParameters.invocationParameters(new Object[] {"hello", invocationParameters, null}))
+                .containsSame(invocationParameters);
+        assertThat(withParameters.memoryId(new Object[] {"hello", invocationParameters, null}))
+                .isEmpty();
+
+        AiServiceMethodPlan single = plan("single");
+        assertThat(single.singleUnannotatedParameter()).isTrue();
+        assertThat(single.invocationParameters(new Object[] {"hello"})).isEmpty();
+        assertThat(single.streaming()).isFalse();
+        assertThat(single.returnsResult()).isFalse();
+    }
+
+    private static void assertSameVariables(String methodName, String template, Object... args) throws Exception {
+        Method method = method(methodName);
+        assertThat(plan(methodName).templateVariables(template, args))
+                .isEqualTo(InternalReflectionVariableResolver.findTemplateVariables(template, method, args));
+    }
+
+    private static AiServiceMethodPlan plan(String methodName) {
+        Method method = method(methodName);
+        return new AiServiceMethodPlan(method, method.getGenericReturnType(), false, false);
+    }
+
+    private static Method method(String methodName) {
+        return Arrays.stream(Assistant.class.getDeclaredMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
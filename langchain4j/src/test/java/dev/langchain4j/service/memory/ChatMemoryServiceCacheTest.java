@@ -0,0 +1,266 @@
+package dev.langchain4j.service.memory;
+
+import static dev.langchain4j.service.memory.ChatMemoryEvictionCause.EXPIRED;
+import static dev.langchain4j.service.memory.ChatMemoryEvictionCause.SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ChatMemoryServiceCacheTest {
+
+    private final InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    private final ChatMemoryProvider provider = memoryId -> {
+        providerCalls.incrementAndGet();
+        return MessageWindowChatMemory.builder()
+                .id(memoryId)
+                .maxMessages(10)
+                .chatMemoryStore(store)
+                .build();
+    };
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<String> evictions = Collections.synchronizedList(new ArrayList<>());
+    private final ChatMemoryEvictionListener listener =
+            (memoryId, chatMemory, cause) -> evictions.add(memoryId + ":" + cause);
+
+    @Test
+    void should_evict_least_recently_used_memory_when_max_size_is_exceeded() {
+        ChatMemoryService service = service(
+                ChatMemoryCacheConfig.builder().maxSize(2).evictionListener(listener).build());
+
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("b");
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("c");
+
+        assertThat(evictions).containsExactly("b:" + SIZE);
+        assertThat(service.getChatMemoryIDs()).containsExactlyInAnyOrder("a", "c");
+        assertThat(service.getChatMemoryCacheStats()).isEqualTo(new ChatMemoryCacheStats(1, 3, 1));
+    }
+
+    @Test
+    void should_first_evict_memories_not_used_since_they_were_loaded() {
+        ChatMemoryService service = service(
+                ChatMemoryCacheConfig.builder().maxSize(3).evictionListener(listener).build());
+
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("b");
+        service.getOrCreateChatMemory("c");
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("b");
+        service.getOrCreateChatMemory("d");
+        service.getOrCreateChatMemory("e");
+
+        // d is evicted before a, which was used again
+        assertThat(evictions).containsExactly("c:" + SIZE, "d:" + SIZE);
+        assertThat(service.getChatMemoryIDs()).containsExactlyInAnyOrder("a", "b", "e");
+    }
+
+    @Test
+    void should_expire_idle_memories() {
+        ChatMemoryService service = service(ChatMemoryCacheConfig.builder()
+                .idleTimeout(Duration.ofMinutes(10))
+                .evictionListener(listener)
+                .build());
+
+        service.getOrCreateChatMemory("a");
+        advance(Duration.ofMinutes(6));
+        service.getOrCreateChatMemory("b");
+        advance(Duration.ofMinutes(6));
+        service.getOrCreateChatMemory("b");
+
+        assertThat(evictions).containsExactly("a:" + EXPIRED);
+        assertThat(service.getChatMemory("a")).isNull();
+        assertThat(service.getChatMemory("b")).isNotNull();
+
+        advance(Duration.ofMinutes(10));
+
+        assertThat(service.getChatMemoryIDs()).isEmpty();
+        assertThat(evictions).containsExactly("a:" + EXPIRED, "b:" + EXPIRED);
+        assertThat(service.getChatMemoryCacheStats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_rehydrate_evicted_memory_from_store() {
+        ChatMemoryService service = service(ChatMemoryCacheConfig.builder().maxSize(1).build());
+
+        ChatMemory first = service.getOrCreateChatMemory("a");
+        first.add(UserMessage.from("hello"));
+        service.getOrCreateChatMemory("b");
+
+        ChatMemory rehydrated = service.getOrCreateChatMemory("a");
+
+        assertThat(rehydrated).isNotSameAs(first);
+        assertThat(rehydrated.messages()).containsExactly(UserMessage.from("hello"));
+        assertThat(providerCalls).hasValue(3);
+    }
+
+    @Test
+    void should_not_report_explicit_evictions() {
+        ChatMemoryService service = service(
+                ChatMemoryCacheConfig.builder().maxSize(10).evictionListener(listener).build());
+        ChatMemory chatMemory = service.getOrCreateChatMemory("a");
+
+        assertThat(service.evictChatMemory("a")).isSameAs(chatMemory);
+        assertThat(service.evictChatMemory("a")).isNull();
+        assertThat(evictions).isEmpty();
+        assertThat(service.getChatMemoryCacheStats().evictionCount()).isZero();
+    }
+
+    @Test
+    void should_ignore_failing_eviction_listener() {
+        ChatMemoryService service = service(ChatMemoryCacheConfig.builder()
+                .maxSize(1)
+                .evictionListener((memoryId, chatMemory, cause) -> {
+                    throw new RuntimeException("listener failure");
+                })
+                .build());
+
+        service.getOrCreateChatMemory("a");
+
+        assertThat(service.getOrCreateChatMemory("b")).isNotNull();
+        assertThat(service.getChatMemoryIDs()).containsExactly("b");
+    }
+
+    @Test
+    void should_propagate_provider_failure_and_retry_on_next_request() {
+        AtomicInteger calls = new AtomicInteger();
+        ChatMemoryService service = new ChatMemoryService(
+                memoryId -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("store unavailable");
+                    }
+                    return MessageWindowChatMemory.withMaxMessages(10);
+                },
+                ChatMemoryCacheConfig.builder().maxSize(10).build(),
+                nanoTime::get);
+
+        assertThatThrownBy(() -> service.getOrCreateChatMemory("a"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("store unavailable");
+        assertThat(service.getOrCreateChatMemory("a")).isNotNull();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_create_only_one_memory_under_concurrent_load() throws Exception {
+        ChatMemoryService service = new ChatMemoryService(
+                memoryId -> {
+                    providerCalls.incrementAndGet();
+                    sleep(10);
+                    return MessageWindowChatMemory.withMaxMessages(10);
+                },
+                ChatMemoryCacheConfig.builder().maxSize(10).build());
+
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<ChatMemory>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return service.getOrCreateChatMemory("a");
+            }));
+        }
+        startLatch.countDown();
+
+        List<ChatMemory> results = new ArrayList<>();
+        for (Future<ChatMemory> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(providerCalls).hasValue(1);
+        results.forEach(result -> assertThat(result).isSameAs(results.get(0)));
+    }
+
+    @Test
+    void should_stay_bounded_under_concurrent_hits_and_misses() throws Exception {
+        ChatMemoryService service =
+                new ChatMemoryService(provider, ChatMemoryCacheConfig.builder().maxSize(10).build());
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            int seed = i;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int j = 0; j < 10_000; j++) {
+                    // mostly hits on a few hot memories, and misses on many cold ones
+                    String memoryId =
+                            random.nextInt(10) < 8 ? "hot-" + random.nextInt(5) : "cold-" + random.nextInt(100);
+                    assertThat(service.getOrCreateChatMemory(memoryId)).isNotNull();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        ChatMemoryCacheStats stats = service.getChatMemoryCacheStats();
+        assertThat(service.getChatMemoryIDs()).hasSizeLessThanOrEqualTo(10);
+        assertThat(stats.hitCount() + stats.missCount()).isEqualTo(threadCount * 10_000L);
+        assertThat(providerCalls.get() - stats.evictionCount())
+                .isEqualTo(service.getChatMemoryIDs().size());
+    }
+
+    @Test
+    void should_count_hits_and_misses_without_cache_config() {
+        ChatMemoryService service = new ChatMemoryService(provider);
+
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("a");
+        service.getOrCreateChatMemory("b");
+
+        assertThat(service.getChatMemoryCacheStats()).isEqualTo(new ChatMemoryCacheStats(1, 2, 0));
+    }
+
+    @Test
+    void should_require_at_least_one_bound() {
+        assertThatThrownBy(() -> ChatMemoryCacheConfig.builder().build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either maxSize or idleTimeout must be set");
+        assertThatThrownBy(() ->
+                        ChatMemoryCacheConfig.builder().idleTimeout(Duration.ZERO).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("idleTimeout must be positive");
+    }
+
+    private ChatMemoryService service(ChatMemoryCacheConfig config) {
+        return new ChatMemoryService(provider, config, nanoTime::get);
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
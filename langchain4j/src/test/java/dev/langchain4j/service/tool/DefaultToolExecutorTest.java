@@ -622,6 +622,58 @@ class DefaultToolExecutorTest implements WithAssertions {
         assertThat(toolExecutionResult.resultText()).isEqualTo(errorMessage);
     }
 
+    static class StaticTools {
+
+        @Tool
+        static String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    @Test
+    void should_execute_static_tool_method() throws NoSuchMethodException {
+
+        // given
+        ToolExecutor toolExecutor =
+                new DefaultToolExecutor(new StaticTools(), StaticTools.class.getDeclaredMethod("greet", String.class));
+
+        ToolExecutionRequest toolRequest = ToolExecutionRequest.builder()
+                .name("greet")
+                .arguments("{\"arg0\": \"Klaus\"}")
+                .build();
+
+        // when
+        String toolResult = toolExecutor.execute(toolRequest, "default");
+
+        // then
+        assertThat(toolResult).isEqualTo("Hello Klaus");
+    }
+
+    @Test
+    void should_fail_when_memory_id_has_wrong_type() throws NoSuchMethodException {
+
+        // given
+        class Tools {
+
+            @Tool
+            String tool(@ToolMemoryId long memoryId) {
+                return "memory " + memoryId;
+            }
+        }
+
+        ToolExecutor toolExecutor =
+                new DefaultToolExecutor(new Tools(), Tools.class.getDeclaredMethod("tool", long.class));
+
+        ToolExecutionRequest toolRequest =
+                ToolExecutionRequest.builder().name("tool").arguments("{}").build();
+
+        // when-then
+        assertThat(toolExecutor.execute(toolRequest, 42L)).isEqualTo("memory 42");
+        assertThat(toolExecutor.execute(toolRequest, 42)).isEqualTo("memory 42");
+        assertThatThrownBy(() -> toolExecutor.execute(toolRequest, "default"))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void should_prepare_arguments_with_optional_parameter_provided() throws Exception {
 
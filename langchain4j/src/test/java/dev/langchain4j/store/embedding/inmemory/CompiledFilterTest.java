@@ -0,0 +1,103 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CompiledFilterTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    private static final List<Metadata> METADATA = List.of(
+            new Metadata(),
+            new Metadata().put("key", "a"),
+            new Metadata().put("key", "b"),
+            new Metadata().put("key", 1),
+            new Metadata().put("key", 1L),
+            new Metadata().put("key", 2),
+            new Metadata().put("key", 1.0),
+            new Metadata().put("key", 1.5f),
+            new Metadata().put("key", ID),
+            new Metadata().put("key", ID.toString()),
+            new Metadata().put("key", "a").put("other", 1));
+
+    static Stream<Filter> filters() {
+        return Stream.of(
+                metadataKey("key").isEqualTo("a"),
+                metadataKey("key").isEqualTo(1),
+                metadataKey("key").isEqualTo(1L),
+                metadataKey("key").isEqualTo(1.0),
+                metadataKey("key").isEqualTo(ID),
+                metadataKey("key").isIn("a", "b"),
+                metadataKey("key").isIn(1, 2L),
+                metadataKey("key").isIn(1.0, 2.0),
+                metadataKey("key").isIn(ID),
+                metadataKey("key").isNotEqualTo("a"),
+                metadataKey("key").isEqualTo("a").and(metadataKey("other").isEqualTo(1)),
+                metadataKey("key").isEqualTo("a").or(metadataKey("other").isGreaterThan(0)),
+                Filter.not(metadataKey("key").isIn("a", "b")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void should_behave_like_the_filter(Filter filter) {
+
+        Predicate<Object> compiled = CompiledFilter.compile(filter);
+
+        for (Metadata metadata : METADATA) {
+            TextSegment segment = TextSegment.from("text", metadata);
+            Object expected = outcome(() -> filter.test(metadata));
+            Object actual = outcome(() -> compiled.test(segment));
+            assertThat(actual).as("%s on %s", filter, metadata).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_only_accept_text_segments() {
+        Predicate<Object> compiled = CompiledFilter.compile(metadataKey("key").isEqualTo("a"));
+
+        assertThat(compiled.test(TextSegment.from("text", new Metadata().put("key", "a")))).isTrue();
+        assertThat(compiled.test(null)).isFalse();
+        assertThat(compiled.test("a")).isFalse();
+    }
+
+    @Test
+    void should_accept_everything_without_filter() {
+        Predicate<Object> compiled = CompiledFilter.compile(null);
+
+        assertThat(compiled.test(null)).isTrue();
+        assertThat(compiled.test("a")).isTrue();
+    }
+
+    @Test
+    void should_fail_on_type_mismatch_like_the_filter() {
+        Predicate<Object> compiled = CompiledFilter.compile(metadataKey("key").isEqualTo("a"));
+
+        assertThatThrownBy(() -> compiled.test(TextSegment.from("text", new Metadata().put("key", 1))))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Type mismatch");
+    }
+
+    /**
+     * Returns the result, or the type and message of the exception thrown.
+     */
+    private static Object outcome(BooleanSupplier supplier) {
+        try {
+            return supplier.getAsBoolean();
+        } catch (RuntimeException e) {
+            return e.getClass() + ": " + e.getMessage();
+        }
+    }
+}
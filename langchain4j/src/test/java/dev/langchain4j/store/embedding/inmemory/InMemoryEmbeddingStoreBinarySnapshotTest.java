@@ -0,0 +1,200 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryEmbeddingStoreBinarySnapshotTest {
+
+    private static final int DIMENSION = 384;
+
+    @TempDir
+    Path temporaryDirectory;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_serialize_to_and_load_from_binary_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalStore = createEmbeddingStore(3_000);
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        originalStore.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // then
+        assertThat(loadedStore.size()).isEqualTo(3_000);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .maxResults(3_000)
+                .build();
+        assertThat(loadedStore.search(request).matches())
+                .isEqualTo(originalStore.search(request).matches());
+    }
+
+    @Test
+    void should_preserve_metadata_types() {
+
+        // given
+        Metadata metadata = new Metadata()
+                .put("string", "ünïcödé")
+                .put("uuid", UUID.randomUUID())
+                .put("integer", 1)
+                .put("long", 2L)
+                .put("float", 3.0f)
+                .put("double", 4.0);
+        InMemoryEmbeddingStore<TextSegment> originalStore = new InMemoryEmbeddingStore<>();
+        originalStore.add("1", randomEmbedding(), TextSegment.from("text", metadata));
+        originalStore.add("2", randomEmbedding());
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        originalStore.serializeToBinaryFile(filePath.toString());
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromBinaryFile(filePath.toString());
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .build();
+        assertThat(loadedStore.search(request).matches())
+                .extracting(EmbeddingMatch::embedded)
+                .containsExactlyInAnyOrder(TextSegment.from("text", metadata), null);
+    }
+
+    @Test
+    void should_accept_changes_after_loading() {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        createEmbeddingStore(100).serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        Embedding embedding = randomEmbedding();
+        store.add("new", embedding, TextSegment.from("new"));
+        store.removeAll(List.of("id-0", "id-50"));
+
+        // then
+        assertThat(store.size()).isEqualTo(99);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build();
+        assertThat(store.search(request).matches().get(0).embeddingId()).isEqualTo("new");
+    }
+
+    @Test
+    void should_save_back_to_the_file_it_was_loaded_from() throws Exception {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        createEmbeddingStore(100).serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .maxResults(100)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matchesBeforeSave = store.search(request).matches();
+
+        // when
+        store.add("new", randomEmbedding(), TextSegment.from("new"));
+        store.serializeToBinaryFile(filePath);
+
+        // then
+        store.remove("new");
+        assertThat(store.search(request).matches()).isEqualTo(matchesBeforeSave);
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).size()).isEqualTo(101);
+        try (var files = Files.list(temporaryDirectory)) {
+            assertThat(files).containsExactly(filePath);
+        }
+    }
+
+    @Test
+    void should_convert_json_file_to_binary_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalStore = createEmbeddingStore(100);
+        Path jsonFilePath = temporaryDirectory.resolve("embedding-store.json");
+        Path binaryFilePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalStore.serializeToFile(jsonFilePath);
+
+        // when
+        InMemoryEmbeddingStore.convertJsonFileToBinaryFile(jsonFilePath, binaryFilePath);
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromBinaryFile(binaryFilePath);
+        assertThat(InMemoryEmbeddingStore.fromJson(loadedStore.serializeToJson()).entries)
+                .isEqualTo(InMemoryEmbeddingStore.fromFile(jsonFilePath).entries);
+    }
+
+    @Test
+    void should_load_empty_store() {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        new InMemoryEmbeddingStore<TextSegment>().serializeToBinaryFile(filePath);
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // then
+        assertThat(loadedStore.isEmpty()).isTrue();
+    }
+
+    @Test
+    void should_fail_to_serialize_unsupported_embedded_objects() {
+
+        // given
+        InMemoryEmbeddingStore<String> store = new InMemoryEmbeddingStore<>();
+        store.add(randomEmbedding(), "not a text segment");
+
+        // then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> store.serializeToBinaryFile(temporaryDirectory.resolve("embedding-store.bin")))
+                .withMessage("Only TextSegment can be written to a binary snapshot, but found java.lang.String");
+    }
+
+    @Test
+    void should_fail_to_load_a_file_in_another_format() throws Exception {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("embedding-store.json");
+        createEmbeddingStore(10).serializeToFile(filePath);
+        assertThat(Files.size(filePath)).isGreaterThan(BinarySnapshot.HEADER_SIZE);
+
+        // then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(filePath))
+                .withMessageContaining("is not a binary InMemoryEmbeddingStore file");
+    }
+
+    private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore(int size) {
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        for (int i = 0; i < size; i++) {
+            store.add("id-" + i, randomEmbedding(), TextSegment.from("segment " + i, new Metadata().put("index", i)));
+        }
+        return store;
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
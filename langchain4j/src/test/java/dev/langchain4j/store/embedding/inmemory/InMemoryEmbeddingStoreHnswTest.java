@@ -0,0 +1,205 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreHnswTest {
+
+    private static final int DIMENSION = 32;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_find_nearly_the_same_matches_as_exact_search() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnsw = hnswStore();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i));
+        }
+        exact.addAll(ids, embeddings, segments);
+        hnsw.addAll(ids, embeddings, segments);
+
+        // when
+        int hits = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding())
+                    .maxResults(10)
+                    .build();
+            Set<String> expected = ids(exact.search(request).matches());
+            Set<String> actual = ids(hnsw.search(request).matches());
+            actual.retainAll(expected);
+            hits += actual.size();
+        }
+
+        // then
+        double recall = hits / (queries * 10.0);
+        assertThat(recall).isGreaterThan(0.9);
+        assertThat(hnsw.size()).isEqualTo(2_000);
+    }
+
+    @Test
+    void should_return_the_same_scores_as_exact_search() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnsw = hnswStore();
+        Embedding embedding = randomEmbedding();
+        exact.add("1", embedding);
+        hnsw.add("1", embedding);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .build();
+
+        // when
+        EmbeddingMatch<TextSegment> exactMatch = exact.search(request).matches().get(0);
+        EmbeddingMatch<TextSegment> hnswMatch = hnsw.search(request).matches().get(0);
+
+        // then
+        assertThat(hnswMatch.score()).isEqualTo(exactMatch.score());
+        assertThat(hnswMatch.embeddingId()).isEqualTo("1");
+    }
+
+    @Test
+    void should_not_return_removed_entries() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = hnswStore();
+        List<String> ids = store.addAll(
+                IntStream.range(0, 500).mapToObj(i -> randomEmbedding()).toList());
+        List<String> removed = ids.subList(0, 100);
+
+        // when
+        store.removeAll(removed);
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .maxResults(500)
+                .build();
+        Set<String> found = ids(store.search(request).matches());
+        assertThat(found).doesNotContainAnyElementsOf(removed);
+        assertThat(store.size()).isEqualTo(400);
+    }
+
+    @Test
+    void should_stay_searchable_after_most_entries_are_removed() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = hnswStore();
+        List<String> ids = store.addAll(
+                IntStream.range(0, 500).mapToObj(i -> randomEmbedding()).toList());
+
+        // when
+        store.removeAll(ids.subList(0, 450));
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .maxResults(50)
+                .build();
+        assertThat(ids(store.search(request).matches())).containsExactlyInAnyOrderElementsOf(ids.subList(450, 500));
+    }
+
+    @Test
+    void should_apply_filter() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = hnswStore();
+        for (int i = 0; i < 300; i++) {
+            TextSegment segment =
+                    TextSegment.from("segment " + i, Metadata.from("parity", i % 2 == 0 ? "even" : "odd"));
+            store.add("id-" + i, randomEmbedding(), segment);
+        }
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(metadataKey("parity").isEqualTo("even"))
+                .maxResults(20)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+
+        // then
+        assertThat(matches).hasSize(20);
+        assertThat(matches).allMatch(match -> match.embedded().metadata().getString("parity").equals("even"));
+        assertThat(matches).isSortedAccordingTo((a, b) -> Double.compare(b.score(), a.score()));
+    }
+
+    @Test
+    void should_serialize_to_json() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = hnswStore();
+        store.add("1", randomEmbedding(), TextSegment.from("first"));
+        store.add("2", randomEmbedding(), TextSegment.from("second"));
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(store.serializeToJson());
+
+        // then
+        assertThat(deserialized.size()).isEqualTo(2);
+        assertThat(deserialized.entries).extracting(entry -> entry.id).containsExactly("1", "2");
+    }
+
+    @Test
+    void should_remove_all() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = hnswStore();
+        store.add(randomEmbedding());
+
+        // when
+        store.removeAll();
+
+        // then
+        assertThat(store.isEmpty()).isTrue();
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .build();
+        assertThat(store.search(request).matches()).isEmpty();
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> hnswStore() {
+        return InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnsw(HnswConfig.builder().m(16).efConstruction(100).efSearch(64).build())
+                .build();
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private static Set<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        Set<String> ids = new HashSet<>();
+        matches.forEach(match -> ids.add(match.embeddingId()));
+        return ids;
+    }
+}
@@ -0,0 +1,168 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class InMemoryEmbeddingStoreMetadataIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    private final Random random = new Random(42);
+
+    static Stream<Filter> filters() {
+        return Stream.of(
+                metadataKey("color").isEqualTo("red"),
+                metadataKey("size").isIn(1, 2L),
+                metadataKey("size").isEqualTo(2.0),
+                metadataKey("color").isIn("red", "blue").and(metadataKey("size").isEqualTo(3)),
+                metadataKey("color").isEqualTo("red").or(metadataKey("size").isEqualTo(4)),
+                metadataKey("color").isEqualTo("red").and(metadataKey("size").isGreaterThan(5)),
+                metadataKey("color").isEqualTo("red").and(metadataKey("notIndexed").isEqualTo("x")),
+                Filter.not(metadataKey("color").isEqualTo("red")),
+                metadataKey("mixed").isEqualTo(1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void should_return_the_same_matches_as_without_index(Filter filter) {
+        should_return_the_same_matches_as_without_index(filter, 1_000, builder -> builder.offHeap(true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void should_return_the_same_matches_as_without_index_in_default_mode(Filter filter) {
+        should_return_the_same_matches_as_without_index(filter, 1_000, builder -> builder);
+    }
+
+    @Test
+    void should_return_the_same_matches_as_without_index_in_default_mode_with_parallel_search() {
+        // enough candidates to split the scan into partitions
+        should_return_the_same_matches_as_without_index(
+                metadataKey("color").isIn("red", "green"),
+                20_000,
+                builder -> builder.searchExecutor(Runnable::run).searchParallelism(4));
+    }
+
+    private void should_return_the_same_matches_as_without_index(
+            Filter filter, int size, UnaryOperator<InMemoryEmbeddingStore.Builder<TextSegment>> mode) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> withoutIndex = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> withIndex = mode.apply(InMemoryEmbeddingStore.<TextSegment>builder()
+                        .indexedMetadataKeys("color", "size", "mixed"))
+                .build();
+
+        String[] colors = {"red", "green", "blue"};
+        for (int i = 0; i < size; i++) {
+            Metadata metadata = new Metadata()
+                    .put("color", colors[i % 3])
+                    .put("size", i % 10)
+                    .put("notIndexed", i % 2 == 0 ? "x" : "y");
+            if (i % 5 == 0) {
+                metadata.put("mixed", 1);
+            } else if (i % 7 == 0) {
+                metadata.put("mixed", 1.5);
+            }
+            TextSegment segment = i % 13 == 0 ? null : TextSegment.from("segment " + i, metadata);
+            Embedding embedding = randomEmbedding();
+            withoutIndex.add("id-" + i, embedding, segment);
+            withIndex.add("id-" + i, embedding, segment);
+        }
+        withoutIndex.removeAll(List.of("id-1", "id-2", "id-3"));
+        withIndex.removeAll(List.of("id-1", "id-2", "id-3"));
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(filter)
+                .maxResults(50)
+                .build();
+
+        // then
+        assertThat(withIndex.search(request).matches())
+                .isNotEmpty()
+                .isEqualTo(withoutIndex.search(request).matches());
+    }
+
+    @Test
+    void should_fail_on_type_mismatch_like_without_index() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .quantization(QuantizationConfig.builder().type(Quantization.INT8).build())
+                .indexedMetadataKeys("key")
+                .build();
+        store.add(randomEmbedding(), TextSegment.from("text", new Metadata().put("key", 1)));
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(metadataKey("key").isEqualTo("1"))
+                .build();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> store.search(request))
+                .withMessageStartingWith("Type mismatch");
+    }
+
+    @Test
+    void should_keep_index_consistent_after_removals_in_default_mode() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .indexedMetadataKeys("key")
+                .build();
+        store.add("a", randomEmbedding(), TextSegment.from("a", new Metadata().put("key", "x")));
+        store.add("b", randomEmbedding(), TextSegment.from("b", new Metadata().put("key", "y")));
+        store.add("c", randomEmbedding(), TextSegment.from("c", new Metadata().put("key", "x")));
+
+        // when
+        store.remove("a");
+        store.addAll(
+                List.of("d"),
+                List.of(randomEmbedding()),
+                List.of(TextSegment.from("d", new Metadata().put("key", "y"))));
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(metadataKey("key").isEqualTo("y"))
+                .build();
+        assertThat(store.search(request).matches())
+                .extracting(match -> match.embeddingId())
+                .containsExactlyInAnyOrder("b", "d");
+
+        store.removeAll();
+        assertThat(store.search(request).matches()).isEmpty();
+    }
+
+    @Test
+    void should_not_combine_with_hnsw() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.<TextSegment>builder()
+                        .hnsw(HnswConfig.builder().build())
+                        .indexedMetadataKeys("key")
+                        .build())
+                .withMessage("indexedMetadataKeys cannot be combined with hnsw");
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,134 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreOffHeapTest {
+
+    private static final int DIMENSION = 384;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_return_the_same_matches_as_default_mode() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> onHeap = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> offHeap = offHeapStore();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        // more than one chunk of PackedVectors
+        for (int i = 0; i < 5_000; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("parity", i % 2)));
+        }
+        onHeap.addAll(ids, embeddings, segments);
+        offHeap.addAll(ids, embeddings, segments);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(metadataKey("parity").isEqualTo(1))
+                .maxResults(25)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> expected = onHeap.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = offHeap.search(request).matches();
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(offHeap.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void should_compact_on_removal_and_keep_insertion_order() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = offHeapStore();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Embedding embedding = randomEmbedding();
+            embeddings.add(embedding);
+            store.add("id-" + i, embedding, TextSegment.from("segment " + i, new Metadata().put("index", i)));
+        }
+
+        // when
+        store.removeAll(List.of("id-0", "id-5"));
+        store.removeAll(metadataKey("index").isGreaterThan(7));
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(store.serializeToJson());
+        assertThat(deserialized.entries)
+                .extracting(entry -> entry.id)
+                .containsExactly("id-1", "id-2", "id-3", "id-4", "id-6", "id-7");
+        assertThat(deserialized.entries.get(4).embedding).isEqualTo(embeddings.get(6));
+        assertThat(store.size()).isEqualTo(6);
+    }
+
+    @Test
+    void should_accept_new_dimension_after_all_entries_are_removed() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = offHeapStore();
+        store.add("1", Embedding.from(new float[] {1, 2, 3}));
+        store.removeAll();
+
+        // when
+        store.add("2", Embedding.from(new float[] {1, 2}));
+
+        // then
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {1, 2}))
+                .build();
+        assertThat(store.search(request).matches()).extracting(EmbeddingMatch::embeddingId).containsExactly("2");
+    }
+
+    @Test
+    void should_reject_embeddings_of_different_dimension() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = offHeapStore();
+        store.add(Embedding.from(new float[] {1, 2, 3}));
+
+        // then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> store.add(Embedding.from(new float[] {1, 2})))
+                .withMessage("Length of vector a (2) must be equal to the length of vector b (3)");
+    }
+
+    @Test
+    void should_not_combine_with_hnsw() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.<TextSegment>builder()
+                        .offHeap(true)
+                        .hnsw(HnswConfig.builder().build())
+                        .build())
+                .withMessage("hnsw and offHeap cannot be enabled at the same time");
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> offHeapStore() {
+        return InMemoryEmbeddingStore.<TextSegment>builder().offHeap(true).build();
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,122 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingStoreParallelSearchTest {
+
+    private static final int DIMENSION = 64;
+    private static final int SIZE = 10 * TopKScan.MIN_PARTITION_SIZE;
+
+    private final Random random = new Random(42);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger tasks = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void should_return_the_same_matches_as_sequential_search_in_default_mode() {
+        should_return_the_same_matches_as_sequential_search(builder -> builder);
+    }
+
+    @Test
+    void should_return_the_same_matches_as_sequential_search_in_off_heap_mode() {
+        should_return_the_same_matches_as_sequential_search(builder -> builder.offHeap(true));
+    }
+
+    @Test
+    void should_return_the_same_matches_as_sequential_search_with_quantization() {
+        QuantizationConfig quantization =
+                QuantizationConfig.builder().type(Quantization.INT8).build();
+        should_return_the_same_matches_as_sequential_search(builder -> builder.quantization(quantization));
+    }
+
+    private void should_return_the_same_matches_as_sequential_search(
+            UnaryOperator<InMemoryEmbeddingStore.Builder<TextSegment>> mode) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> sequential =
+                mode.apply(InMemoryEmbeddingStore.builder()).build();
+        InMemoryEmbeddingStore<TextSegment> parallel = mode.apply(InMemoryEmbeddingStore.<TextSegment>builder()
+                        .searchExecutor(task -> {
+                            tasks.incrementAndGet();
+                            executor.execute(task);
+                        })
+                        .searchParallelism(4))
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("parity", i % 2)));
+        }
+        sequential.addAll(ids, embeddings, segments);
+        parallel.addAll(ids, embeddings, segments);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .filter(metadataKey("parity").isEqualTo(0))
+                .maxResults(50)
+                .minScore(0.55)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> expected = sequential.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = parallel.search(request).matches();
+
+        // then
+        assertThat(actual).isNotEmpty().isEqualTo(expected);
+        assertThat(tasks).hasValue(4);
+    }
+
+    @Test
+    void should_search_small_stores_on_the_calling_thread() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.<TextSegment>builder()
+                .searchExecutor(task -> {
+                    tasks.incrementAndGet();
+                    executor.execute(task);
+                })
+                .build();
+        store.add(randomEmbedding());
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding())
+                .build();
+
+        // then
+        assertThat(store.search(request).matches()).hasSize(1);
+        assertThat(tasks).hasValue(0);
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
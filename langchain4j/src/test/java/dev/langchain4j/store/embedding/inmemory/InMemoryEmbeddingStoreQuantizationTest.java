@@ -0,0 +1,194 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.data.Offset.offset;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class InMemoryEmbeddingStoreQuantizationTest {
+
+    private static final int DIMENSION = 384;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_find_nearly_the_same_matches_as_exact_search_with_int8_quantization() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> quantized = store(Quantization.INT8, false);
+
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Embedding embedding = randomEmbedding();
+            embeddings.add(embedding);
+            exact.add("id-" + i, embedding);
+            quantized.add("id-" + i, embedding);
+        }
+
+        // when
+        int hits = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(nearby(embeddings.get(random.nextInt(embeddings.size()))))
+                    .maxResults(10)
+                    .build();
+            Set<String> expected = ids(exact.search(request).matches());
+            Set<String> actual = ids(quantized.search(request).matches());
+            actual.retainAll(expected);
+            hits += actual.size();
+        }
+
+        // then
+        assertThat(hits / (queries * 10.0)).isGreaterThan(0.9);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Quantization.class)
+    void should_return_exact_scores_when_rescoring(Quantization quantization) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> exact = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> quantized = store(quantization, true);
+
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Embedding embedding = randomEmbedding();
+            embeddings.add(embedding);
+            exact.add("id-" + i, embedding);
+            quantized.add("id-" + i, embedding);
+        }
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(nearby(embeddings.get(123)))
+                .maxResults(1)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = quantized.search(request).matches();
+
+        // then
+        assertThat(matches).isEqualTo(exact.search(request).matches());
+        assertThat(matches.get(0).embeddingId()).isEqualTo("id-123");
+        assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(123));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Quantization.class)
+    void should_apply_min_score_and_filter(Quantization quantization) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = store(quantization, true);
+        Embedding embedding = randomEmbedding();
+        store.add("1", embedding, TextSegment.from("first", new Metadata().put("key", "a")));
+        store.add("2", nearby(embedding), TextSegment.from("second", new Metadata().put("key", "b")));
+        store.add("3", randomEmbedding(), TextSegment.from("third", new Metadata().put("key", "a")));
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .filter(metadataKey("key").isEqualTo("a"))
+                .minScore(0.8)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+
+        // then
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("1");
+        assertThat(matches.get(0).score()).isEqualTo(1.0, offset(1e-6));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Quantization.class)
+    void should_reconstruct_embeddings_when_not_rescoring(Quantization quantization) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = store(quantization, false);
+        Embedding embedding = randomEmbedding();
+        store.add("1", embedding);
+        store.add("2", randomEmbedding());
+        store.removeAll(List.of("2"));
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(store.serializeToJson());
+
+        // then
+        Embedding reconstructed = deserialized.entries.get(0).embedding;
+        assertThat(reconstructed.dimension()).isEqualTo(DIMENSION);
+        assertThat(CosineSimilarity.between(reconstructed, embedding))
+                .isGreaterThan(quantization == Quantization.INT8 ? 0.99 : 0.7);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_combine_with_other_modes() {
+        QuantizationConfig quantization =
+                QuantizationConfig.builder().type(Quantization.INT8).build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.<TextSegment>builder()
+                        .quantization(quantization)
+                        .offHeap(true)
+                        .build())
+                .withMessage("quantization cannot be combined with hnsw or offHeap");
+    }
+
+    @Test
+    void should_use_type_specific_oversampling_defaults() {
+        assertThat(QuantizationConfig.builder().type(Quantization.INT8).build().rescore())
+                .isFalse();
+        assertThat(QuantizationConfig.builder().type(Quantization.INT8).build().oversampling())
+                .isEqualTo(3);
+        assertThat(QuantizationConfig.builder().type(Quantization.BINARY).build().oversampling())
+                .isEqualTo(10);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> QuantizationConfig.builder().build())
+                .withMessage("type cannot be null");
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> store(Quantization quantization, boolean rescore) {
+        return InMemoryEmbeddingStore.<TextSegment>builder()
+                .quantization(QuantizationConfig.builder()
+                        .type(quantization)
+                        .rescore(rescore)
+                        .build())
+                .build();
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private Embedding nearby(Embedding embedding) {
+        float[] vector = embedding.vector().clone();
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] += (float) random.nextGaussian() * 0.5f;
+        }
+        return Embedding.from(vector);
+    }
+
+    private static Set<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        Set<String> ids = new HashSet<>();
+        matches.forEach(match -> ids.add(match.embeddingId()));
+        return ids;
+    }
+}